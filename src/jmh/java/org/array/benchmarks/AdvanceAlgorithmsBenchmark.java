@@ -0,0 +1,163 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link AdvanceAlgorithms}.
+ *
+ * twoSumBruteForce is O(n^2) and uses {@link QuadraticInput} (1e3 → 1e5);
+ * everything else runs across the full 1e3 → 1e8 range.
+ *
+ * Compare the allocating and in-place versions with the GC profiler:
+ *   java -jar target/benchmarks.jar "AdvanceAlgorithmsBenchmark.(rearrangePosNeg|rotateRight)" -prof gc
+ * gc.alloc.rate.norm should be ~0 B/op for the in-place versions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AdvanceAlgorithmsBenchmark {
+
+    /** Window size used by maxSumSlidingWindow. */
+    private static final int WINDOW = 100;
+
+    @State(Scope.Benchmark)
+    public static class LinearInput {
+        @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+        public int size;
+
+        @Param
+        public ArrayData.Distribution distribution;
+
+        int[] source;
+        int[] work;
+
+        @Setup
+        public void setup() {
+            source = ArrayData.generate(distribution, size);
+            work = source.clone();
+        }
+
+        // rearrangePosNeg changes the shape of its input, so each call starts from the original
+        int[] fresh() {
+            System.arraycopy(source, 0, work, 0, source.length);
+            return work;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class QuadraticInput {
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        @Param
+        public ArrayData.Distribution distribution;
+
+        int[] data;
+        final ResultHolder holder = new ResultHolder();
+        private PrintStream originalOut;
+
+        @Setup
+        public void setup() {
+            data = ArrayData.generate(distribution, size);
+            originalOut = System.out;
+            System.setOut(ArrayData.nullPrintStream());
+        }
+
+        @TearDown
+        public void tearDown() {
+            System.setOut(originalOut);
+        }
+    }
+
+    @Benchmark
+    public int[] rearrangePosNeg(LinearInput in) {
+        int[] arr = in.fresh();
+        AdvanceAlgorithms.rearrangePosNeg(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] rearrangePosNegInPlace(LinearInput in) {
+        int[] arr = in.fresh();
+        AdvanceAlgorithms.rearrangePosNegInPlace(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int secondLargest(LinearInput in) {
+        return AdvanceAlgorithms.secondLargest(in.source);
+    }
+
+    @Benchmark
+    public int secondSmallest(LinearInput in) {
+        return AdvanceAlgorithms.secondSmallest(in.source);
+    }
+
+    @Benchmark
+    public void twoSumBruteForce(QuadraticInput in) {
+        AdvanceAlgorithms.twoSumBruteForce(in.data, 0);
+    }
+
+    @Benchmark
+    public long twoSumBruteForceToSink(QuadraticInput in) {
+        AdvanceAlgorithms.twoSumBruteForce(in.data, 0, in.holder.reset());
+        return in.holder.count();
+    }
+
+    @Benchmark
+    public int maxSumSlidingWindow(LinearInput in) {
+        return AdvanceAlgorithms.maxSumSlidingWindow(in.source, WINDOW);
+    }
+
+    @Benchmark
+    public int[] prefixSum(LinearInput in) {
+        return AdvanceAlgorithms.prefixSum(in.source);
+    }
+
+    @Benchmark
+    public int kadaneMaxSubArraySum(LinearInput in) {
+        return AdvanceAlgorithms.kadaneMaxSubArraySum(in.source);
+    }
+
+    @Benchmark
+    public int[] rotateRight(LinearInput in) {
+        AdvanceAlgorithms.rotateRight(in.work, in.size / 3);
+        return in.work;
+    }
+
+    @Benchmark
+    public int[] rotateRightInPlace(LinearInput in) {
+        AdvanceAlgorithms.rotateRightInPlace(in.work, in.size / 3);
+        return in.work;
+    }
+
+    @Benchmark
+    public int[] reverse(LinearInput in) {
+        AdvanceAlgorithms.reverse(in.work, 0, in.size - 1);
+        return in.work;
+    }
+
+    @Benchmark
+    public int[] rotateLeftInPlace(LinearInput in) {
+        AdvanceAlgorithms.rotateLeftInPlace(in.work, in.size / 3);
+        return in.work;
+    }
+}
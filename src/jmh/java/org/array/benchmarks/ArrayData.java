@@ -0,0 +1,152 @@
+package org.array.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Input generators shared by all benchmarks.
+ *
+ * Every generator is seeded, so two runs (or two releases) measure exactly the same data.
+ */
+public final class ArrayData {
+
+    /** Fixed seed → reproducible inputs between runs. */
+    private static final long SEED = 0x5EEDL;
+
+    /**
+     * Shape of the generated input.
+     *
+     * RANDOM      → uniform values in [-n, n).
+     * SORTED      → RANDOM sorted ascending.
+     * REVERSED    → RANDOM sorted descending.
+     * FEW_UNIQUE  → only 8 distinct values.
+     * ADVERSARIAL → "organ pipe" (ascending then descending), a classic worst case
+     *               for pivot choice and for early-exit searches.
+     */
+    public enum Distribution {
+        RANDOM, SORTED, REVERSED, FEW_UNIQUE, ADVERSARIAL
+    }
+
+    private ArrayData() {
+    }
+
+    /**
+     * Generates an array of the given size and distribution.
+     *
+     * @param distribution shape of the data
+     * @param n            number of elements
+     * @return a new array
+     */
+    public static int[] generate(Distribution distribution, int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int bound = Math.max(n, 1);
+        int[] arr = new int[n];
+        switch (distribution) {
+            case RANDOM:
+                fillRandom(arr, random, bound);
+                break;
+            case SORTED:
+                fillRandom(arr, random, bound);
+                Arrays.sort(arr);
+                break;
+            case REVERSED:
+                fillRandom(arr, random, bound);
+                Arrays.sort(arr);
+                reverse(arr);
+                break;
+            case FEW_UNIQUE:
+                for (int i = 0; i < n; i++) {
+                    arr[i] = random.nextInt(8) - 4;
+                }
+                break;
+            case ADVERSARIAL:
+                fillRandom(arr, random, bound);
+                Arrays.sort(arr);
+                organPipe(arr);
+                break;
+        }
+        return arr;
+    }
+
+    /**
+     * Generates an array with the given distribution, mapped into [0, buckets).
+     * Used for algorithms with a restricted alphabet such as sort012.
+     *
+     * @param distribution shape of the data
+     * @param n            number of elements
+     * @param buckets      number of distinct values allowed
+     * @return a new array
+     */
+    public static int[] generateBounded(Distribution distribution, int n, int buckets) {
+        int[] arr = generate(distribution, n);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        // Map by rank so SORTED/REVERSED keep their shape after bucketing
+        long span = (long) sorted[n - 1] - sorted[0] + 1;
+        for (int i = 0; i < n; i++) {
+            arr[i] = (int) (((long) arr[i] - sorted[0]) * buckets / span);
+        }
+        return arr;
+    }
+
+    /**
+     * Generates a shuffled permutation of [0, n): every value appears exactly once.
+     *
+     * @param n number of elements
+     * @return a new array
+     */
+    public static int[] permutation(int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = i;
+        }
+        // Fisher-Yates shuffle
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        return arr;
+    }
+
+    /**
+     * Returns a PrintStream that discards everything.
+     * Algorithms that print their answer are benchmarked with System.out pointing here,
+     * so we measure the algorithm and not the terminal.
+     *
+     * @return a silent print stream
+     */
+    public static PrintStream nullPrintStream() {
+        return new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    private static void fillRandom(int[] arr, SplittableRandom random, int bound) {
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(-bound, bound);
+        }
+    }
+
+    private static void reverse(int[] arr) {
+        for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+    }
+
+    // Sorted input → even ranks ascending on the left, odd ranks descending on the right
+    private static void organPipe(int[] sorted) {
+        int n = sorted.length;
+        int[] pipe = new int[n];
+        int left = 0, right = n - 1;
+        for (int i = 0; i < n; i++) {
+            if ((i & 1) == 0) pipe[left++] = sorted[i];
+            else pipe[right--] = sorted[i];
+        }
+        System.arraycopy(pipe, 0, sorted, 0, n);
+    }
+}
@@ -0,0 +1,90 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.ArrayStatistics;
+import org.array.algorithms.ArrayStatistics.Aggregate;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One fused pass of {@link ArrayStatistics} against one pass per statistic.
+ *
+ * Baseline: sumArray, averageArray (sums again), findMinMax, secondLargest, secondSmallest,
+ * majorityElement and kadaneMaxSubArraySum called one after the other, as in Main.
+ * Contenders: every aggregate fused, only the cheap ones (sum, min, max), and the parallel version.
+ * The gap grows once the array no longer fits in cache (from about 1e6 values).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ArrayStatisticsBenchmark {
+
+    private static final Aggregate[] ALL = Aggregate.values();
+    private static final Aggregate[] CHEAP = {Aggregate.SUM, Aggregate.MIN, Aggregate.MAX};
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private final ResultHolder holder = new ResultHolder();
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+    }
+
+    @Benchmark
+    public void separatePassesBaseline(Blackhole bh) {
+        bh.consume(BasicArrayAlgorithms.sumArray(data));
+        bh.consume(BasicArrayAlgorithms.averageArray(data));
+        BasicArrayAlgorithms.findMinMax(data, holder.reset());
+        bh.consume(holder);
+        bh.consume(AdvanceAlgorithms.secondLargest(data));
+        bh.consume(AdvanceAlgorithms.secondSmallest(data));
+        bh.consume(CompetitiveAlgorithms.majorityElement(data));
+        bh.consume(AdvanceAlgorithms.kadaneMaxSubArraySum(data));
+    }
+
+    @Benchmark
+    public ArrayStatistics fusedAll() {
+        return ArrayStatistics.compute(data, ALL);
+    }
+
+    @Benchmark
+    public void separateCheapBaseline(Blackhole bh) {
+        bh.consume(BasicArrayAlgorithms.sumArray(data));
+        BasicArrayAlgorithms.findMinMax(data, holder.reset());
+        bh.consume(holder);
+    }
+
+    @Benchmark
+    public ArrayStatistics fusedCheap() {
+        return ArrayStatistics.compute(data, CHEAP);
+    }
+
+    @Benchmark
+    public ArrayStatistics parallelFusedAll() {
+        return ArrayStatistics.parallelCompute(data, ALL);
+    }
+}
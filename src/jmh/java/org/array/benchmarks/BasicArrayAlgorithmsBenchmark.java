@@ -0,0 +1,95 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link BasicArrayAlgorithms}.
+ *
+ * All methods here are O(n), so they run across the full 1e3 → 1e8 size range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BasicArrayAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private final ResultHolder holder = new ResultHolder();
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        originalOut = System.out;
+        System.setOut(ArrayData.nullPrintStream());
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    // Console versions: formatting + buffered System.out adapter (System.out itself discards the text)
+    @Benchmark
+    public void printArray() {
+        BasicArrayAlgorithms.printArray(data);
+    }
+
+    @Benchmark
+    public long printArrayToSink() {
+        BasicArrayAlgorithms.printArray(data, holder.reset());
+        return holder.count();
+    }
+
+    @Benchmark
+    public int sumArray() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public void findMinMax() {
+        BasicArrayAlgorithms.findMinMax(data);
+    }
+
+    @Benchmark
+    public int findMinMaxToSink() {
+        BasicArrayAlgorithms.findMinMax(data, holder.reset());
+        return holder.first() ^ holder.second();
+    }
+
+    @Benchmark
+    public double averageArray() {
+        return BasicArrayAlgorithms.averageArray(data);
+    }
+
+    // Reversal is its own inverse, so the data alternates between two valid inputs of the same shape
+    @Benchmark
+    public int[] reverseArray() {
+        BasicArrayAlgorithms.reverseArray(data);
+        return data;
+    }
+}
@@ -0,0 +1,37 @@
+package org.array.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar.
+ *
+ * Accepts every normal JMH command-line option, but writes results as JSON
+ * (jmh-result.json) unless -rf / -rff say otherwise, so runs from different
+ * releases can be diffed for regressions.
+ *
+ * Examples:
+ *   java -jar target/benchmarks.jar                          → everything
+ *   java -jar target/benchmarks.jar Basic -p size=1000000    → one class, one size
+ *   java -jar target/benchmarks.jar -rff release-1.1.json    → custom result file
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse("jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,141 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.ChunkedIntFile;
+import org.array.algorithms.IntSourceAlgorithms;
+import org.array.algorithms.MappedIntFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link ChunkedIntFile} (compressed chunks with min/max/sum statistics),
+ * with a raw {@link MappedIntFile} of the same values as the baseline.
+ *
+ * Both files are written once per trial and stay in the page cache, so this measures
+ * decoding and chunk skipping, not disk I/O.
+ *
+ * - load:          whole file into an int[] (raw copy vs decode)
+ * - sum:           scan vs chunk statistics
+ * - searchLast:    linear search for the last value (found at the end of the scan)
+ * - searchMissing: linear search for a value outside the data range (no chunk qualifies)
+ * - rangeSum:      sum of the middle half (scan vs statistics + two decoded chunks)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ChunkedIntFileBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE"})
+    public ArrayData.Distribution distribution;
+
+    private Path rawPath;
+    private Path chunkedPath;
+    private MappedIntFile raw;
+    private ChunkedIntFile chunked;
+    private int lastValue;
+    private int missingValue;
+    private int[] block;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        int[] data = ArrayData.generate(distribution, size);
+        lastValue = data[size - 1];
+        missingValue = size;    // generated values are in [-size, size)
+        rawPath = Files.createTempFile("ints", ".bin");
+        chunkedPath = Files.createTempFile("ints", ".chunked");
+        MappedIntFile.write(rawPath, data);
+        ChunkedIntFile.write(chunkedPath, data);
+        raw = MappedIntFile.open(rawPath);
+        chunked = ChunkedIntFile.open(chunkedPath);
+        block = new int[4096];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        raw.close();
+        chunked.close();
+        Files.deleteIfExists(rawPath);
+        Files.deleteIfExists(chunkedPath);
+    }
+
+    @Benchmark
+    public int[] rawLoad() {
+        int[] out = new int[size];
+        raw.read(0, out, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public int[] chunkedLoad() {
+        return chunked.toArray();
+    }
+
+    @Benchmark
+    public long rawSum() {
+        return IntSourceAlgorithms.sumArrayLong(raw);
+    }
+
+    @Benchmark
+    public long chunkedSum() {
+        return chunked.sum();
+    }
+
+    @Benchmark
+    public long rawSearchLast() {
+        return IntSourceAlgorithms.linearSearch(raw, lastValue);
+    }
+
+    @Benchmark
+    public long chunkedSearchLast() {
+        return chunked.linearSearch(lastValue);
+    }
+
+    @Benchmark
+    public long rawSearchMissing() {
+        return IntSourceAlgorithms.linearSearch(raw, missingValue);
+    }
+
+    @Benchmark
+    public long chunkedSearchMissing() {
+        return chunked.linearSearch(missingValue);
+    }
+
+    @Benchmark
+    public long rawRangeSum() {
+        long sum = 0;
+        for (long from = size / 4, to = size - size / 4; from < to; from += block.length) {
+            int len = (int) Math.min(block.length, to - from);
+            raw.read(from, block, 0, len);
+            for (int i = 0; i < len; i++) {
+                sum += block[i];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long chunkedRangeSum() {
+        return chunked.rangeSum(size / 4, size - size / 4);
+    }
+}
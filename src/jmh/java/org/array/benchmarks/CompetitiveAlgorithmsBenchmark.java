@@ -0,0 +1,124 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link CompetitiveAlgorithms}.
+ *
+ * All methods are O(n); inputs are reshaped where the algorithm has a precondition
+ * (sorted input, only 0/1/2, non-negative values).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CompetitiveAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] sorted;
+    private int[] flag;
+    private int[] nonNegative;
+    private int[] mergeSource;
+    private int[] mergeOther;
+    private int[] work;
+    private final ResultHolder holder = new ResultHolder();
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        sorted = data.clone();
+        Arrays.sort(sorted);
+        flag = ArrayData.generateBounded(distribution, size, 3);
+        nonNegative = ArrayData.generateBounded(distribution, size, 100);
+
+        // Interleave the sorted data into two halves so the merge really alternates between them
+        int half = size / 2;
+        mergeSource = new int[size];
+        mergeOther = new int[size - half];
+        for (int i = 0, a = 0, b = 0; i < size; i++) {
+            if ((i & 1) == 0 && a < half) mergeSource[a++] = sorted[i];
+            else mergeOther[b++] = sorted[i];
+        }
+        work = new int[size];
+
+        originalOut = System.out;
+        System.setOut(ArrayData.nullPrintStream());
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    // Target above any pair sum → the pointers walk the whole array
+    @Benchmark
+    public void twoPointerSum() {
+        CompetitiveAlgorithms.twoPointerSum(sorted, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public boolean twoPointerSumToSink() {
+        return CompetitiveAlgorithms.twoPointerSum(sorted, Integer.MAX_VALUE, holder.reset());
+    }
+
+    @Benchmark
+    public int[] sort012() {
+        System.arraycopy(flag, 0, work, 0, size);
+        CompetitiveAlgorithms.sort012(work);
+        return work;
+    }
+
+    // Negative target → never found, the window slides across the whole array
+    @Benchmark
+    public void subarraySum() {
+        CompetitiveAlgorithms.subarraySum(nonNegative, -1);
+    }
+
+    @Benchmark
+    public boolean subarraySumToSink() {
+        return CompetitiveAlgorithms.subarraySum(nonNegative, -1, holder.reset());
+    }
+
+    @Benchmark
+    public int[] mergeSortedInPlace() {
+        System.arraycopy(mergeSource, 0, work, 0, size);
+        CompetitiveAlgorithms.mergeSortedInPlace(work, size / 2, mergeOther, mergeOther.length);
+        return work;
+    }
+
+    @Benchmark
+    public int findMissing() {
+        return CompetitiveAlgorithms.findMissing(data, size);
+    }
+
+    @Benchmark
+    public int majorityElement() {
+        return CompetitiveAlgorithms.majorityElement(data);
+    }
+}
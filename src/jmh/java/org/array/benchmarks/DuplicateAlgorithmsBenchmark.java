@@ -0,0 +1,71 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.DuplicateAlgorithms;
+import org.array.algorithms.DuplicateAlgorithms.DuplicateStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link DuplicateAlgorithms}.
+ *
+ * Inputs are all-distinct (a permutation of [0, n)), so every strategy has to look at
+ * every element; {@code FEW_UNIQUE} shows the early exit instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DuplicateAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "FEW_UNIQUE"})
+    public ArrayData.Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+
+    @Setup
+    public void setup() {
+        source = distribution == ArrayData.Distribution.FEW_UNIQUE
+                ? ArrayData.generate(distribution, size)
+                : ArrayData.permutation(size);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public boolean auto() {
+        return DuplicateAlgorithms.hasDuplicates(source);
+    }
+
+    @Benchmark
+    public int hash() {
+        return DuplicateAlgorithms.firstDuplicateIndex(source, DuplicateStrategy.HASH);
+    }
+
+    @Benchmark
+    public int bitmap() {
+        return DuplicateAlgorithms.firstDuplicateIndex(source, DuplicateStrategy.BITMAP);
+    }
+
+    // Includes the O(n) copy, since this strategy reorders its input
+    @Benchmark
+    public boolean sortInPlace() {
+        System.arraycopy(source, 0, work, 0, size);
+        return DuplicateAlgorithms.hasDuplicates(work, DuplicateStrategy.SORT_IN_PLACE);
+    }
+}
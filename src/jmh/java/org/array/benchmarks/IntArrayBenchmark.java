@@ -0,0 +1,102 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.IntArray;
+import org.array.algorithms.IntArrayAlgorithms;
+import org.array.algorithms.IntSourceAlgorithms;
+import org.array.algorithms.PrefixSumAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the off-heap {@link IntArray} ({@link IntArrayAlgorithms}, {@link IntSourceAlgorithms}),
+ * with the on-heap int[] versions as the baseline.
+ *
+ * Reversal and rotation are their own inverse over repeated calls (or keep the data shape),
+ * so the arrays are not restored between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class IntArrayBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] intOut;
+    private IntArray offHeap;
+    private IntArray offHeapOut;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        intOut = new int[size];
+        offHeap = IntArray.copyOf(data);
+        offHeapOut = new IntArray(size);
+    }
+
+    @Benchmark
+    public int[] heapReverse() {
+        BasicArrayAlgorithms.reverseArray(data);
+        return data;
+    }
+
+    @Benchmark
+    public IntArray offHeapReverse() {
+        IntArrayAlgorithms.reverseArray(offHeap);
+        return offHeap;
+    }
+
+    @Benchmark
+    public int[] heapRotate() {
+        AdvanceAlgorithms.rotateRightInPlace(data, size / 3);
+        return data;
+    }
+
+    @Benchmark
+    public IntArray offHeapRotate() {
+        IntArrayAlgorithms.rotateRightInPlace(offHeap, size / 3);
+        return offHeap;
+    }
+
+    @Benchmark
+    public int[] heapPrefixSum() {
+        PrefixSumAlgorithms.prefixSum(data, intOut);
+        return intOut;
+    }
+
+    @Benchmark
+    public IntArray offHeapPrefixSum() {
+        IntArrayAlgorithms.prefixSum(offHeap, offHeapOut);
+        return offHeapOut;
+    }
+
+    @Benchmark
+    public int heapSum() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public long offHeapSum() {
+        return IntSourceAlgorithms.sumArrayLong(offHeap);
+    }
+}
@@ -0,0 +1,131 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link IntermediateArrayAlgorithms}.
+ *
+ * O(n) and O(log n) methods use {@link LinearInput} (1e3 → 1e8).
+ * The O(n^2) sorts and hasDuplicates use {@link QuadraticInput} (1e3 → 1e5),
+ * because at 1e8 elements they would not finish in any reasonable time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntermediateArrayAlgorithmsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LinearInput {
+        @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+        public int size;
+
+        @Param
+        public ArrayData.Distribution distribution;
+
+        int[] data;
+        int[] sorted;
+        int[] other;
+
+        @Setup
+        public void setup() {
+            data = ArrayData.generate(distribution, size);
+            sorted = data.clone();
+            Arrays.sort(sorted);
+            other = ArrayData.generate(distribution, size / 2);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class QuadraticInput {
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        @Param
+        public ArrayData.Distribution distribution;
+
+        int[] source;
+        int[] work;
+
+        @Setup
+        public void setup() {
+            source = ArrayData.generate(distribution, size);
+            work = new int[size];
+        }
+
+        // O(n) copy per call keeps the input shape; negligible next to the O(n^2) work
+        int[] fresh() {
+            System.arraycopy(source, 0, work, 0, source.length);
+            return work;
+        }
+    }
+
+    // Absent target → full scan, the worst case
+    @Benchmark
+    public int linearSearch(LinearInput in) {
+        return IntermediateArrayAlgorithms.linearSearch(in.data, Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public int binarySearch(LinearInput in) {
+        return IntermediateArrayAlgorithms.binarySearch(in.sorted, in.data[in.size / 2]);
+    }
+
+    @Benchmark
+    public int[] shiftRight(LinearInput in) {
+        IntermediateArrayAlgorithms.shiftRight(in.data);
+        return in.data;
+    }
+
+    @Benchmark
+    public int[] shiftLeft(LinearInput in) {
+        IntermediateArrayAlgorithms.shiftLeft(in.data);
+        return in.data;
+    }
+
+    @Benchmark
+    public int[] mergeArrays(LinearInput in) {
+        return IntermediateArrayAlgorithms.mergeArrays(in.data, in.other);
+    }
+
+    @Benchmark
+    public int[] bubbleSort(QuadraticInput in) {
+        int[] arr = in.fresh();
+        IntermediateArrayAlgorithms.bubbleSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] selectionSort(QuadraticInput in) {
+        int[] arr = in.fresh();
+        IntermediateArrayAlgorithms.selectionSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] insertionSort(QuadraticInput in) {
+        int[] arr = in.fresh();
+        IntermediateArrayAlgorithms.insertionSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public boolean hasDuplicates(QuadraticInput in) {
+        return IntermediateArrayAlgorithms.hasDuplicates(in.source);
+    }
+}
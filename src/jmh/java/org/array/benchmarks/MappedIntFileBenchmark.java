@@ -0,0 +1,84 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.IntSourceAlgorithms;
+import org.array.algorithms.MappedIntFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link IntSourceAlgorithms} over a {@link MappedIntFile},
+ * with the on-heap int[] versions as the baseline.
+ *
+ * The file is written once per trial and stays in the page cache, so this measures
+ * the cost of reading through the mapping, not disk I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MappedIntFileBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private Path path;
+    private MappedIntFile file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = ArrayData.generate(distribution, size);
+        path = Files.createTempFile("ints", ".bin");
+        MappedIntFile.write(path, data);
+        file = MappedIntFile.open(path);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        file.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public int heapSumArray() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public long mappedSumArray() {
+        return IntSourceAlgorithms.sumArrayLong(file);
+    }
+
+    @Benchmark
+    public int heapKadane() {
+        return AdvanceAlgorithms.kadaneMaxSubArraySum(data);
+    }
+
+    @Benchmark
+    public long mappedKadane() {
+        return IntSourceAlgorithms.kadaneMaxSubArraySum(file);
+    }
+}
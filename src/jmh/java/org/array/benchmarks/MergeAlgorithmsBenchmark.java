@@ -0,0 +1,92 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.array.algorithms.MergeAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merging sorted shards: the input is split into {@code shards} sorted runs of equal length.
+ *
+ * Baseline: concatenate the runs and sort again (what {@link IntermediateArrayAlgorithms#mergeArrays}
+ * plus Arrays.sort gives), and merging the runs pairwise, two at a time.
+ * Contenders: one loser-tree pass ({@link MergeAlgorithms#mergeK}); for two runs also the
+ * parallel co-rank merge.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MergeAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"2", "16", "256"})
+    public int shards;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[][] runs;
+    private int[] concatenated;
+
+    @Setup
+    public void setup() {
+        int[] data = ArrayData.generate(distribution, size);
+        runs = new int[shards][];
+        for (int s = 0; s < shards; s++) {
+            runs[s] = Arrays.copyOfRange(data, (int) ((long) size * s / shards), (int) ((long) size * (s + 1) / shards));
+            Arrays.sort(runs[s]);
+        }
+        concatenated = new int[size];
+    }
+
+    @Benchmark
+    public int[] concatenateAndSort() {
+        int position = 0;
+        for (int[] run : runs) {
+            System.arraycopy(run, 0, concatenated, position, run.length);
+            position += run.length;
+        }
+        Arrays.sort(concatenated);
+        return concatenated;
+    }
+
+    @Benchmark
+    public int[] pairwiseMerge() {
+        int[][] level = runs;
+        while (level.length > 1) {
+            int[][] next = new int[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = 2 * i + 1 < level.length ? MergeAlgorithms.merge(level[2 * i], level[2 * i + 1]) : level[2 * i];
+            }
+            level = next;
+        }
+        return level[0];
+    }
+
+    @Benchmark
+    public int[] loserTreeMerge() {
+        return MergeAlgorithms.mergeK(runs);
+    }
+
+    @Benchmark
+    public int[] parallelTwoWayMerge() {
+        return MergeAlgorithms.parallelMerge(runs[0], runs[runs.length - 1]);
+    }
+}
@@ -0,0 +1,83 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.array.algorithms.Metrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Metrics} instrumentation.
+ *
+ * Each operation runs twice: in a JVM with metrics off (the default, which should match the
+ * uninstrumented code) and in a JVM started with -Darray.algorithms.metrics=true.
+ * Small sizes show the fixed per-call cost (two nanoTime reads, counters, one histogram bucket).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] sorted;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        sorted = ArrayData.generate(ArrayData.Distribution.SORTED, size);
+    }
+
+    @Benchmark
+    public int sumArrayDisabled() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Darray.algorithms.metrics=true"})
+    public int sumArrayEnabled() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public int binarySearchDisabled() {
+        return IntermediateArrayAlgorithms.binarySearch(sorted, -1);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Darray.algorithms.metrics=true"})
+    public int binarySearchEnabled() {
+        return IntermediateArrayAlgorithms.binarySearch(sorted, -1);
+    }
+
+    @Benchmark
+    public int kadaneDisabled() {
+        return AdvanceAlgorithms.kadaneMaxSubArraySum(data);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-Darray.algorithms.metrics=true"})
+    public int kadaneEnabled() {
+        return AdvanceAlgorithms.kadaneMaxSubArraySum(data);
+    }
+}
@@ -0,0 +1,92 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.ParallelAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling curve of {@link ParallelAlgorithms}.
+ *
+ * Each benchmark runs inside a dedicated pool of {@code parallelism} workers
+ * (the tasks fork into the pool of the calling thread), so one run gives
+ * the speed-up for 1, 2, 4 ... cores. The sequential versions are the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ParallelAlgorithmsBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    @Param({"16384"})
+    public int threshold;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int sumArray() {
+        return pool.submit(() -> ParallelAlgorithms.sumArray(data, threshold)).join();
+    }
+
+    @Benchmark
+    public int[] findMinMax() {
+        return pool.submit(() -> ParallelAlgorithms.findMinMax(data, threshold)).join();
+    }
+
+    @Benchmark
+    public double averageArray() {
+        return pool.submit(() -> ParallelAlgorithms.averageArray(data, threshold)).join();
+    }
+
+    @Benchmark
+    public int majorityElement() {
+        return pool.submit(() -> ParallelAlgorithms.majorityElement(data, threshold)).join();
+    }
+
+    @Benchmark
+    public int sequentialSumArray() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public int sequentialMajorityElement() {
+        return CompetitiveAlgorithms.majorityElement(data);
+    }
+}
@@ -0,0 +1,76 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.IntBucketFunction;
+import org.array.algorithms.PartitionAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-way partitioning by value ranges into {@code buckets} equally wide buckets over [-n, n).
+ *
+ * Baseline: {@link AdvanceAlgorithms#rearrangePosNeg} (2 fixed buckets, for buckets = 2).
+ * Contenders: the sequential and the parallel counting scatter of {@link PartitionAlgorithms}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PartitionAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"2", "16", "256"})
+    public int buckets;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] work;
+    private IntBucketFunction key;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        work = new int[size];
+        int[] bounds = new int[buckets - 1];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = (int) (-(long) size + 2L * size * (i + 1) / buckets);
+        }
+        key = IntBucketFunction.ranges(bounds);
+    }
+
+    @Benchmark
+    public int[] rearrangePosNegBaseline() {
+        System.arraycopy(data, 0, work, 0, size);
+        AdvanceAlgorithms.rearrangePosNeg(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] sequentialPartition() {
+        System.arraycopy(data, 0, work, 0, size);
+        return PartitionAlgorithms.partition(work, buckets, key);
+    }
+
+    @Benchmark
+    public int[] parallelPartition() {
+        System.arraycopy(data, 0, work, 0, size);
+        return PartitionAlgorithms.parallelPartition(work, buckets, key);
+    }
+}
@@ -0,0 +1,75 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.PrefixSumAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link PrefixSumAlgorithms}, with {@link AdvanceAlgorithms#prefixSum} as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PrefixSumAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] intOut;
+    private long[] longOut;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        intOut = new int[size];
+        longOut = new long[size];
+    }
+
+    @Benchmark
+    public int[] allocatingPrefixSum() {
+        return AdvanceAlgorithms.prefixSum(data);
+    }
+
+    @Benchmark
+    public int[] bufferPrefixSum() {
+        PrefixSumAlgorithms.prefixSum(data, intOut);
+        return intOut;
+    }
+
+    @Benchmark
+    public long[] longPrefixSum() {
+        PrefixSumAlgorithms.prefixSum(data, longOut);
+        return longOut;
+    }
+
+    @Benchmark
+    public int[] parallelPrefixSum() {
+        PrefixSumAlgorithms.parallelPrefixSum(data, intOut);
+        return intOut;
+    }
+
+    @Benchmark
+    public long[] parallelLongPrefixSum() {
+        PrefixSumAlgorithms.parallelPrefixSum(data, longOut);
+        return longOut;
+    }
+}
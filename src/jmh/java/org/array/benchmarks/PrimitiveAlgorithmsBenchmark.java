@@ -0,0 +1,89 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.DoubleArrayAlgorithms;
+import org.array.algorithms.LongArrayAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the generated primitive specializations ({@link LongArrayAlgorithms},
+ * {@link DoubleArrayAlgorithms} ...), with the int[] versions as the baseline.
+ * The double sums show the cost of compensated summation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PrimitiveAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+
+    @Setup
+    public void setup() {
+        ints = ArrayData.generate(distribution, size);
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = ints[i];
+            doubles[i] = ints[i] / 1000.0;
+        }
+    }
+
+    @Benchmark
+    public int intSum() {
+        return BasicArrayAlgorithms.sumArray(ints);
+    }
+
+    @Benchmark
+    public long longSum() {
+        return LongArrayAlgorithms.sumArray(longs);
+    }
+
+    @Benchmark
+    public double doubleCompensatedSum() {
+        return DoubleArrayAlgorithms.sumArray(doubles);
+    }
+
+    @Benchmark
+    public int intKadane() {
+        return AdvanceAlgorithms.kadaneMaxSubArraySum(ints);
+    }
+
+    @Benchmark
+    public long longKadane() {
+        return LongArrayAlgorithms.kadaneMaxSubArraySum(longs);
+    }
+
+    @Benchmark
+    public double doubleKadane() {
+        return DoubleArrayAlgorithms.kadaneMaxSubArraySum(doubles);
+    }
+
+    @Benchmark
+    public double[] doublePrefixSum() {
+        return DoubleArrayAlgorithms.prefixSum(doubles);
+    }
+}
@@ -0,0 +1,98 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.ArraySnapshot;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.QueryExecutor;
+import org.array.algorithms.SelectionAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local load generator for {@link QueryExecutor}: 8 client threads send queries back to back
+ * against one shared dataset.
+ *
+ * Throughput mode gives queries per second; SampleTime mode gives the latency distribution
+ * (see p0.99 in the output) as seen by a client, queueing included.
+ *
+ * Baseline: what a service does without the executor, one new platform thread and one
+ * defensive copy of the whole array per request.
+ * Contender: the same operation submitted by name to a QueryExecutor with one worker per core.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(8)
+@State(Scope.Benchmark)
+public class QueryExecutorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"sumArray", "rotateLeftInPlace", "kthSmallest"})
+    public String operation;
+
+    private int[] data;
+    private ArraySnapshot snapshot;
+    private QueryExecutor executor;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(ArrayData.Distribution.RANDOM, size);
+        snapshot = ArraySnapshot.of(data);
+        executor = new QueryExecutor(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public Object threadPerRequestBaseline() throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread request = new Thread(() -> {
+            int[] copy = data.clone();
+            result[0] = runDirect(copy);
+        });
+        request.start();
+        request.join();
+        return result[0];
+    }
+
+    @Benchmark
+    public Object executor() {
+        return executor.submit(snapshot, operation, arguments()).join();
+    }
+
+    private Object runDirect(int[] copy) {
+        switch (operation) {
+            case "sumArray":
+                return BasicArrayAlgorithms.sumArray(copy);
+            case "rotateLeftInPlace":
+                AdvanceAlgorithms.rotateLeftInPlace(copy, size / 3);
+                return copy;
+            default:
+                return SelectionAlgorithms.select(copy, size / 2);
+        }
+    }
+
+    private int[] arguments() {
+        return operation.equals("sumArray") ? new int[0] : new int[]{operation.equals("kthSmallest") ? size / 2 : size / 3};
+    }
+}
@@ -0,0 +1,89 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.FenwickTree;
+import org.array.algorithms.PrefixSumAlgorithms;
+import org.array.algorithms.SegmentTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed read/write workload: one point update followed by one range query per call.
+ *
+ * Baseline: a static prefix sum array, recomputed after every update ({@link PrefixSumAlgorithms}).
+ * Contenders: {@link FenwickTree} and {@link SegmentTree}, which update in O(log n).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RangeQueryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private long[] prefix;
+    private FenwickTree fenwick;
+    private SegmentTree segmentTree;
+    private int step;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generateBounded(distribution, size, 1000);
+        prefix = new long[size];
+        PrefixSumAlgorithms.prefixSum(data, prefix);
+        fenwick = new FenwickTree(data);
+        segmentTree = new SegmentTree(data);
+    }
+
+    // Cheap pseudo-random position (golden-ratio sequence)
+    private int nextIndex() {
+        step += 0x9E3779B9;
+        return (int) ((step & 0xFFFFFFFFL) * size >>> 32);
+    }
+
+    @Benchmark
+    public long prefixArrayRecompute() {
+        int i = nextIndex(), j = nextIndex();
+        data[i] = j & 1023;
+        PrefixSumAlgorithms.prefixSum(data, prefix);
+        return PrefixSumAlgorithms.rangeSum(prefix, Math.min(i, j), Math.max(i, j));
+    }
+
+    @Benchmark
+    public long fenwickTree() {
+        int i = nextIndex(), j = nextIndex();
+        fenwick.set(i, j & 1023);
+        return fenwick.rangeSum(Math.min(i, j), Math.max(i, j));
+    }
+
+    @Benchmark
+    public long segmentTreeSum() {
+        int i = nextIndex(), j = nextIndex();
+        segmentTree.set(i, j & 1023);
+        return segmentTree.rangeSum(Math.min(i, j), Math.max(i, j));
+    }
+
+    @Benchmark
+    public long segmentTreeMaxSubarray() {
+        int i = nextIndex(), j = nextIndex();
+        segmentTree.set(i, (j & 1023) - 512);
+        return segmentTree.maxSubarraySum(Math.min(i, j), Math.max(i, j));
+    }
+}
@@ -0,0 +1,122 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.ArraySnapshot;
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.Dataset;
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.array.algorithms.QueryExecutor;
+import org.array.algorithms.ResultCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated queries on an unchanged array, with and without a {@link ResultCache}.
+ *
+ * Baselines: the direct library call, the same query through an uncached {@link QueryExecutor},
+ * and a plain ConcurrentHashMap lookup (the floor a cache hit is measured against).
+ * Contender: the cached executor, where every call after the first is a hit.
+ * Nanoseconds, because a hit is far below a microsecond.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ResultCacheBenchmark {
+
+    private static final int WINDOW = 16;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"binarySearch", "findMissing", "majorityElement", "maxSumSlidingWindow"})
+    public String operation;
+
+    private int[] data;
+    private int[] args;
+    private ArraySnapshot snapshot;
+    private Dataset dataset;    // the cache only serves dataset queries
+    private QueryExecutor uncached;
+    private QueryExecutor cached;
+    private final ConcurrentHashMap<Long, Object> map = new ConcurrentHashMap<>();
+    private final Long mapKey = 42L;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(ArrayData.Distribution.RANDOM, size);
+        if (operation.equals("binarySearch")) Arrays.sort(data);
+        switch (operation) {
+            case "binarySearch":
+                args = new int[]{data[size / 3]};
+                break;
+            case "findMissing":
+                args = new int[]{size};
+                break;
+            case "maxSumSlidingWindow":
+                args = new int[]{WINDOW};
+                break;
+            default:
+                args = new int[0];
+        }
+        snapshot = ArraySnapshot.of(data);
+        dataset = new Dataset(data);
+        uncached = new QueryExecutor(1);
+        cached = new QueryExecutor(1, 16, new ResultCache(1024));
+        map.put(mapKey, direct());
+    }
+
+    @TearDown
+    public void tearDown() {
+        uncached.close();
+        cached.close();
+    }
+
+    @Benchmark
+    public Object directBaseline() {
+        return direct();
+    }
+
+    @Benchmark
+    public Object uncachedExecutorBaseline() {
+        return uncached.submit(snapshot, operation, args).join();
+    }
+
+    @Benchmark
+    public Object hashLookupBaseline() {
+        return map.get(mapKey);
+    }
+
+    @Benchmark
+    public Object cachedExecutor() {
+        return cached.submit(dataset, operation, args).join();
+    }
+
+    private Object direct() {
+        switch (operation) {
+            case "binarySearch":
+                return IntermediateArrayAlgorithms.binarySearch(data, args[0]);
+            case "findMissing":
+                return CompetitiveAlgorithms.findMissing(data, args[0]);
+            case "maxSumSlidingWindow":
+                return AdvanceAlgorithms.maxSumSlidingWindow(data, args[0]);
+            default:
+                return CompetitiveAlgorithms.majorityElement(data);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.SelectionAlgorithms;
+import org.array.algorithms.SelectionAlgorithms.RankMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order statistics: the median, the top 10 and the p50/p90/p99/p999 quantiles.
+ *
+ * Baseline: sort a copy, then index into it (O(n log n)).
+ * Contenders: introselect and multiselect (O(n)), heap top-k (O(n log k)),
+ * and the single-pass {@link AdvanceAlgorithms#secondLargest} for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SelectionAlgorithmsBenchmark {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "FEW_UNIQUE", "ADVERSARIAL"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] work;
+    private int[] ranks;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        work = new int[size];
+        ranks = new int[QUANTILES.length];
+        for (int i = 0; i < QUANTILES.length; i++) {
+            ranks[i] = Math.max((int) Math.ceil(QUANTILES[i] * size) - 1, 0);
+        }
+    }
+
+    @Benchmark
+    public int medianBySorting() {
+        System.arraycopy(data, 0, work, 0, size);
+        Arrays.sort(work);
+        return work[size / 2];
+    }
+
+    @Benchmark
+    public int medianBySelect() {
+        System.arraycopy(data, 0, work, 0, size);
+        return SelectionAlgorithms.select(work, size / 2);
+    }
+
+    @Benchmark
+    public int[] quantilesBySorting() {
+        System.arraycopy(data, 0, work, 0, size);
+        Arrays.sort(work);
+        int[] values = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            values[i] = work[ranks[i]];
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] quantilesByMultiselect() {
+        return SelectionAlgorithms.quantiles(data, QUANTILES);
+    }
+
+    @Benchmark
+    public int[] top10BySorting() {
+        System.arraycopy(data, 0, work, 0, size);
+        Arrays.sort(work);
+        int[] top = new int[10];
+        for (int i = 0; i < 10; i++) {
+            top[i] = work[size - 1 - i];
+        }
+        return top;
+    }
+
+    @Benchmark
+    public int[] top10ByHeap() {
+        return SelectionAlgorithms.topK(data, 10, RankMode.POSITIONAL);
+    }
+
+    @Benchmark
+    public int secondLargestScan() {
+        return AdvanceAlgorithms.secondLargest(data);
+    }
+
+    @Benchmark
+    public int secondLargestByHeap() {
+        return SelectionAlgorithms.topK(data, 2, RankMode.DISTINCT)[1];
+    }
+}
@@ -0,0 +1,86 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.SlidingWindowAggregator;
+import org.array.algorithms.StreamingWindowMaxSum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a whole array through a {@link SlidingWindowAggregator} and reads the rolling
+ * aggregates after every value. {@link StreamingWindowMaxSum} (sum only) is the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SlidingWindowAggregatorBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"1000", "1000000"})
+    public int window;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+    }
+
+    @Benchmark
+    public long windowSumBaseline() {
+        StreamingWindowMaxSum stream = new StreamingWindowMaxSum(window);
+        stream.push(data, 0, data.length);
+        return stream.maxSum();
+    }
+
+    @Benchmark
+    public long rollingMinMax() {
+        SlidingWindowAggregator agg = SlidingWindowAggregator.countWindow(window, false);
+        long checksum = 0;
+        for (int value : data) {
+            agg.push(value);
+            checksum += agg.max() - agg.min();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long rollingMedian() {
+        SlidingWindowAggregator agg = SlidingWindowAggregator.countWindow(window, true);
+        long checksum = 0;
+        for (int value : data) {
+            agg.push(value);
+            checksum += agg.median();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long rollingTimeWindowP99() {
+        SlidingWindowAggregator agg = SlidingWindowAggregator.timeWindow(window, true);
+        long checksum = 0;
+        for (int i = 0; i < data.length; i++) {
+            agg.push(i, data[i]); // one value per time unit
+            checksum += agg.quantile(0.99);
+        }
+        return checksum;
+    }
+}
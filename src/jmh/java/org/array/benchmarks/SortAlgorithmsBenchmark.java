@@ -0,0 +1,82 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.SortAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link SortAlgorithms}, with {@link Arrays#sort(int[])} as the baseline.
+ *
+ * Every call sorts a fresh copy of the input; the O(n) copy is part of every score,
+ * so the scores are comparable with each other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param
+    public ArrayData.Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+    private int[] buffer;
+
+    @Setup
+    public void setup() {
+        source = ArrayData.generate(distribution, size);
+        work = new int[size];
+        buffer = new int[size];
+    }
+
+    private int[] fresh() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    @Benchmark
+    public int[] sort() {
+        int[] arr = fresh();
+        SortAlgorithms.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        int[] arr = fresh();
+        SortAlgorithms.introSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] arr = fresh();
+        SortAlgorithms.radixSort(arr, buffer);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] jdkArraysSort() {
+        int[] arr = fresh();
+        Arrays.sort(arr);
+        return arr;
+    }
+}
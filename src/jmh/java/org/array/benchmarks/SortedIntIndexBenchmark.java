@@ -0,0 +1,99 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.array.algorithms.SortedIntIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probe throughput of {@link SortedIntIndex} against the textbook
+ * {@link IntermediateArrayAlgorithms#binarySearch} on the same sorted data.
+ *
+ * Every invocation looks up {@value #PROBES} random keys; scores are per lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortedIntIndexBenchmark {
+
+    static final int PROBES = 4096;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] sorted;
+    private SortedIntIndex index;
+    private int[] keys;
+    private int[] ranks;
+    private boolean[] found;
+
+    @Setup
+    public void setup() {
+        int[] data = ArrayData.generate(distribution, size);
+        index = new SortedIntIndex(data);
+        sorted = data.clone();
+        Arrays.sort(sorted);
+
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            keys[i] = data[random.nextInt(size)];
+        }
+        ranks = new int[PROBES];
+        found = new boolean[PROBES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int binarySearch() {
+        int hits = 0;
+        for (int key : keys) {
+            if (IntermediateArrayAlgorithms.binarySearch(sorted, key) >= 0) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int eytzingerContains() {
+        int hits = 0;
+        for (int key : keys) {
+            if (index.contains(key)) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int[] eytzingerBatchLowerBounds() {
+        index.lowerBounds(keys, ranks);
+        return ranks;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public boolean[] eytzingerBatchContains() {
+        index.contains(keys, found);
+        return found;
+    }
+}
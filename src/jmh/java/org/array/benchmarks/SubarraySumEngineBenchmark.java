@@ -0,0 +1,88 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.array.algorithms.SubarraySumEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subarray-sum queries over a signed delta series (values in [-100, 100]).
+ *
+ * Baseline: the sliding window of {@link CompetitiveAlgorithms#subarraySum} on non-negative data,
+ * the only input it is correct for (target -1 is never found, so both scan everything).
+ * Contenders: the prefix-sum + hash map queries of {@link SubarraySumEngine}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SubarraySumEngineBenchmark {
+
+    private static final long[] TARGETS = {0, 50, -50, 1000};
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] nonNegative;
+    private int[] deltas;
+    private final long[] counts = new long[TARGETS.length];
+    private final SubarraySumEngine engine = new SubarraySumEngine();
+    private final ResultHolder holder = new ResultHolder();
+
+    @Setup
+    public void setup() {
+        nonNegative = ArrayData.generateBounded(distribution, size, 201);
+        deltas = nonNegative.clone();
+        for (int i = 0; i < size; i++) {
+            deltas[i] -= 100;
+        }
+    }
+
+    @Benchmark
+    public boolean slidingWindowBaseline() {
+        return CompetitiveAlgorithms.subarraySum(nonNegative, -1, holder.reset());
+    }
+
+    @Benchmark
+    public boolean engineFindFirstNonNegative() {
+        return engine.findFirst(nonNegative, -1, holder.reset());
+    }
+
+    @Benchmark
+    public long countSigned() {
+        return engine.count(deltas, 50);
+    }
+
+    @Benchmark
+    public boolean longestSigned() {
+        return engine.longest(deltas, 50, holder.reset());
+    }
+
+    @Benchmark
+    public boolean shortestSigned() {
+        return engine.shortest(deltas, 1000, holder.reset());
+    }
+
+    @Benchmark
+    public long[] batchCountSigned() {
+        engine.count(deltas, TARGETS, counts);
+        return counts;
+    }
+}
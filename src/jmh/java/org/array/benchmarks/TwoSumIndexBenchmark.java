@@ -0,0 +1,73 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.TwoSumIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TwoSumIndex}: build cost, one streamed query, and a batch of
+ * {@value #BATCH} targets against one pre-built index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TwoSumIndexBenchmark {
+
+    static final int BATCH = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    // Only RANDOM: with few unique values a single target matches ~n^2/16 pairs
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private TwoSumIndex index;
+    private int[] targets;
+    private long[] counts;
+    private long pairs;
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        index = new TwoSumIndex(data);
+        targets = new int[BATCH];
+        for (int t = 0; t < BATCH; t++) {
+            targets[t] = data[(t * 7919) % size] + data[(t * 104729) % size];
+        }
+        counts = new long[BATCH];
+    }
+
+    @Benchmark
+    public TwoSumIndex build() {
+        return new TwoSumIndex(data);
+    }
+
+    @Benchmark
+    public long forEachPair() {
+        pairs = 0;
+        index.forEachPair(targets[0], (i, j) -> pairs++);
+        return pairs;
+    }
+
+    @Benchmark
+    public long[] batchCountPairs() {
+        index.countPairs(targets, counts);
+        return counts;
+    }
+}
@@ -0,0 +1,120 @@
+package org.array.benchmarks;
+
+import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.CompetitiveAlgorithms;
+import org.array.algorithms.IntermediateArrayAlgorithms;
+import org.array.algorithms.ResultHolder;
+import org.array.algorithms.VectorAlgorithms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar vs SIMD scan throughput ({@link VectorAlgorithms}).
+ *
+ * Build with mvn -Pjmh,vector package; the forked JVM adds the Vector API module.
+ * Without the vector profile the vector* benchmarks measure the scalar fallback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class VectorAlgorithmsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM"})
+    public ArrayData.Distribution distribution;
+
+    private int[] data;
+    private int[] zeroOneTwo;
+    private int[] work;
+    private int absent;
+    private final ResultHolder holder = new ResultHolder();
+
+    @Setup
+    public void setup() {
+        data = ArrayData.generate(distribution, size);
+        zeroOneTwo = ArrayData.generateBounded(distribution, size, 3);
+        work = new int[size];
+        // A value that does not occur, so linear search scans the whole array
+        absent = data[0];
+        while (IntermediateArrayAlgorithms.linearSearch(data, absent) >= 0) absent++;
+    }
+
+    @Benchmark
+    public int scalarSum() {
+        return BasicArrayAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public int vectorSum() {
+        return VectorAlgorithms.sumArray(data);
+    }
+
+    @Benchmark
+    public ResultHolder scalarMinMax() {
+        holder.reset();
+        BasicArrayAlgorithms.findMinMax(data, holder);
+        return holder;
+    }
+
+    @Benchmark
+    public ResultHolder vectorMinMax() {
+        holder.reset();
+        VectorAlgorithms.findMinMax(data, holder);
+        return holder;
+    }
+
+    @Benchmark
+    public int scalarLinearSearch() {
+        return IntermediateArrayAlgorithms.linearSearch(data, absent);
+    }
+
+    @Benchmark
+    public int vectorLinearSearch() {
+        return VectorAlgorithms.linearSearch(data, absent);
+    }
+
+    @Benchmark
+    public int[] scalarRearrangePosNeg() {
+        System.arraycopy(data, 0, work, 0, size);
+        AdvanceAlgorithms.rearrangePosNeg(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] vectorRearrangePosNeg() {
+        System.arraycopy(data, 0, work, 0, size);
+        VectorAlgorithms.rearrangePosNeg(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] scalarSort012() {
+        System.arraycopy(zeroOneTwo, 0, work, 0, size);
+        CompetitiveAlgorithms.sort012(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] vectorSort012() {
+        System.arraycopy(zeroOneTwo, 0, work, 0, size);
+        VectorAlgorithms.sort012(work);
+        return work;
+    }
+}
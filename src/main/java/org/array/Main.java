@@ -1,15 +1,46 @@
 package org.array;
 
 import org.array.algorithms.AdvanceAlgorithms;
+import org.array.algorithms.ArraySnapshot;
+import org.array.algorithms.ArrayStatistics;
+import org.array.algorithms.ArrayStatistics.Aggregate;
 import org.array.algorithms.BasicArrayAlgorithms;
+import org.array.algorithms.ChunkedIntFile;
+import org.array.algorithms.Dataset;
+import org.array.algorithms.DoubleArrayAlgorithms;
+import org.array.algorithms.DuplicateAlgorithms;
+import org.array.algorithms.FenwickTree;
+import org.array.algorithms.IntArray;
+import org.array.algorithms.IntArrayAlgorithms;
+import org.array.algorithms.IntBucketFunction;
+import org.array.algorithms.IntSourceAlgorithms;
 import org.array.algorithms.IntermediateArrayAlgorithms;
-
+import org.array.algorithms.MergeAlgorithms;
+import org.array.algorithms.Metrics;
+import org.array.algorithms.ParallelAlgorithms;
+import org.array.algorithms.PartitionAlgorithms;
+import org.array.algorithms.PrefixSumAlgorithms;
+import org.array.algorithms.QueryExecutor;
+import org.array.algorithms.ResultCache;
+import org.array.algorithms.SegmentTree;
+import org.array.algorithms.SelectionAlgorithms;
+import org.array.algorithms.SelectionAlgorithms.RankMode;
+import org.array.algorithms.SlidingWindowAggregator;
+import org.array.algorithms.SortAlgorithms;
+import org.array.algorithms.SortedIntIndex;
+import org.array.algorithms.StreamingKadane;
+import org.array.algorithms.SubarraySumEngine;
+import org.array.algorithms.TwoSumIndex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import static org.array.algorithms.CompetitiveAlgorithms.*;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         // ===== Basic Algorithms =====
         int[] numbers = {5, 2, 9, 1, 7};
@@ -56,6 +87,10 @@ public class Main {
         int binaryIndex = IntermediateArrayAlgorithms.binarySearch(searchArray, 9);
         System.out.println("Binary search for 9: " + binaryIndex);
 
+        SortedIntIndex sortedIndex = new SortedIntIndex(new int[]{7, 3, 9, 2, 5, 3});
+        System.out.println("Index contains 9: " + sortedIndex.contains(9));
+        System.out.println("Values in [3, 7]: " + sortedIndex.countInRange(3, 7));
+
         IntermediateArrayAlgorithms.shiftRight(searchArray);
         System.out.print("Shift Right: ");
         BasicArrayAlgorithms.printArray(searchArray);
@@ -66,6 +101,7 @@ public class Main {
 
         boolean hasDuplicates = IntermediateArrayAlgorithms.hasDuplicates(searchArray);
         System.out.println("Has duplicates: " + hasDuplicates);
+        System.out.println("First duplicate index: " + DuplicateAlgorithms.firstDuplicateIndex(searchArray));
 
         int[] mergedArray = IntermediateArrayAlgorithms.mergeArrays(searchArray, mergeWithArray);
         System.out.print("Merged array: ");
@@ -88,6 +124,9 @@ public class Main {
         int[] twoSumArray = {2, 7, 11, 15};
         System.out.print("Pairs for sum 9: ");
         AdvanceAlgorithms.twoSumBruteForce(twoSumArray, 9);
+        System.out.print("Index pairs for sum 9: ");
+        TwoSumIndex.findPairs(twoSumArray, 9, (i, j) -> System.out.print("(" + i + ", " + j + ") "));
+        System.out.println();
 
         int[] slidingWindowArray = {1, 2, 3, 4, 5};
         System.out.println("Max sum of window size 3: " + AdvanceAlgorithms.maxSumSlidingWindow(slidingWindowArray, 3));
@@ -99,10 +138,25 @@ public class Main {
         int[] kadaneArray = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
         System.out.println("Max subarray sum (Kadane's): " + AdvanceAlgorithms.kadaneMaxSubArraySum(kadaneArray));
 
+        StreamingKadane streamingKadane = new StreamingKadane();
+        for (int value : kadaneArray) {
+            streamingKadane.push(value); // values could come from any feed, one at a time
+        }
+        System.out.println("Streaming Kadane: " + streamingKadane.maxSum()
+                + " from " + streamingKadane.maxStart() + " to " + streamingKadane.maxEnd());
+
         int[] rotateRightArray = {1, 2, 3, 4, 5};
         AdvanceAlgorithms.rotateRight(rotateRightArray, 2);
         System.out.println("Rotated right by 2: " + Arrays.toString(rotateRightArray));
 
+        int[] posNegInPlaceArray = {1, -2, 3, -4, 5};
+        AdvanceAlgorithms.rearrangePosNegInPlace(posNegInPlaceArray);
+        System.out.println("Rearranged pos-neg in-place: " + Arrays.toString(posNegInPlaceArray));
+
+        int[] rotateRightInPlaceArray = {1, 2, 3, 4, 5};
+        AdvanceAlgorithms.rotateRightInPlace(rotateRightInPlaceArray, 2);
+        System.out.println("Rotated right by 2 in-place: " + Arrays.toString(rotateRightInPlaceArray));
+
         int[] reverseArray = {1, 2, 3, 4, 5};
         AdvanceAlgorithms.reverse(reverseArray, 0, 4);
         System.out.println("Reversed: " + Arrays.toString(reverseArray));
@@ -137,5 +191,201 @@ public class Main {
         int[] majorityElementArray = {2, 2, 1, 1, 2, 2, 2};
         int majority = majorityElement(majorityElementArray);
         System.out.println("Majority element: " + majority);
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Sort Engine =====
+        int[] engineSortArray = {42, -7, 19, 0, 3, -7, 88, 5};
+        System.out.println("Sort strategy: " + SortAlgorithms.selectStrategy(engineSortArray));
+        SortAlgorithms.sort(engineSortArray);
+        System.out.println("Engine sorted: " + Arrays.toString(engineSortArray));
+
+        int[] radixArray = {170, -45, 75, -90, 802, 24, 2, 66};
+        SortAlgorithms.radixSort(radixArray);
+        System.out.println("Radix sorted: " + Arrays.toString(radixArray));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Parallel Algorithms =====
+        int[] parallelArray = {5, 2, 9, 1, 7, 5, 5, 5, 5};
+        System.out.println("Parallel sum: " + ParallelAlgorithms.sumArray(parallelArray, 2));
+        System.out.println("Parallel average: " + ParallelAlgorithms.averageArray(parallelArray, 2));
+        System.out.println("Parallel min/max: " + Arrays.toString(ParallelAlgorithms.findMinMax(parallelArray, 2)));
+        System.out.println("Parallel majority element: " + ParallelAlgorithms.majorityElement(parallelArray, 2));
+
+        int[] counters = {2_000_000_000, 2_000_000_000, 5, 7};
+        long[] longPrefix = new long[counters.length];
+        PrefixSumAlgorithms.parallelPrefixSum(counters, longPrefix, 2);
+        System.out.println("Long prefix sum: " + Arrays.toString(longPrefix));
+        System.out.println("Range sum [1..3]: " + PrefixSumAlgorithms.rangeSum(longPrefix, 1, 3));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Off-heap Arrays =====
+        IntArray offHeapArray = IntArray.copyOf(new int[]{3, -1, 4, -1, 5, -9, 2, 6});
+        IntArrayAlgorithms.rearrangePosNegInPlace(offHeapArray);
+        System.out.println("Off-heap rearranged: " + Arrays.toString(offHeapArray.toArray()));
+        IntArrayAlgorithms.rotateRightInPlace(offHeapArray, 3);
+        System.out.println("Off-heap rotated right by 3: " + Arrays.toString(offHeapArray.toArray()));
+        System.out.println("Off-heap sum: " + IntSourceAlgorithms.sumArrayLong(offHeapArray));
+        System.out.println("Off-heap max subarray sum: " + IntSourceAlgorithms.kadaneMaxSubArraySum(offHeapArray));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Range Queries =====
+        int[] rangeArray = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        FenwickTree fenwick = new FenwickTree(rangeArray);
+        SegmentTree segmentTree = new SegmentTree(rangeArray);
+        System.out.println("Range sum [2..6]: " + fenwick.rangeSum(2, 6));
+        System.out.println("Range min/max [2..6]: " + segmentTree.rangeMin(2, 6) + " / " + segmentTree.rangeMax(2, 6));
+        System.out.println("Max subarray sum [0..8]: " + segmentTree.maxSubarraySum(0, 8));
+        fenwick.set(7, 5);
+        segmentTree.set(7, 5);
+        System.out.println("After setting index 7 to 5, range sum [2..8]: " + fenwick.rangeSum(2, 8)
+                + ", max subarray sum: " + segmentTree.maxSubarraySum(0, 8));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Sliding Windows =====
+        SlidingWindowAggregator window = SlidingWindowAggregator.countWindow(4, true);
+        window.push(new int[]{7, 1, 9, 3, 8, 2, 6}, 0, 7);
+        System.out.println("Last 4 values: min " + window.min() + ", max " + window.max()
+                + ", median " + window.median() + ", p75 " + window.quantile(0.75));
+
+        SlidingWindowAggregator timeWindow = SlidingWindowAggregator.timeWindow(10, true);
+        long[] timestamps = {0, 3, 5, 12, 14};
+        int[] latencies = {120, 80, 300, 95, 110};
+        for (int i = 0; i < timestamps.length; i++) {
+            timeWindow.push(timestamps[i], latencies[i]);
+        }
+        System.out.println("Last 10 time units: " + timeWindow.size() + " values, max " + timeWindow.max()
+                + ", median " + timeWindow.median());
+
+        // An infinity entering and leaving the window must not poison the later windows (inf - inf = NaN)
+        double[] spikes = {1, Double.POSITIVE_INFINITY, 2, 3, 4};
+        System.out.println("Max double window sum, k=1: " + DoubleArrayAlgorithms.maxSumSlidingWindow(spikes, 1)
+                + ", with -Infinity in the middle, k=2: "
+                + DoubleArrayAlgorithms.maxSumSlidingWindow(new double[]{1, Double.NEGATIVE_INFINITY, 2, 3, 4}, 2));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Order Statistics =====
+        int[] scores = {42, 17, 99, 17, 63, 99, 8, 55, 71, 30};
+        System.out.println("3rd largest (positional): " + SelectionAlgorithms.kthLargest(scores, 2, RankMode.POSITIONAL));
+        System.out.println("3rd largest (distinct): " + SelectionAlgorithms.kthLargest(scores, 2, RankMode.DISTINCT));
+        System.out.println("Top 3: " + Arrays.toString(SelectionAlgorithms.topK(scores, 3, RankMode.POSITIONAL)));
+        System.out.println("Bottom 3 distinct: " + Arrays.toString(SelectionAlgorithms.bottomK(scores, 3, RankMode.DISTINCT)));
+        System.out.println("p50 / p90: " + Arrays.toString(SelectionAlgorithms.quantiles(scores, new double[]{0.5, 0.9})));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Merging Sorted Runs =====
+        int[][] shards = {{1, 4, 9}, {2, 3, 10, 12}, {}, {0, 5, 6}};
+        System.out.println("K-way merge: " + Arrays.toString(MergeAlgorithms.mergeK(shards)));
+        System.out.println("Parallel merge: " + Arrays.toString(MergeAlgorithms.parallelMerge(shards[0], shards[1])));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Multi-way Partitioning =====
+        int[] latencyMillis = {120, 8, 45, 300, 15, 95, 2500, 60, 5};
+        int[] bucketStarts = PartitionAlgorithms.partition(latencyMillis, 4, IntBucketFunction.ranges(10, 100, 1000));
+        System.out.println("Bucketed by <10, <100, <1000, rest: " + Arrays.toString(latencyMillis)
+                + ", bucket starts " + Arrays.toString(bucketStarts));
+        int[] digits = {2, 0, 1, 2, 1, 0, 0, 2};
+        PartitionAlgorithms.parallelPartition(digits, 3, value -> value);
+        System.out.println("sort012 as a 3-way partition: " + Arrays.toString(digits));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Subarray Sums with Negatives =====
+        int[] deltas = {3, -2, 5, -6, 4, 1, -3, 2};
+        SubarraySumEngine subarrays = new SubarraySumEngine();
+        System.out.println("Subarrays summing to 3: " + subarrays.count(deltas, 3));
+        subarrays.forEachMatch(deltas, 3, (start, end) -> System.out.println("  from index " + start + " to " + end));
+        subarrays.longest(deltas, 3, (start, end) -> System.out.println("Longest: " + start + " to " + end));
+        subarrays.shortest(deltas, 3, (start, end) -> System.out.println("Shortest: " + start + " to " + end));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Fused Statistics =====
+        int[] readings = {7, -3, 7, 12, 7, -1, 7, 4, 7};
+        System.out.println("One pass: " + ArrayStatistics.compute(readings, Aggregate.values()));
+        ArrayStatistics running = ArrayStatistics.of(Aggregate.MEAN, Aggregate.MIN, Aggregate.MAX);
+        running.accept(readings, 0, 4);
+        running.accept(readings, 4, readings.length);
+        System.out.println("Streamed in two chunks: " + running);
+        System.out.println("Parallel: " + ArrayStatistics.parallelCompute(readings, 2, Aggregate.SUM, Aggregate.MAX_SUBARRAY_SUM));
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Concurrent Queries =====
+        Dataset prices = new Dataset(new int[]{40, 10, 30, 20, 50});
+        try (QueryExecutor queries = new QueryExecutor(2)) {
+            ArraySnapshot before = prices.snapshot();
+            System.out.println("Sum: " + queries.submit(prices, "sumArray").join()
+                    + ", 2nd smallest: " + queries.submit(prices, "kthSmallest", 1).join());
+            ArraySnapshot rotated = (ArraySnapshot) queries.submit(prices, "rotateLeftInPlace", 2).join();
+            System.out.println("Rotated view (no copy): " + Arrays.toString(rotated.toArray()));
+            queries.update(prices, "sort").join();
+            System.out.println("Dataset v" + prices.version() + ": " + Arrays.toString(prices.snapshot().toArray())
+                    + ", older snapshot still " + Arrays.toString(before.toArray()));
+        }
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Result Cache =====
+        ResultCache cache = new ResultCache(1024);
+        Dataset sortedIds = new Dataset(new int[]{2, 3, 5, 8, 13, 21, 34});
+        try (QueryExecutor queries = new QueryExecutor(2, 32, cache)) {
+            for (int i = 0; i < 3; i++) {
+                queries.submit(sortedIds, "binarySearch", 13).join();
+            }
+            System.out.println("Three identical searches: " + cache);
+            queries.update(sortedIds, "reverseArray").join();
+            System.out.println("After reverseArray: " + cache);
+        }
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Chunked Column File =====
+        int[] samples = new int[10_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 1_000 + i / 100;      // slowly rising, like sensor samples or timestamps
+        }
+        Path column = Files.createTempFile("samples", ".chunked");
+        try {
+            ChunkedIntFile.write(column, samples);
+            try (ChunkedIntFile file = ChunkedIntFile.open(column)) {
+                System.out.println("Values: " + file.length() + ", chunks: " + file.chunkCount()
+                        + ", bytes: " + file.sizeInBytes() + " (raw: " + 4L * samples.length + ")");
+                System.out.println("Sum / min / max from chunk statistics: "
+                        + file.sum() + " / " + file.min() + " / " + file.max());
+                System.out.println("First index of 1050: " + file.linearSearch(1050));
+                System.out.println("Sum of [2500, 7500): " + file.rangeSum(2500, 7500));
+                System.out.println("Values in [1010, 1019]: " + file.countInRange(1010, 1019));
+            }
+        } finally {
+            Files.deleteIfExists(column);
+        }
+
+        System.out.println(); // Spacer between sections
+
+
+        // ===== Metrics =====
+        // Only filled when started with -Darray.algorithms.metrics=true
+        System.out.println(Metrics.snapshot());
     }
 }
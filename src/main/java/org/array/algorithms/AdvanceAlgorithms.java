@@ -7,17 +7,32 @@ package org.array.algorithms;
  */
 public class AdvanceAlgorithms {
 
+    // Instrumentation (see Metrics; compiled away unless enabled)
+    private static final OperationMetrics REARRANGE_POS_NEG = Metrics.operation("AdvanceAlgorithms.rearrangePosNeg");
+    private static final OperationMetrics REARRANGE_POS_NEG_IN_PLACE = Metrics.operation("AdvanceAlgorithms.rearrangePosNegInPlace");
+    private static final OperationMetrics SECOND_LARGEST = Metrics.operation("AdvanceAlgorithms.secondLargest");
+    private static final OperationMetrics SECOND_SMALLEST = Metrics.operation("AdvanceAlgorithms.secondSmallest");
+    private static final OperationMetrics TWO_SUM_BRUTE_FORCE = Metrics.operation("AdvanceAlgorithms.twoSumBruteForce");
+    private static final OperationMetrics MAX_SUM_SLIDING_WINDOW = Metrics.operation("AdvanceAlgorithms.maxSumSlidingWindow");
+    private static final OperationMetrics PREFIX_SUM = Metrics.operation("AdvanceAlgorithms.prefixSum");
+    private static final OperationMetrics KADANE = Metrics.operation("AdvanceAlgorithms.kadaneMaxSubArraySum");
+    private static final OperationMetrics ROTATE_RIGHT = Metrics.operation("AdvanceAlgorithms.rotateRight");
+    private static final OperationMetrics ROTATE_RIGHT_IN_PLACE = Metrics.operation("AdvanceAlgorithms.rotateRightInPlace");
+    private static final OperationMetrics ROTATE_LEFT_IN_PLACE = Metrics.operation("AdvanceAlgorithms.rotateLeftInPlace");
+
     /**
      * Rearranges the array so that all negative numbers come before positives.
      *
      * Algorithm: Two-pass rearrangement using extra space.
      * Pattern: Partitioning (similar to two-pointer, but here two separate loops).
      * Time Complexity: O(n)
-     * Space Complexity: O(n)
+     * Space Complexity: O(n) → see {@link #rearrangePosNegInPlace(int[])} for a version without the temp array.
+     * For any number of buckets, in parallel or to files, see {@link PartitionAlgorithms}.
      *
      * @param arr Input array to rearrange
      */
     public static void rearrangePosNeg(int[] arr) {
+        long start = Metrics.start();
         int[] temp = new int[arr.length];
         int index = 0;
 
@@ -33,6 +48,55 @@ public class AdvanceAlgorithms {
 
         // Copy back to original array
         System.arraycopy(temp, 0, arr, 0, arr.length);
+        REARRANGE_POS_NEG.end(start, arr.length);
+    }
+
+    /**
+     * Rearranges the array so that all negative numbers come before positives,
+     * keeping the original order inside both groups, without any extra array.
+     *
+     * Same result as {@link #rearrangePosNeg(int[])}, but allocates nothing.
+     *
+     * Algorithm: Stable partition by divide and conquer.
+     * 1. Partition the left half and the right half (recursively).
+     *    Now the range looks like: [N1 P1 | N2 P2].
+     * 2. Rotate the middle block [P1 N2] → [N2 P1] with the triple reversal trick.
+     *    Now it is [N1 N2 P1 P2], and both groups kept their order.
+     * Pattern: Partitioning + in-place rotation.
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(log n) → recursion only, no temporary array.
+     *
+     * @param arr Input array to rearrange
+     */
+    public static void rearrangePosNegInPlace(int[] arr) {
+        long start = Metrics.start();
+        int lo = 0, hi = arr.length;
+        // Leading negatives and trailing positives are already in place
+        while (lo < hi && arr[lo] < 0) lo++;
+        while (hi > lo && arr[hi - 1] >= 0) hi--;
+        stablePartition(arr, lo, hi);
+        REARRANGE_POS_NEG_IN_PLACE.end(start, arr.length);
+    }
+
+    // Stable partition of [lo, hi); returns the index of the first non-negative value
+    private static int stablePartition(int[] arr, int lo, int hi) {
+        if (hi - lo <= 1) {
+            return (hi > lo && arr[lo] < 0) ? hi : lo;
+        }
+        int mid = (lo + hi) >>> 1;
+        int leftSplit = stablePartition(arr, lo, mid);
+        int rightSplit = stablePartition(arr, mid, hi);
+        // [lo, leftSplit) N1, [leftSplit, mid) P1, [mid, rightSplit) N2, [rightSplit, hi) P2
+        rotateLeftRange(arr, leftSplit, mid, rightSplit);
+        return leftSplit + (rightSplit - mid);
+    }
+
+    // Rotates [from, to) so that the element at index middle moves to index from
+    private static void rotateLeftRange(int[] arr, int from, int middle, int to) {
+        if (from == middle || middle == to) return;
+        reverse(arr, from, middle - 1);
+        reverse(arr, middle, to - 1);
+        reverse(arr, from, to - 1);
     }
 
     /**
@@ -41,11 +105,14 @@ public class AdvanceAlgorithms {
      * Algorithm: Single pass with two variables tracking max and second max.
      * Pattern: Selection / Linear scan.
      * Time Complexity: O(n)
+     * For any other rank, or when Integer.MIN_VALUE is a real value, see
+     * {@link SelectionAlgorithms#kthLargest} (this method is kthLargest(arr, 1, DISTINCT)).
      *
      * @param arr Input array
      * @return The second largest element or Integer.MIN_VALUE if none
      */
     public static int secondLargest(int[] arr) {
+        long start = Metrics.start();
         int max = Integer.MIN_VALUE, second = Integer.MIN_VALUE;
         for (int num : arr) {
             if (num > max) {
@@ -55,6 +122,7 @@ public class AdvanceAlgorithms {
                 second = num;
             }
         }
+        SECOND_LARGEST.end(start, arr.length);
         return second;
     }
 
@@ -64,11 +132,14 @@ public class AdvanceAlgorithms {
      * Algorithm: Single pass with two variables tracking min and second min.
      * Pattern: Selection / Linear scan.
      * Time Complexity: O(n)
+     * For any other rank, or when Integer.MAX_VALUE is a real value, see
+     * {@link SelectionAlgorithms#kthSmallest} (this method is kthSmallest(arr, 1, DISTINCT)).
      *
      * @param arr Input array
      * @return The second smallest element or Integer.MAX_VALUE if none
      */
     public static int secondSmallest(int[] arr) {
+        long start = Metrics.start();
         int min = Integer.MAX_VALUE, second = Integer.MAX_VALUE;
         for (int num : arr) {
             if (num < min) {
@@ -78,6 +149,7 @@ public class AdvanceAlgorithms {
                 second = num;
             }
         }
+        SECOND_SMALLEST.end(start, arr.length);
         return second;
     }
 
@@ -92,13 +164,34 @@ public class AdvanceAlgorithms {
      * @param target Target sum for pairs
      */
     public static void twoSumBruteForce(int[] arr, int target) {
+        ConsoleSink console = new ConsoleSink();
+        twoSumBruteForce(arr, target, console.pairs("Pair: ", ", ", ""));
+        console.flush();
+    }
+
+    /**
+     * Finds all pairs in the array that sum to the target using brute force,
+     * and sends their values to a sink.
+     *
+     * Same algorithm as {@link #twoSumBruteForce(int[], int)}, without any I/O.
+     * For large arrays use {@link TwoSumIndex} (O(n) instead of O(n^2)).
+     *
+     * @param arr Input array
+     * @param target Target sum for pairs
+     * @param sink Receives (arr[i], arr[j]) for every pair i < j
+     */
+    public static void twoSumBruteForce(int[] arr, int target, IntPairSink sink) {
+        long start = Metrics.start();
+        boolean found = false;
         for (int i = 0; i < arr.length; i++) {
             for (int j = i + 1; j < arr.length; j++) {
                 if (arr[i] + arr[j] == target) {
-                    System.out.println("Pair: " + arr[i] + ", " + arr[j]);
+                    sink.accept(arr[i], arr[j]);
+                    found = true;
                 }
             }
         }
+        TWO_SUM_BRUTE_FORCE.end(start, arr.length, (long) arr.length * (arr.length - 1) / 2, !found);
     }
 
     /**
@@ -118,6 +211,7 @@ public class AdvanceAlgorithms {
      * @return Maximum sum of subarray of size k
      */
     public static int maxSumSlidingWindow(int[] arr, int k) {
+        long start = Metrics.start();
         int windowSum = 0;
         // Initial window sum
         for (int i = 0; i < k; i++) {
@@ -130,6 +224,7 @@ public class AdvanceAlgorithms {
             windowSum += arr[i] - arr[i - k]; // Remove left element, add right element
             maxSum = Math.max(maxSum, windowSum);
         }
+        MAX_SUM_SLIDING_WINDOW.end(start, arr.length);
         return maxSum;
     }
 
@@ -140,15 +235,21 @@ public class AdvanceAlgorithms {
      * Pattern: Cumulative sum array.
      * Time Complexity: O(n)
      *
+     * Sums wrap around on int overflow; see {@link PrefixSumAlgorithms} for long output,
+     * in-place and parallel versions.
+     *
      * @param arr Input array
-     * @return New array of prefix sums where prefix[i] = sum(arr[0..i])
+     * @return New array of prefix sums where prefix[i] = sum(arr[0..i]) (empty for empty input)
      */
     public static int[] prefixSum(int[] arr) {
         int[] prefix = new int[arr.length];
+        if (arr.length == 0) return prefix;
+        long start = Metrics.start();
         prefix[0] = arr[0];
         for (int i = 1; i < arr.length; i++) {
             prefix[i] = prefix[i - 1] + arr[i];
         }
+        PREFIX_SUM.end(start, arr.length);
         return prefix;
     }
 
@@ -164,12 +265,14 @@ public class AdvanceAlgorithms {
      * @return Maximum subarray sum
      */
     public static int kadaneMaxSubArraySum(int[] arr) {
+        long start = Metrics.start();
         int maxSoFar = arr[0], currentMax = arr[0];
         for (int i = 1; i < arr.length; i++) {
             // Decide whether to start new subarray or continue previous
             currentMax = Math.max(arr[i], currentMax + arr[i]);
             maxSoFar = Math.max(maxSoFar, currentMax);
         }
+        KADANE.end(start, arr.length);
         return maxSoFar;
     }
 
@@ -179,12 +282,13 @@ public class AdvanceAlgorithms {
      * Algorithm: Rotation using auxiliary array.
      * Pattern: Index mapping with modulo.
      * Time Complexity: O(n)
-     * Space Complexity: O(n)
+     * Space Complexity: O(n) → see {@link #rotateRightInPlace(int[], int)} for a version without the extra array.
      *
      * @param arr Input array
      * @param k Number of rotation steps
      */
     public static void rotateRight(int[] arr, int k) {
+        long start = Metrics.start();
         int n = arr.length;
         k %= n; // handle k > n
         int[] result = new int[n];
@@ -192,6 +296,38 @@ public class AdvanceAlgorithms {
             result[(i + k) % n] = arr[i];
         }
         System.arraycopy(result, 0, arr, 0, n);
+        ROTATE_RIGHT.end(start, n);
+    }
+
+    /**
+     * Rotates the array right by k steps in-place using reversal algorithm.
+     *
+     * Same result as {@link #rotateRight(int[], int)}, but allocates nothing.
+     *
+     * Algorithm: Rotation using triple reversal.
+     * Reverse the whole array, then reverse the first k and the remaining n - k elements.
+     * Pattern: Reverse parts of the array.
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param arr Input array
+     * @param k Number of rotation steps
+     */
+    public static void rotateRightInPlace(int[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        long start = Metrics.start();
+        k %= n; // handle k > n
+
+        // Reverse whole array
+        reverse(arr, 0, n - 1);
+
+        // Reverse first k elements
+        reverse(arr, 0, k - 1);
+
+        // Reverse remaining elements
+        reverse(arr, k, n - 1);
+        ROTATE_RIGHT_IN_PLACE.end(start, n, 0, n);
     }
 
     /**
@@ -225,6 +361,7 @@ public class AdvanceAlgorithms {
      * @param k Number of rotation steps
      */
     public static void rotateLeftInPlace(int[] arr, int k) {
+        long start = Metrics.start();
         int n = arr.length;
         k %= n; // handle k > n
 
@@ -236,5 +373,6 @@ public class AdvanceAlgorithms {
 
         // Reverse whole array
         reverse(arr, 0, n - 1);
+        ROTATE_LEFT_IN_PLACE.end(start, n, 0, n);
     }
 }
@@ -0,0 +1,170 @@
+package org.array.algorithms;
+
+/**
+ * An immutable view of int values that many threads can read at once, without locks or copies.
+ *
+ * The values live in a base array that is never written after the snapshot is created.
+ * The reordering operations of this library that only move values around
+ * ({@link AdvanceAlgorithms#rotateLeftInPlace}, {@link AdvanceAlgorithms#rotateRightInPlace},
+ * {@link IntermediateArrayAlgorithms#shiftLeft}, {@link IntermediateArrayAlgorithms#shiftRight},
+ * {@link BasicArrayAlgorithms#reverseArray}) do not copy anything here: they return a new view
+ * over the same base array with a different index mapping.
+ *
+ * Index mapping: logical position i reads base[(offset + i) mod n], or base[(offset - i) mod n]
+ * when the view is reversed. A rotation changes the offset, a reversal flips the direction,
+ * so any chain of them is still one offset and one flag.
+ *
+ * Time complexity: O(1) per view operation and per {@link #get}; reading everything with
+ * {@link #read} or {@link #copyTo} costs at most two block copies (a loop when reversed).
+ */
+public final class ArraySnapshot implements IntSource {
+
+    private final int[] base;
+    private final int offset;
+    private final boolean reversed;
+
+    private ArraySnapshot(int[] base, int offset, boolean reversed) {
+        this.base = base;
+        this.offset = offset;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Snapshot of the current contents of an array (copied once, so later writes to arr are not seen).
+     *
+     * @param arr the values
+     * @return an immutable snapshot
+     */
+    public static ArraySnapshot of(int[] arr) {
+        return new ArraySnapshot(arr.clone(), 0, false);
+    }
+
+    /**
+     * Takes ownership of an array without copying. The caller must never write to it again.
+     */
+    static ArraySnapshot wrap(int[] arr) {
+        return new ArraySnapshot(arr, 0, false);
+    }
+
+    @Override
+    public long length() {
+        return base.length;
+    }
+
+    /**
+     * @return number of values, as an int
+     */
+    public int size() {
+        return base.length;
+    }
+
+    @Override
+    public int get(long index) {
+        int n = base.length;
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+        return base[physical((int) index)];
+    }
+
+    @Override
+    public void read(long from, int[] dst, int offset, int length) {
+        int n = base.length;
+        if (from < 0 || length < 0 || from + length > n) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length + ") out of bounds for length " + n);
+        }
+        if (length == 0) return;
+        int start = physical((int) from);
+        if (!reversed) {
+            // At most two runs: up to the end of base, then from its start
+            int first = Math.min(length, n - start);
+            System.arraycopy(base, start, dst, offset, first);
+            System.arraycopy(base, 0, dst, offset + first, length - first);
+        } else {
+            for (int i = 0, p = start; i < length; i++) {
+                dst[offset + i] = base[p];
+                p = p == 0 ? n - 1 : p - 1;
+            }
+        }
+    }
+
+    /**
+     * Writes the values, in view order, to the start of dst.
+     *
+     * @param dst destination with room for {@link #size()} values
+     */
+    public void copyTo(int[] dst) {
+        read(0, dst, 0, base.length);
+    }
+
+    /**
+     * @return the values in view order, in a new array
+     */
+    public int[] toArray() {
+        if (isIdentity()) return base.clone();
+        int[] out = new int[base.length];
+        copyTo(out);
+        return out;
+    }
+
+    /**
+     * View rotated left by k positions, as {@link AdvanceAlgorithms#rotateLeftInPlace}. No copy.
+     *
+     * @param k number of positions (any int, taken mod size)
+     * @return the rotated view
+     */
+    public ArraySnapshot rotateLeft(int k) {
+        int n = base.length;
+        if (n == 0) return this;
+        int shift = Math.floorMod(k, n);
+        return new ArraySnapshot(base, Math.floorMod(reversed ? offset - shift : offset + shift, n), reversed);
+    }
+
+    /**
+     * View rotated right by k positions, as {@link AdvanceAlgorithms#rotateRightInPlace}. No copy.
+     *
+     * @param k number of positions (any int, taken mod size)
+     * @return the rotated view
+     */
+    public ArraySnapshot rotateRight(int k) {
+        int n = base.length;
+        if (n == 0) return this;
+        return rotateLeft(n - Math.floorMod(k, n));
+    }
+
+    /**
+     * Reversed view, as {@link BasicArrayAlgorithms#reverseArray}. No copy.
+     *
+     * @return the reversed view
+     */
+    public ArraySnapshot reverse() {
+        int n = base.length;
+        if (n == 0) return this;
+        // New position i reads old position n-1-i
+        int last = reversed ? offset - (n - 1) : offset + (n - 1);
+        return new ArraySnapshot(base, Math.floorMod(last, n), !reversed);
+    }
+
+    /**
+     * @return true when logical order equals base order, so {@link #base()} can be read directly
+     */
+    boolean isIdentity() {
+        return offset == 0 && (!reversed || base.length <= 1);
+    }
+
+    /**
+     * The shared base array, in base order. Must not be written.
+     * Order-independent reductions (sum, min, max ...) can run on it for any view.
+     */
+    int[] base() {
+        return base;
+    }
+
+    private int physical(int index) {
+        int n = base.length;
+        int p = reversed ? offset - index : offset + index;
+        if (p >= n) p -= n;
+        else if (p < 0) p += n;
+        return p;
+    }
+}
@@ -0,0 +1,558 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Several reductions of the same values, computed in one pass over memory.
+ *
+ * Replaces the pattern of calling {@link BasicArrayAlgorithms#sumArray}, {@link BasicArrayAlgorithms#averageArray}
+ * (which sums again), {@link BasicArrayAlgorithms#findMinMax(int[], IntPairSink)},
+ * {@link AdvanceAlgorithms#secondLargest}, {@link AdvanceAlgorithms#secondSmallest},
+ * {@link CompetitiveAlgorithms#majorityElement} and {@link AdvanceAlgorithms#kadaneMaxSubArraySum}
+ * one after the other, each reading the whole array from memory again.
+ *
+ * The caller picks the {@link Aggregate}s it needs; the others cost nothing.
+ *
+ * Pattern: Cache blocking. The values are walked in blocks of {@value #BLOCK_SIZE} (8 KB, fits in L1).
+ * Each selected aggregate runs its own tight loop over the block (sum, min and max share one),
+ * so the array is read from memory once, and every loop stays simple enough for the JIT to
+ * unroll or vectorize (one loop with every aggregate mixed in would be held back by its slowest branch).
+ *
+ * Three ways to feed it:
+ * - one array: {@link #compute(int[], Aggregate...)}
+ * - in parallel: {@link #parallelCompute(int[], Aggregate...)}, fork-join over ranges, merged with {@link #combine}
+ * - as a stream: create one with {@link #of(Aggregate...)} and push values or chunks with {@link #accept};
+ *   it is an {@link IntSink}, so any algorithm that reports values to a sink can feed it.
+ *
+ * Sums are kept in a long, so they do not wrap like the int versions.
+ * Time complexity: O(n) for any selection. Space complexity: O(1).
+ * Not thread-safe (the parallel variant gives each task its own instance).
+ */
+public final class ArrayStatistics implements IntSink {
+
+    /**
+     * The reductions {@link ArrayStatistics} can compute. The count is always kept.
+     */
+    public enum Aggregate {
+        /** Sum of all values (long). */
+        SUM,
+        /** Arithmetic mean (needs the sum, so selects it too). */
+        MEAN,
+        /** Smallest value. */
+        MIN,
+        /** Largest value. */
+        MAX,
+        /** Largest value below the maximum, as {@link AdvanceAlgorithms#secondLargest}. */
+        SECOND_LARGEST,
+        /** Smallest value above the minimum, as {@link AdvanceAlgorithms#secondSmallest}. */
+        SECOND_SMALLEST,
+        /** Boyer-Moore majority candidate, as {@link CompetitiveAlgorithms#majorityElement}. */
+        MAJORITY,
+        /** Maximum subarray sum (Kadane), as {@link AdvanceAlgorithms#kadaneMaxSubArraySum}. */
+        MAX_SUBARRAY_SUM
+    }
+
+    /** Values per block: each selected aggregate's loop runs over the block while it is in L1. */
+    static final int BLOCK_SIZE = 2048;
+
+    /** Ranges up to this size are reduced sequentially by {@link #parallelCompute}. */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final int selected;     // bit i set → Aggregate.values()[i] selected
+    private final boolean sum, min, max, secondLargest, secondSmallest, majority, kadane;
+
+    private long count;
+    private long total;
+    private int minValue = Integer.MAX_VALUE;
+    private int maxValue = Integer.MIN_VALUE;
+    private int largest = Integer.MIN_VALUE, secondLargestValue = Integer.MIN_VALUE;
+    private int smallest = Integer.MAX_VALUE, secondSmallestValue = Integer.MAX_VALUE;
+    private int candidate;
+    private long votes;
+    // Kadane state that merges: sum of all values, best prefix, best suffix, best subarray
+    private long kadaneTotal, bestPrefix, bestSuffix, bestSubarray;
+
+    private ArrayStatistics(int selected) {
+        this.selected = selected;
+        this.sum = has(selected, Aggregate.SUM);
+        this.min = has(selected, Aggregate.MIN);
+        this.max = has(selected, Aggregate.MAX);
+        this.secondLargest = has(selected, Aggregate.SECOND_LARGEST);
+        this.secondSmallest = has(selected, Aggregate.SECOND_SMALLEST);
+        this.majority = has(selected, Aggregate.MAJORITY);
+        this.kadane = has(selected, Aggregate.MAX_SUBARRAY_SUM);
+    }
+
+    /**
+     * Creates an empty accumulator, to be fed with {@link #accept}.
+     *
+     * @param aggregates the reductions to compute (none → only the count)
+     * @return an empty accumulator
+     */
+    public static ArrayStatistics of(Aggregate... aggregates) {
+        int selected = 0;
+        for (Aggregate aggregate : aggregates) {
+            selected |= 1 << aggregate.ordinal();
+        }
+        if (has(selected, Aggregate.MEAN)) selected |= 1 << Aggregate.SUM.ordinal();
+        return new ArrayStatistics(selected);
+    }
+
+    /**
+     * Computes the selected reductions of an array in one pass.
+     *
+     * @param arr        the values
+     * @param aggregates the reductions to compute
+     * @return the results
+     */
+    public static ArrayStatistics compute(int[] arr, Aggregate... aggregates) {
+        ArrayStatistics stats = of(aggregates);
+        stats.accept(arr, 0, arr.length);
+        return stats;
+    }
+
+    /**
+     * Computes the selected reductions of a source (memory-mapped file, off-heap memory ...) in one pass,
+     * reading it block by block.
+     *
+     * @param src        the values
+     * @param aggregates the reductions to compute
+     * @return the results
+     */
+    public static ArrayStatistics compute(IntSource src, Aggregate... aggregates) {
+        ArrayStatistics stats = of(aggregates);
+        int[] block = new int[BLOCK_SIZE];
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = (int) Math.min(BLOCK_SIZE, src.length() - base);
+            src.read(base, block, 0, len);
+            stats.accept(block, 0, len);
+        }
+        return stats;
+    }
+
+    /**
+     * Computes the selected reductions in parallel, with {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param arr        the values
+     * @param aggregates the reductions to compute
+     * @return the results
+     */
+    public static ArrayStatistics parallelCompute(int[] arr, Aggregate... aggregates) {
+        return parallelCompute(arr, DEFAULT_THRESHOLD, aggregates);
+    }
+
+    /**
+     * Computes the selected reductions in parallel.
+     *
+     * Pattern: Fork-join. Each leaf range gets its own accumulator; two halves merge with
+     * {@link #combine}, so every aggregate is an associative merge (see there).
+     * The majority candidate follows the merged Boyer-Moore vote of {@link ParallelAlgorithms#majorityElement};
+     * like there, it is only meaningful when a real majority exists.
+     * Time complexity: O(n / p + log n) with p cores.
+     *
+     * @param arr        the values
+     * @param threshold  ranges up to this size are reduced sequentially
+     * @param aggregates the reductions to compute
+     * @return the results
+     */
+    public static ArrayStatistics parallelCompute(int[] arr, int threshold, Aggregate... aggregates) {
+        if (threshold < 1) throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        return new StatisticsTask(arr, 0, arr.length, threshold, of(aggregates).selected).invoke();
+    }
+
+    /**
+     * Adds the next value of the stream.
+     *
+     * @param value next value
+     */
+    @Override
+    public void accept(int value) {
+        if (sum) total += value;
+        if (min && value < minValue) minValue = value;
+        if (max && value > maxValue) maxValue = value;
+        if (secondLargest) offerLargest(value);
+        if (secondSmallest) offerSmallest(value);
+        if (majority) {
+            if (votes == 0) candidate = value;  // Pick new candidate
+            votes += (value == candidate) ? 1 : -1;
+        }
+        if (kadane) {
+            if (count == 0) {
+                kadaneTotal = bestPrefix = bestSuffix = bestSubarray = value;
+            } else {
+                kadaneTotal += value;
+                bestPrefix = Math.max(bestPrefix, kadaneTotal);
+                bestSuffix = Math.max(bestSuffix + value, value);
+                bestSubarray = Math.max(bestSubarray, bestSuffix);
+            }
+        }
+        count++;
+    }
+
+    /**
+     * Adds the values arr[from .. to) of the stream, in order.
+     *
+     * @param arr  array holding the values
+     * @param from first index (inclusive)
+     * @param to   last index (exclusive)
+     */
+    public void accept(int[] arr, int from, int to) {
+        if (from < 0 || to > arr.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + arr.length);
+        }
+        for (int lo = from; lo < to; lo += BLOCK_SIZE) {
+            int hi = Math.min(to, lo + BLOCK_SIZE);
+            if (min || max) sumMinMaxBlock(arr, lo, hi);
+            else if (sum) sumBlock(arr, lo, hi);
+            if (secondLargest) secondLargestBlock(arr, lo, hi);
+            if (secondSmallest) secondSmallestBlock(arr, lo, hi);
+            if (majority) majorityBlock(arr, lo, hi);
+            if (kadane) kadaneBlock(arr, lo, hi);
+            count += hi - lo;
+        }
+    }
+
+    /**
+     * Merges the results of the values that come right after this accumulator's values
+     * (e.g. the right half of a range) into this one.
+     *
+     * Every aggregate merges in O(1):
+     * - sum, count, min, max: add / min / max
+     * - second largest / smallest: the distinct top 2 of both sides are among their 4 top values
+     * - majority: two Boyer-Moore votes cancel out, the stronger one survives with the difference
+     * - max subarray: the best subarray is on the left, on the right, or the left's best suffix
+     *   followed by the right's best prefix
+     *
+     * @param next accumulator of the following values, with the same aggregates selected
+     * @return this accumulator
+     */
+    public ArrayStatistics combine(ArrayStatistics next) {
+        if (next.selected != selected) {
+            throw new IllegalArgumentException("Cannot combine statistics with different aggregates: "
+                    + selection() + " and " + next.selection());
+        }
+        if (next.count == 0) return this;
+        if (sum) total += next.total;
+        if (min) minValue = Math.min(minValue, next.minValue);
+        if (max) maxValue = Math.max(maxValue, next.maxValue);
+        if (secondLargest) {
+            offerLargest(next.largest);
+            offerLargest(next.secondLargestValue);
+        }
+        if (secondSmallest) {
+            offerSmallest(next.smallest);
+            offerSmallest(next.secondSmallestValue);
+        }
+        if (majority) {
+            if (candidate == next.candidate || votes == 0) {
+                candidate = next.candidate;
+                votes += next.votes;
+            } else if (votes >= next.votes) {
+                votes -= next.votes;
+            } else {
+                candidate = next.candidate;
+                votes = next.votes - votes;
+            }
+        }
+        if (kadane) {
+            if (count == 0) {
+                kadaneTotal = next.kadaneTotal;
+                bestPrefix = next.bestPrefix;
+                bestSuffix = next.bestSuffix;
+                bestSubarray = next.bestSubarray;
+            } else {
+                bestSubarray = Math.max(Math.max(bestSubarray, next.bestSubarray), bestSuffix + next.bestPrefix);
+                bestPrefix = Math.max(bestPrefix, kadaneTotal + next.bestPrefix);
+                bestSuffix = Math.max(next.bestSuffix, bestSuffix + next.kadaneTotal);
+                kadaneTotal += next.kadaneTotal;
+            }
+        }
+        count += next.count;
+        return this;
+    }
+
+    /**
+     * @return number of values seen (always kept)
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return exact sum of the values (0 when empty)
+     */
+    public long sum() {
+        require(Aggregate.SUM);
+        return total;
+    }
+
+    /**
+     * @return arithmetic mean of the values (NaN when empty, like {@link BasicArrayAlgorithms#averageArray})
+     */
+    public double mean() {
+        require(Aggregate.MEAN);
+        return (double) total / count;
+    }
+
+    /**
+     * @return smallest value
+     */
+    public int min() {
+        require(Aggregate.MIN);
+        requireValues();
+        return minValue;
+    }
+
+    /**
+     * @return largest value
+     */
+    public int max() {
+        require(Aggregate.MAX);
+        requireValues();
+        return maxValue;
+    }
+
+    /**
+     * @return largest value below the maximum, Integer.MIN_VALUE if there is none
+     */
+    public int secondLargest() {
+        require(Aggregate.SECOND_LARGEST);
+        return secondLargestValue;
+    }
+
+    /**
+     * @return smallest value above the minimum, Integer.MAX_VALUE if there is none
+     */
+    public int secondSmallest() {
+        require(Aggregate.SECOND_SMALLEST);
+        return secondSmallestValue;
+    }
+
+    /**
+     * @return the value that occurs more than count/2 times, if one does (otherwise meaningless)
+     */
+    public int majorityCandidate() {
+        require(Aggregate.MAJORITY);
+        requireValues();
+        return candidate;
+    }
+
+    /**
+     * @return largest sum of a non-empty contiguous run of values
+     */
+    public long maxSubarraySum() {
+        require(Aggregate.MAX_SUBARRAY_SUM);
+        requireValues();
+        return bestSubarray;
+    }
+
+    /**
+     * @return an independent accumulator with the same selection and results as this one
+     */
+    public ArrayStatistics copy() {
+        ArrayStatistics copy = new ArrayStatistics(selected);
+        copy.count = count;
+        copy.total = total;
+        copy.minValue = minValue;
+        copy.maxValue = maxValue;
+        copy.largest = largest;
+        copy.secondLargestValue = secondLargestValue;
+        copy.smallest = smallest;
+        copy.secondSmallestValue = secondSmallestValue;
+        copy.candidate = candidate;
+        copy.votes = votes;
+        copy.kadaneTotal = kadaneTotal;
+        copy.bestPrefix = bestPrefix;
+        copy.bestSuffix = bestSuffix;
+        copy.bestSubarray = bestSubarray;
+        return copy;
+    }
+
+    /**
+     * Forgets all values, keeping the selection, so the accumulator can be reused without allocating.
+     */
+    public void reset() {
+        count = total = votes = 0;
+        kadaneTotal = bestPrefix = bestSuffix = bestSubarray = 0;
+        candidate = 0;
+        minValue = smallest = secondSmallestValue = Integer.MAX_VALUE;
+        maxValue = largest = secondLargestValue = Integer.MIN_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("count=").append(count);
+        if (sum) sb.append(", sum=").append(total);
+        if (has(selected, Aggregate.MEAN)) sb.append(", mean=").append(mean());
+        if (count > 0) {
+            if (min) sb.append(", min=").append(minValue);
+            if (max) sb.append(", max=").append(maxValue);
+        }
+        if (secondLargest) sb.append(", secondLargest=").append(secondLargestValue);
+        if (secondSmallest) sb.append(", secondSmallest=").append(secondSmallestValue);
+        if (count > 0) {
+            if (majority) sb.append(", majorityCandidate=").append(candidate);
+            if (kadane) sb.append(", maxSubarraySum=").append(bestSubarray);
+        }
+        return sb.toString();
+    }
+
+    // ===== Per-aggregate loops over one block =====
+
+    // Exact sum with int adds only (vectorizes better than widening every value to long):
+    // the high and low 16 bits are summed apart, neither overflows within one block
+    private void sumBlock(int[] arr, int lo, int hi) {
+        int high = 0, low = 0;
+        for (int i = lo; i < hi; i++) {
+            int num = arr[i];
+            high += num >> 16;
+            low += num & 0xFFFF;
+        }
+        total += ((long) high << 16) + low;
+    }
+
+    // The min / max compares are branches (well predicted: new extremes are rare), so this loop
+    // is scalar anyway and the sum rides along for one add; the unused results are dropped
+    private void sumMinMaxBlock(int[] arr, int lo, int hi) {
+        long s = 0;
+        int mn = minValue, mx = maxValue;
+        for (int i = lo; i < hi; i++) {
+            int num = arr[i];
+            s += num;
+            if (num < mn) mn = num;
+            if (num > mx) mx = num;
+        }
+        if (sum) total += s;
+        if (min) minValue = mn;
+        if (max) maxValue = mx;
+    }
+
+    private void secondLargestBlock(int[] arr, int lo, int hi) {
+        int first = largest, second = secondLargestValue;
+        for (int i = lo; i < hi; i++) {
+            int num = arr[i];
+            if (num > first) {
+                second = first;
+                first = num;
+            } else if (num > second && num != first) {
+                second = num;
+            }
+        }
+        largest = first;
+        secondLargestValue = second;
+    }
+
+    private void secondSmallestBlock(int[] arr, int lo, int hi) {
+        int first = smallest, second = secondSmallestValue;
+        for (int i = lo; i < hi; i++) {
+            int num = arr[i];
+            if (num < first) {
+                second = first;
+                first = num;
+            } else if (num < second && num != first) {
+                second = num;
+            }
+        }
+        smallest = first;
+        secondSmallestValue = second;
+    }
+
+    private void majorityBlock(int[] arr, int lo, int hi) {
+        int c = candidate;
+        long v = votes;
+        for (int i = lo; i < hi; i++) {
+            int num = arr[i];
+            if (v == 0) c = num;  // Pick new candidate
+            v += (num == c) ? 1 : -1;
+        }
+        candidate = c;
+        votes = v;
+    }
+
+    private void kadaneBlock(int[] arr, int lo, int hi) {
+        int i = lo;
+        if (count == 0) {
+            kadaneTotal = bestPrefix = bestSuffix = bestSubarray = arr[i++];
+        }
+        long t = kadaneTotal, prefix = bestPrefix, suffix = bestSuffix, best = bestSubarray;
+        for (; i < hi; i++) {
+            int num = arr[i];
+            t += num;
+            prefix = Math.max(prefix, t);
+            suffix = Math.max(suffix + num, num);   // Extend the current run or start a new one
+            best = Math.max(best, suffix);
+        }
+        kadaneTotal = t;
+        bestPrefix = prefix;
+        bestSuffix = suffix;
+        bestSubarray = best;
+    }
+
+    // Same update rule as the block loop, for single values and for merging
+    private void offerLargest(int num) {
+        if (num > largest) {
+            secondLargestValue = largest;
+            largest = num;
+        } else if (num > secondLargestValue && num != largest) {
+            secondLargestValue = num;
+        }
+    }
+
+    private void offerSmallest(int num) {
+        if (num < smallest) {
+            secondSmallestValue = smallest;
+            smallest = num;
+        } else if (num < secondSmallestValue && num != smallest) {
+            secondSmallestValue = num;
+        }
+    }
+
+    private static boolean has(int selected, Aggregate aggregate) {
+        return (selected & (1 << aggregate.ordinal())) != 0;
+    }
+
+    private void require(Aggregate aggregate) {
+        if (!has(selected, aggregate)) {
+            throw new IllegalStateException(aggregate + " was not selected: " + selection());
+        }
+    }
+
+    private void requireValues() {
+        if (count == 0) throw new IllegalStateException("No values yet");
+    }
+
+    private String selection() {
+        return Arrays.toString(Arrays.stream(Aggregate.values()).filter(a -> has(selected, a)).toArray());
+    }
+
+    /**
+     * Statistics of the range [lo, hi).
+     */
+    private static final class StatisticsTask extends RecursiveTask<ArrayStatistics> {
+        private final int[] arr;
+        private final int lo, hi, threshold, selected;
+
+        StatisticsTask(int[] arr, int lo, int hi, int threshold, int selected) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+            this.selected = selected;
+        }
+
+        @Override
+        protected ArrayStatistics compute() {
+            if (hi - lo <= threshold) {
+                ArrayStatistics stats = new ArrayStatistics(selected);
+                stats.accept(arr, lo, hi);
+                return stats;
+            }
+            int mid = (lo + hi) >>> 1;
+            StatisticsTask left = new StatisticsTask(arr, lo, mid, threshold, selected);
+            left.fork();
+            ArrayStatistics right = new StatisticsTask(arr, mid, hi, threshold, selected).compute();
+            return left.join().combine(right);
+        }
+    }
+}
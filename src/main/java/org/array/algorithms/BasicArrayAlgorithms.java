@@ -10,6 +10,12 @@ package org.array.algorithms;
  */
 public class BasicArrayAlgorithms {
 
+    // Instrumentation (see Metrics; compiled away unless enabled)
+    private static final OperationMetrics SUM_ARRAY = Metrics.operation("BasicArrayAlgorithms.sumArray");
+    private static final OperationMetrics FIND_MIN_MAX = Metrics.operation("BasicArrayAlgorithms.findMinMax");
+    private static final OperationMetrics AVERAGE_ARRAY = Metrics.operation("BasicArrayAlgorithms.averageArray");
+    private static final OperationMetrics REVERSE_ARRAY = Metrics.operation("BasicArrayAlgorithms.reverseArray");
+
     /**
      * Print all elements of the array.
      *
@@ -20,10 +26,26 @@ public class BasicArrayAlgorithms {
      * Time complexity: O(n) → because we read the whole array once.
      */
     public static void printArray(int[] arr) {
+        ConsoleSink console = new ConsoleSink();
+        printArray(arr, console.values());
+        console.println().flush();
+    }
+
+    /**
+     * Send all elements of the array to a sink, in order.
+     *
+     * Pattern: Traversal; the caller decides what "printing" means
+     * (console, log, buffer ...), so the loop itself does no I/O.
+     *
+     * @param arr  the array to print
+     * @param sink receives every element
+     *
+     * Time complexity: O(n).
+     */
+    public static void printArray(int[] arr, IntSink sink) {
         for (int num : arr) {
-            System.out.print(num + " ");
+            sink.accept(num);
         }
-        System.out.println();
     }
 
     /**
@@ -46,6 +68,14 @@ public class BasicArrayAlgorithms {
      * Time complexity: O(n).
      */
     public static int sumArray(int[] arr) {
+        long start = Metrics.start();
+        int sum = sum(arr);
+        SUM_ARRAY.end(start, arr.length);
+        return sum;
+    }
+
+    // Uninstrumented loop shared by sumArray and averageArray, so averageArray is not also counted as a sumArray call
+    private static int sum(int[] arr) {
         int sum = 0;
         for (int num : arr) {
             sum += num;
@@ -69,19 +99,40 @@ public class BasicArrayAlgorithms {
      *  Space complexity: O(1)
      */
     public static void findMinMax(int[] arr) {
+        ConsoleSink console = new ConsoleSink();
+        // The sink receives (min, max); the message shows max first
+        findMinMax(arr, (min, max) -> console.print("Max = ").print(max).print(", Min = ").print(min).println());
+        console.flush();
+    }
+
+    /**
+     * Find the minimum and maximum element in the array and send them to a sink.
+     *
+     * Same algorithm as {@link #findMinMax(int[])}, without any I/O.
+     *
+     * @param arr  the array to process
+     * @param sink receives (min, max)
+     *
+     *  Time complexity: O(n).
+     *  Space complexity: O(1)
+     */
+    public static void findMinMax(int[] arr, IntPairSink sink) {
+        long start = Metrics.start();
         int max = arr[0];
         int min = arr[0];
         for (int i = 1; i < arr.length; i++) {
             if (arr[i] > max) max = arr[i];
             if (arr[i] < min) min = arr[i];
         }
-        System.out.println("Max = " + max + ", Min = " + min);
+        FIND_MIN_MAX.end(start, arr.length, 2L * (arr.length - 1), false);
+        sink.accept(min, max);
     }
 
     /**
      * Calculate the average of the array elements.
      *
      * Follows Separation of Concerns: sum calculation is separate from average calculation.
+     * To get the average together with other statistics in one pass, see {@link ArrayStatistics}.
      *
      * @param arr the array whose average to compute
      * @return the average value
@@ -89,7 +140,9 @@ public class BasicArrayAlgorithms {
      * Time complexity: O(n) → because sumArray is O(n).
      */
     public static double averageArray(int[] arr) {
-        int sum = sumArray(arr);
+        long start = Metrics.start();
+        int sum = sum(arr);
+        AVERAGE_ARRAY.end(start, arr.length);
         return (double) sum / arr.length;
     }
 
@@ -108,10 +161,12 @@ public class BasicArrayAlgorithms {
      *  Space complexity: O(1) → only a single temporary variable temp is used.
      */
     public static void reverseArray(int[] arr) {
+        long start = Metrics.start();
         for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
             int temp = arr[i];
             arr[i] = arr[j];
             arr[j] = temp;
         }
+        REVERSE_ARRAY.end(start, arr.length, 0, arr.length / 2);
     }
 }
@@ -0,0 +1,557 @@
+package org.array.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A columnar binary file of ints, split into fixed-size chunks that each carry their own
+ * count, min, max and sum, memory-mapped and decoded one chunk at a time.
+ *
+ * Compared to a plain {@link MappedIntFile}:
+ * - smaller: each chunk is stored bit-packed or delta + bit-packed, whichever is smaller, or RAW when
+ *   packing would save less than a quarter (see {@link ChunkedIntFileWriter}), so narrow or sorted data
+ *   takes a fraction of 4 bytes per value;
+ * - many queries skip the data: {@link #sum()}, {@link #min()} and {@link #max()} read only the
+ *   chunk statistics; {@link #linearSearch} and {@link #countInRange} skip every chunk whose
+ *   [min, max] rules it out; {@link #rangeSum} decodes only the two chunks at its ends.
+ *
+ * File layout (little-endian):
+ * - header, {@value #HEADER_BYTES} bytes: magic, version, chunk size, reserved;
+ * - the chunk payloads, in order, as 32-bit words;
+ * - the chunk directory, {@value #DIRECTORY_ENTRY_BYTES} bytes per chunk: payload offset, payload words,
+ *   count, min, max, sum, encoding, bit width;
+ * - trailer, {@value #TRAILER_BYTES} bytes: directory offset, number of values, number of chunks, magic.
+ * The directory sits at the end (as in Parquet) so the writer can stream chunks out before it knows
+ * how many there will be. Opening a file reads only the trailer and the directory.
+ *
+ * Every chunk holds exactly chunk size values except the last, so index → chunk is one division.
+ *
+ * Not thread-safe: decoding reuses one buffer (the last decoded chunk is kept, so
+ * sequential {@link #get} calls decode each chunk once). Open one instance per thread.
+ */
+public final class ChunkedIntFile implements IntSource, Closeable {
+
+    static final int MAGIC = 0x49434E4B;   // "KNCI" in file byte order
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int DIRECTORY_ENTRY_BYTES = 40;
+    static final int TRAILER_BYTES = 24;
+
+    /** Largest allowed chunk size (values per chunk). */
+    public static final int MAX_CHUNK_SIZE = 1 << 20;
+
+    // Chunk encodings
+    static final byte RAW = 0;
+    static final byte BIT_PACKED = 1;
+    static final byte DELTA = 2;
+
+    private final FileChannel channel;
+    private final long fileBytes;
+    private final long length;
+    private final int chunkSize;
+    private final int chunkCount;
+
+    // Chunk directory
+    private final int[] words;
+    private final int[] counts;
+    private final int[] mins;
+    private final int[] maxs;
+    private final long[] sums;
+    private final byte[] encodings;
+    private final byte[] widths;
+
+    // Where each payload is mapped: window, and word index inside it
+    private final IntBuffer[] windows;
+    private final int[] windowOf;
+    private final int[] positions;
+
+    private final int[] packed;     // encoded words of one chunk
+    private final int[] decoded;    // values of chunk decodedChunk
+    private int decodedChunk = -1;
+
+    /**
+     * Opens a file written by {@link ChunkedIntFileWriter}.
+     *
+     * @param path file to open
+     * @return the opened file
+     * @throws IOException if the file cannot be read or is not a valid chunked int file
+     */
+    public static ChunkedIntFile open(Path path) throws IOException {
+        return new ChunkedIntFile(path);
+    }
+
+    /**
+     * Writes an array as a chunked int file, with the default chunk size and compression.
+     *
+     * @param path destination file (created or truncated)
+     * @param arr  values to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int[] arr) throws IOException {
+        try (ChunkedIntFileWriter writer = new ChunkedIntFileWriter(path)) {
+            writer.write(arr, 0, arr.length);
+        }
+    }
+
+    private ChunkedIntFile(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            fileBytes = channel.size();
+            if (fileBytes < HEADER_BYTES + TRAILER_BYTES) {
+                throw corrupt(path, "too short");
+            }
+            ByteBuffer header = readAt(HEADER_BYTES, 0);
+            if (header.getInt() != MAGIC) throw corrupt(path, "bad magic");
+            if (header.getInt() != VERSION) throw corrupt(path, "unsupported version");
+            chunkSize = header.getInt();
+            if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) throw corrupt(path, "bad chunk size " + chunkSize);
+
+            ByteBuffer trailer = readAt(TRAILER_BYTES, fileBytes - TRAILER_BYTES);
+            long directory = trailer.getLong();
+            length = trailer.getLong();
+            chunkCount = trailer.getInt();
+            if (trailer.getInt() != MAGIC) throw corrupt(path, "bad trailer (file not closed?)");
+            if (chunkCount < 0 || directory < HEADER_BYTES
+                    || directory + (long) chunkCount * DIRECTORY_ENTRY_BYTES != fileBytes - TRAILER_BYTES) {
+                throw corrupt(path, "bad directory");
+            }
+
+            long[] offsets = new long[chunkCount];
+            words = new int[chunkCount];
+            counts = new int[chunkCount];
+            mins = new int[chunkCount];
+            maxs = new int[chunkCount];
+            sums = new long[chunkCount];
+            encodings = new byte[chunkCount];
+            widths = new byte[chunkCount];
+            ByteBuffer entries = readAt(Math.toIntExact((long) chunkCount * DIRECTORY_ENTRY_BYTES), directory);
+            long total = 0;
+            long next = HEADER_BYTES;
+            for (int c = 0; c < chunkCount; c++) {
+                offsets[c] = entries.getLong();
+                words[c] = entries.getInt();
+                counts[c] = entries.getInt();
+                mins[c] = entries.getInt();
+                maxs[c] = entries.getInt();
+                sums[c] = entries.getLong();
+                encodings[c] = entries.get();
+                widths[c] = entries.get();
+                entries.position(entries.position() + 6);
+                if (offsets[c] != next || !validChunk(c)) {
+                    throw corrupt(path, "bad chunk " + c);
+                }
+                next += (long) words[c] * Integer.BYTES;
+                total += counts[c];
+            }
+            if (next != directory || total != length) throw corrupt(path, "chunks do not match trailer");
+
+            // Map whole chunks into windows of at most MappedIntFile.DEFAULT_CHUNK_BYTES
+            windowOf = new int[chunkCount];
+            positions = new int[chunkCount];
+            List<IntBuffer> mapped = new ArrayList<>();
+            int first = 0;
+            while (first < chunkCount) {
+                long start = offsets[first];
+                int last = first;
+                while (last + 1 < chunkCount
+                        && offsets[last + 1] + (long) words[last + 1] * Integer.BYTES - start <= MappedIntFile.DEFAULT_CHUNK_BYTES) {
+                    last++;
+                }
+                long end = offsets[last] + (long) words[last] * Integer.BYTES;
+                for (int c = first; c <= last; c++) {
+                    windowOf[c] = mapped.size();
+                    positions[c] = (int) ((offsets[c] - start) / Integer.BYTES);
+                }
+                mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)
+                        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
+                first = last + 1;
+            }
+            windows = mapped.toArray(new IntBuffer[0]);
+
+            packed = new int[ChunkedIntFileWriter.packedWords(chunkSize, 32)];
+            decoded = new int[chunkSize];
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Every chunk but the last is full, and the payload size matches the encoding
+    private boolean validChunk(int c) {
+        int n = counts[c];
+        int width = widths[c];
+        if (n < 1 || n > chunkSize || (n < chunkSize && c != chunkCount - 1)) return false;
+        if (width < 0 || width > 32 || mins[c] > maxs[c]) return false;
+        switch (encodings[c]) {
+            case RAW:
+                return words[c] == n;
+            case BIT_PACKED:
+                return words[c] == ChunkedIntFileWriter.packedWords(n, width);
+            case DELTA:
+                return n > 1 && words[c] == 2 + ChunkedIntFileWriter.packedWords(n - 1, width);
+            default:
+                return false;
+        }
+    }
+
+    private ByteBuffer readAt(int bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static IOException corrupt(Path path, String reason) {
+        return new IOException("Corrupt chunked int file: " + path + " (" + reason + ")");
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * @return values per chunk (the last chunk may hold fewer)
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return number of chunks
+     */
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * @return size of the file in bytes (compare with 4 * {@link #length()} for the compression ratio)
+     */
+    public long sizeInBytes() {
+        return fileBytes;
+    }
+
+    /**
+     * @param chunk chunk number in [0, chunkCount())
+     * @return number of values in the chunk
+     */
+    public int chunkLength(int chunk) {
+        return counts[chunk];
+    }
+
+    /**
+     * @param chunk chunk number in [0, chunkCount())
+     * @return smallest value in the chunk
+     */
+    public int chunkMin(int chunk) {
+        return mins[chunk];
+    }
+
+    /**
+     * @param chunk chunk number in [0, chunkCount())
+     * @return largest value in the chunk
+     */
+    public int chunkMax(int chunk) {
+        return maxs[chunk];
+    }
+
+    /**
+     * @param chunk chunk number in [0, chunkCount())
+     * @return exact sum of the chunk
+     */
+    public long chunkSum(int chunk) {
+        return sums[chunk];
+    }
+
+    @Override
+    public int get(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return chunk((int) (index / chunkSize))[(int) (index % chunkSize)];
+    }
+
+    @Override
+    public void read(long from, int[] dst, int offset, int length) {
+        if (from < 0 || length < 0 || from > this.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length + ") out of bounds for length " + this.length);
+        }
+        while (length > 0) {
+            int c = (int) (from / chunkSize);
+            int position = (int) (from % chunkSize);
+            int count = Math.min(length, counts[c] - position);
+            if (count == counts[c]) {
+                decode(c, dst, offset);     // whole chunk: straight into dst
+            } else {
+                System.arraycopy(chunk(c), position, dst, offset, count);
+            }
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * @return all values, in a new array (the file must hold fewer than 2^31 values)
+     */
+    public int[] toArray() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many values for an array: " + length);
+        }
+        int[] out = new int[(int) length];
+        for (int c = 0; c < chunkCount; c++) {
+            decode(c, out, c * chunkSize);
+        }
+        return out;
+    }
+
+    /**
+     * Exact sum of all values, from the chunk statistics (no data is read).
+     *
+     * Time complexity: O(chunks).
+     *
+     * @return the sum
+     */
+    public long sum() {
+        long sum = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            sum += sums[c];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of all values, wrapping on int overflow, as {@link BasicArrayAlgorithms#sumArray}.
+     * From the chunk statistics (no data is read).
+     *
+     * @return the sum (int arithmetic)
+     */
+    public int sumArray() {
+        return (int) sum();     // low 32 bits of the exact sum = the wrapped int sum
+    }
+
+    /**
+     * Smallest value, from the chunk statistics (no data is read).
+     *
+     * @return the minimum
+     * @throws IllegalStateException if the file holds no values
+     */
+    public int min() {
+        checkNotEmpty();
+        int min = mins[0];
+        for (int c = 1; c < chunkCount; c++) {
+            if (mins[c] < min) min = mins[c];
+        }
+        return min;
+    }
+
+    /**
+     * Largest value, from the chunk statistics (no data is read).
+     *
+     * @return the maximum
+     * @throws IllegalStateException if the file holds no values
+     */
+    public int max() {
+        checkNotEmpty();
+        int max = maxs[0];
+        for (int c = 1; c < chunkCount; c++) {
+            if (maxs[c] > max) max = maxs[c];
+        }
+        return max;
+    }
+
+    /**
+     * Minimum and maximum value, as {@link BasicArrayAlgorithms#findMinMax(int[], IntPairSink)}.
+     * From the chunk statistics (no data is read).
+     *
+     * @param sink receives (min, max)
+     * @throws IllegalStateException if the file holds no values
+     */
+    public void findMinMax(IntPairSink sink) {
+        sink.accept(min(), max());
+    }
+
+    /**
+     * Linear search, as {@link IntermediateArrayAlgorithms#linearSearch}, decoding only the chunks
+     * whose [min, max] contains the target.
+     *
+     * Time complexity: O(chunks) when the target is out of range of every chunk;
+     * O(n) in the worst case (every chunk spans the target, e.g. random data).
+     *
+     * @param target the value to search for
+     * @return index of the first match, else -1
+     */
+    public long linearSearch(int target) {
+        for (int c = 0; c < chunkCount; c++) {
+            if (target < mins[c] || target > maxs[c]) continue;
+            long base = (long) c * chunkSize;
+            if (mins[c] == maxs[c]) return base;    // every value equals target
+            int[] values = chunk(c);
+            for (int i = 0, n = counts[c]; i < n; i++) {
+                if (values[i] == target) return base + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Number of values v with lo <= v <= hi. Chunks entirely inside [lo, hi] are counted from their
+     * statistics, chunks entirely outside are skipped; only chunks that straddle a bound are decoded.
+     *
+     * @param lo smallest value counted
+     * @param hi largest value counted
+     * @return the count (0 if lo > hi)
+     */
+    public long countInRange(int lo, int hi) {
+        long count = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            if (hi < mins[c] || lo > maxs[c]) continue;
+            if (lo <= mins[c] && maxs[c] <= hi) {
+                count += counts[c];
+                continue;
+            }
+            int[] values = chunk(c);
+            for (int i = 0, n = counts[c]; i < n; i++) {
+                int v = values[i];
+                if (v >= lo && v <= hi) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Exact sum of the values at positions [from, to). Whole chunks are summed from their statistics;
+     * only the (at most two) partly covered chunks at the ends are decoded.
+     *
+     * Time complexity: O(chunks + chunk size).
+     *
+     * @param from first position (inclusive)
+     * @param to   last position (exclusive)
+     * @return the sum
+     */
+    public long rangeSum(long from, long to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+        long sum = 0;
+        while (from < to) {
+            int c = (int) (from / chunkSize);
+            int position = (int) (from % chunkSize);
+            int count = (int) Math.min(to - from, counts[c] - position);
+            if (count == counts[c]) {
+                sum += sums[c];
+            } else {
+                int[] values = chunk(c);
+                for (int i = position, end = position + count; i < end; i++) {
+                    sum += values[i];
+                }
+            }
+            from += count;
+        }
+        return sum;
+    }
+
+    /**
+     * Closes the channel. The mapping stays valid until its buffers are garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void checkNotEmpty() {
+        if (chunkCount == 0) throw new IllegalStateException("File has no values");
+    }
+
+    // The decoded values of chunk c (decoded at most once in a row)
+    private int[] chunk(int c) {
+        if (decodedChunk != c) {
+            decode(c, decoded, 0);
+            decodedChunk = c;
+        }
+        return decoded;
+    }
+
+    // Writes the values of chunk c to dst[offset ..]
+    private void decode(int c, int[] dst, int offset) {
+        IntBuffer window = windows[windowOf[c]];
+        int position = positions[c];
+        int n = counts[c];
+        int width = widths[c];
+        switch (encodings[c]) {
+            case RAW:
+                window.get(position, dst, offset, n);
+                break;
+            case BIT_PACKED:
+                if (width == 0) {
+                    Arrays.fill(dst, offset, offset + n, mins[c]);
+                } else {
+                    window.get(position, packed, 0, words[c]);
+                    unpack(n, width, mins[c], dst, offset);
+                }
+                break;
+            default: {  // DELTA
+                int value = window.get(position);
+                int minDelta = window.get(position + 1);
+                dst[offset] = value;
+                if (width == 0) {
+                    for (int i = 1; i < n; i++) {
+                        value += minDelta;
+                        dst[offset + i] = value;
+                    }
+                } else {
+                    window.get(position + 2, packed, 0, words[c] - 2);
+                    unpackDeltas(n - 1, width, minDelta, value, dst, offset + 1);
+                }
+            }
+        }
+    }
+
+    // dst[offset + i] = base + (i-th width-bit field of packed), for i in [0, n)
+    private void unpack(int n, int width, int base, int[] dst, int offset) {
+        int[] words = packed;
+        long mask = width == 32 ? 0xFFFFFFFFL : (1L << width) - 1;
+        long bits = 0;      // not yet consumed bits, lowest first
+        int available = 0;
+        for (int i = 0, w = 0; i < n; i++) {
+            if (available < width) {
+                bits |= (words[w++] & 0xFFFFFFFFL) << available;
+                available += 32;
+            }
+            dst[offset + i] = base + (int) (bits & mask);
+            bits >>>= width;
+            available -= width;
+        }
+    }
+
+    // Like unpack, but each field is minDelta + (difference to the previous value), starting from first
+    private void unpackDeltas(int n, int width, int minDelta, int first, int[] dst, int offset) {
+        int[] words = packed;
+        long mask = width == 32 ? 0xFFFFFFFFL : (1L << width) - 1;
+        long bits = 0;
+        int available = 0;
+        int value = first;
+        for (int i = 0, w = 0; i < n; i++) {
+            if (available < width) {
+                bits |= (words[w++] & 0xFFFFFFFFL) << available;
+                available += 32;
+            }
+            value += minDelta + (int) (bits & mask);    // wraps like the encoder
+            dst[offset + i] = value;
+            bits >>>= width;
+            available -= width;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.array.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streaming writer of the {@link ChunkedIntFile} format.
+ *
+ * Values are pushed one at a time or in blocks; every {@code chunkSize} values become one chunk,
+ * encoded on the spot and appended to the file, so memory use does not grow with the data
+ * (only the chunk directory does: 40 bytes per chunk). The directory and the trailer are written by
+ * {@link #close()}; a file that was not closed cannot be opened.
+ *
+ * Encodings per chunk (see {@link Compression}):
+ * - RAW: the values as they are.
+ * - BIT_PACKED (frame of reference): value - chunk min, in just enough bits for max - min.
+ *   Values in a narrow range (ids, small counters) shrink from 32 bits to a few.
+ * - DELTA: the first value, then the differences between neighbours, frame-of-reference bit-packed.
+ *   Sorted or slowly changing data (timestamps, sorted ids) shrinks to the bits of its largest step.
+ *
+ * Not thread-safe.
+ */
+public final class ChunkedIntFileWriter implements IntSink, Closeable {
+
+    /**
+     * Which encodings the writer may use.
+     */
+    public enum Compression {
+        /** Every chunk RAW. */
+        NONE,
+        /** Frame-of-reference bit packing, or RAW when that saves less than a quarter. */
+        BIT_PACKED,
+        /** Delta + bit packing, or RAW when that saves less than a quarter. */
+        DELTA,
+        /** Whichever of BIT_PACKED and DELTA is smaller (or RAW when neither pays), chunk by chunk. */
+        AUTO
+    }
+
+    /** Values per chunk unless given (16 KB raw, decoded in L1). */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final FileChannel out;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private final int chunkSize;
+    private final Compression compression;
+
+    private final int[] chunk;
+    private int filled;
+    private final int[] deltas;
+    private final int[] packed;
+    private long position;      // bytes written to the file so far
+    private long length;        // values written so far
+    private boolean closed;
+
+    // Chunk directory, written at close
+    private long[] offsets = new long[16];
+    private int[] words = new int[16];
+    private int[] counts = new int[16];
+    private int[] mins = new int[16];
+    private int[] maxs = new int[16];
+    private long[] sums = new long[16];
+    private byte[] encodings = new byte[16];
+    private byte[] widths = new byte[16];
+    private int chunks;
+
+    /**
+     * Writer with {@link #DEFAULT_CHUNK_SIZE} and {@link Compression#AUTO}.
+     *
+     * @param path destination file (created or truncated)
+     * @throws IOException if the file cannot be created
+     */
+    public ChunkedIntFileWriter(Path path) throws IOException {
+        this(path, DEFAULT_CHUNK_SIZE, Compression.AUTO);
+    }
+
+    /**
+     * @param path        destination file (created or truncated)
+     * @param chunkSize   values per chunk, in [1, {@value ChunkedIntFile#MAX_CHUNK_SIZE}]
+     * @param compression encodings the writer may use
+     * @throws IOException if the file cannot be created
+     */
+    public ChunkedIntFileWriter(Path path, int chunkSize, Compression compression) throws IOException {
+        if (chunkSize < 1 || chunkSize > ChunkedIntFile.MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be in [1, " + ChunkedIntFile.MAX_CHUNK_SIZE + "]: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.compression = compression;
+        this.chunk = new int[chunkSize];
+        this.deltas = new int[chunkSize];
+        this.packed = new int[chunkSize + 1];   // + 1: pack() spills zero bits past the last word
+        this.out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        buffer.putInt(ChunkedIntFile.MAGIC).putInt(ChunkedIntFile.VERSION).putInt(chunkSize).putInt(0);
+        position = ChunkedIntFile.HEADER_BYTES;
+    }
+
+    /**
+     * Adds the next value. I/O errors are rethrown as {@link UncheckedIOException}, since
+     * {@link IntSink} cannot throw checked exceptions.
+     *
+     * @param value next value
+     */
+    @Override
+    public void accept(int value) {
+        checkOpen();
+        chunk[filled++] = value;
+        if (filled == chunkSize) {
+            try {
+                flushChunk();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Adds the values arr[from .. to), in order.
+     *
+     * @param arr  array holding the values
+     * @param from first index (inclusive)
+     * @param to   last index (exclusive)
+     * @throws IOException if writing fails
+     */
+    public void write(int[] arr, int from, int to) throws IOException {
+        checkOpen();
+        if (from < 0 || to > arr.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + arr.length);
+        }
+        while (from < to) {
+            int n = Math.min(to - from, chunkSize - filled);
+            System.arraycopy(arr, from, chunk, filled, n);
+            filled += n;
+            from += n;
+            if (filled == chunkSize) flushChunk();
+        }
+    }
+
+    /**
+     * @return number of values written so far
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Writes the last (partial) chunk, the chunk directory and the trailer, and closes the file.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            if (filled > 0) flushChunk();
+            long directory = position;
+            for (int c = 0; c < chunks; c++) {
+                ensureRoom(ChunkedIntFile.DIRECTORY_ENTRY_BYTES);
+                buffer.putLong(offsets[c]).putInt(words[c]).putInt(counts[c])
+                        .putInt(mins[c]).putInt(maxs[c]).putLong(sums[c])
+                        .put(encodings[c]).put(widths[c]).putShort((short) 0).putInt(0);
+            }
+            ensureRoom(ChunkedIntFile.TRAILER_BYTES);
+            buffer.putLong(directory).putLong(length).putInt(chunks).putInt(ChunkedIntFile.MAGIC);
+            drain();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        int n = filled;
+        int min = chunk[0], max = chunk[0];
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            int v = chunk[i];
+            if (v < min) min = v;
+            if (v > max) max = v;
+            sum += v;
+        }
+
+        // Size of each candidate encoding, in 32-bit words
+        int rawWords = n;
+        int forWidth = bitWidth(max - min);     // unsigned difference, fits in 32 bits
+        int forWords = packedWords(n, forWidth);
+        int minDelta = 0, deltaWidth = 0;
+        if (n > 1) {
+            int lo = chunk[1] - chunk[0], hi = lo;
+            for (int i = 1; i < n; i++) {
+                int d = chunk[i] - chunk[i - 1];    // may wrap: decoding wraps the same way
+                deltas[i - 1] = d;
+                if (d < lo) lo = d;
+                if (d > hi) hi = d;
+            }
+            minDelta = lo;
+            deltaWidth = bitWidth(hi - lo);
+        }
+        int deltaWords = 2 + packedWords(n - 1, deltaWidth);
+
+        byte encoding = ChunkedIntFile.RAW;
+        int best = rawWords;
+        if ((compression == Compression.BIT_PACKED || compression == Compression.AUTO)
+                && worthPacking(forWords, rawWords)) {
+            encoding = ChunkedIntFile.BIT_PACKED;
+            best = forWords;
+        }
+        if ((compression == Compression.DELTA || compression == Compression.AUTO) && n > 1
+                && deltaWords < best && worthPacking(deltaWords, rawWords)) {
+            encoding = ChunkedIntFile.DELTA;
+            best = deltaWords;
+        }
+
+        growDirectory();
+        int c = chunks++;
+        offsets[c] = position;
+        words[c] = best;
+        counts[c] = n;
+        mins[c] = min;
+        maxs[c] = max;
+        sums[c] = sum;
+        encodings[c] = encoding;
+
+        if (encoding == ChunkedIntFile.RAW) {
+            widths[c] = 32;
+            putWords(chunk, n);
+        } else if (encoding == ChunkedIntFile.BIT_PACKED) {
+            widths[c] = (byte) forWidth;
+            for (int i = 0; i < n; i++) {
+                deltas[i] = chunk[i] - min;
+            }
+            putWords(packed, pack(deltas, n, forWidth));
+        } else {
+            widths[c] = (byte) deltaWidth;
+            ensureRoom(8);
+            buffer.putInt(chunk[0]).putInt(minDelta);
+            for (int i = 0; i < n - 1; i++) {
+                deltas[i] -= minDelta;
+            }
+            putWords(packed, pack(deltas, n - 1, deltaWidth));
+        }
+        position += (long) best * Integer.BYTES;
+        length += n;
+        filled = 0;
+    }
+
+    // Packs the low width bits of values[0 .. n) into packed, little-endian bit order; returns words used
+    private int pack(int[] values, int n, int width) {
+        int words = packedWords(n, width);
+        if (width == 0) return words;
+        Arrays.fill(packed, 0, words + 1, 0);
+        long mask = width == 32 ? 0xFFFFFFFFL : (1L << width) - 1;
+        for (int i = 0, bit = 0; i < n; i++, bit += width) {
+            long v = (values[i] & mask) << (bit & 31);
+            int w = bit >>> 5;
+            packed[w] |= (int) v;
+            packed[w + 1] |= (int) (v >>> 32);
+        }
+        return words;
+    }
+
+    /**
+     * A packed chunk must be at most 3/4 of its RAW size: unpacking costs a few ns per value
+     * while RAW decodes at copy speed, so near-full widths (e.g. 25 bits of random data)
+     * would save little space and slow every read.
+     */
+    static boolean worthPacking(int packedWords, int rawWords) {
+        return packedWords <= rawWords - rawWords / 4;
+    }
+
+    /**
+     * Words needed to pack n values of width bits.
+     */
+    static int packedWords(int n, int width) {
+        return (int) (((long) n * width + 31) >>> 5);
+    }
+
+    // Bits needed for an unsigned 32-bit value
+    private static int bitWidth(int unsignedValue) {
+        return 32 - Integer.numberOfLeadingZeros(unsignedValue);
+    }
+
+    private void putWords(int[] values, int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            if (!buffer.hasRemaining()) drain();
+            buffer.putInt(values[i]);
+        }
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+    private void growDirectory() {
+        if (chunks < offsets.length) return;
+        int capacity = offsets.length * 2;
+        offsets = Arrays.copyOf(offsets, capacity);
+        words = Arrays.copyOf(words, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        mins = Arrays.copyOf(mins, capacity);
+        maxs = Arrays.copyOf(maxs, capacity);
+        sums = Arrays.copyOf(sums, capacity);
+        encodings = Arrays.copyOf(encodings, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("Writer is closed");
+    }
+}
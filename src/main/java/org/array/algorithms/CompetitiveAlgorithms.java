@@ -2,6 +2,14 @@ package org.array.algorithms;
 
 public class CompetitiveAlgorithms {
 
+    // Instrumentation (see Metrics; compiled away unless enabled)
+    private static final OperationMetrics TWO_POINTER_SUM = Metrics.operation("CompetitiveAlgorithms.twoPointerSum");
+    private static final OperationMetrics SORT_012 = Metrics.operation("CompetitiveAlgorithms.sort012");
+    private static final OperationMetrics SUBARRAY_SUM = Metrics.operation("CompetitiveAlgorithms.subarraySum");
+    private static final OperationMetrics MERGE_SORTED_IN_PLACE = Metrics.operation("CompetitiveAlgorithms.mergeSortedInPlace");
+    private static final OperationMetrics FIND_MISSING = Metrics.operation("CompetitiveAlgorithms.findMissing");
+    private static final OperationMetrics MAJORITY_ELEMENT = Metrics.operation("CompetitiveAlgorithms.majorityElement");
+
     /**
      * Two-pointer technique to find a pair with a given sum in a sorted array.
      *
@@ -12,19 +20,41 @@ public class CompetitiveAlgorithms {
      * @param target target sum to find
      */
     public static void twoPointerSum(int[] arr, int target) {
+        ConsoleSink console = new ConsoleSink();
+        if (!twoPointerSum(arr, target, console.pairs("Pair found: ", ", ", ""))) {
+            console.print("No pair found").println();
+        }
+        console.flush();
+    }
+
+    /**
+     * Two-pointer technique to find a pair with a given sum in a sorted array,
+     * sending the pair to a sink instead of printing it.
+     *
+     * Same algorithm as {@link #twoPointerSum(int[], int)}, without any I/O.
+     *
+     * @param arr sorted input array
+     * @param target target sum to find
+     * @param sink receives (arr[left], arr[right]) of the first pair found
+     * @return true if a pair was found
+     */
+    public static boolean twoPointerSum(int[] arr, int target, IntPairSink sink) {
+        long start = Metrics.start();
         int left = 0, right = arr.length - 1;
         while (left < right) {
             int sum = arr[left] + arr[right];
             if (sum == target) {
-                System.out.println("Pair found: " + arr[left] + ", " + arr[right]);
-                return;
+                TWO_POINTER_SUM.end(start, arr.length, left + (arr.length - right), false);
+                sink.accept(arr[left], arr[right]);
+                return true;
             } else if (sum < target) {
                 left++;  // Need a larger sum, move left pointer right
             } else {
                 right--; // Need a smaller sum, move right pointer left
             }
         }
-        System.out.println("No pair found");
+        TWO_POINTER_SUM.end(start, arr.length, Math.max(arr.length - 1, 0), true);
+        return false;
     }
 
     /**
@@ -33,24 +63,30 @@ public class CompetitiveAlgorithms {
      * Pattern: Three pointers to partition array into three parts.
      * (means I move through the array using 3 pointers to split it into 3 parts at the same time.)
      * Time complexity: O(n), in-place sort.
+     * For any number of buckets, in parallel or to files, see {@link PartitionAlgorithms}.
      *
      * @param arr input array containing only 0, 1, 2
      */
     public static void sort012(int[] arr) {
+        long start = Metrics.start();
+        long swaps = 0;
         int low = 0, mid = 0, high = arr.length - 1;
         while (mid <= high) {
             switch (arr[mid]) {
                 case 0:
                     swap(arr, low++, mid++);
+                    swaps++;
                     break;
                 case 1:
                     mid++;
                     break;
                 case 2:
                     swap(arr, mid, high--);
+                    swaps++;
                     break;
             }
         }
+        SORT_012.end(start, arr.length, 0, swaps);
     }
 
     // Utility method to swap two elements in an array.
@@ -66,12 +102,34 @@ public class CompetitiveAlgorithms {
      * Pattern: Sliding window / two pointers with dynamic window size.
      * Time complexity: O(n)
      *
-     * Works for non-negative integers.
+     * Works for non-negative integers. For negative values, counts, or the longest / shortest
+     * match, see {@link SubarraySumEngine}.
      *
      * @param arr input array
      * @param target target sum to find in subarray
      */
     public static void subarraySum(int[] arr, int target) {
+        ConsoleSink console = new ConsoleSink();
+        if (!subarraySum(arr, target, console.pairs("Subarray found from index ", " to ", ""))) {
+            console.print("No subarray found").println();
+        }
+        console.flush();
+    }
+
+    /**
+     * Find a contiguous subarray that sums to a target value,
+     * sending its bounds to a sink instead of printing them.
+     *
+     * Same algorithm as {@link #subarraySum(int[], int)}, without any I/O.
+     * Works for non-negative integers.
+     *
+     * @param arr input array
+     * @param target target sum to find in subarray
+     * @param sink receives (start, end) of the first subarray found, both inclusive
+     * @return true if a subarray was found
+     */
+    public static boolean subarraySum(int[] arr, int target, IntPairSink sink) {
+        long began = Metrics.start();
         int start = 0, sum = 0;
         for (int end = 0; end < arr.length; end++) {
             sum += arr[end];
@@ -80,11 +138,13 @@ public class CompetitiveAlgorithms {
                 sum -= arr[start++];
             }
             if (sum == target) {
-                System.out.println("Subarray found from index " + start + " to " + end);
-                return;
+                SUBARRAY_SUM.end(began, arr.length, end + 1, false);
+                sink.accept(start, end);
+                return true;
             }
         }
-        System.out.println("No subarray found");
+        SUBARRAY_SUM.end(began, arr.length, arr.length, true);
+        return false;
     }
 
     /**
@@ -92,6 +152,7 @@ public class CompetitiveAlgorithms {
      *
      * Pattern: Merge from the end to avoid overwriting elements in arr1.
      * Time complexity: O(m + n)
+     * For many runs, parallel merging or files on disk, see {@link MergeAlgorithms}.
      *
      * @param arr1 first sorted array with buffer space at the end
      * @param m number of valid elements in arr1
@@ -99,6 +160,7 @@ public class CompetitiveAlgorithms {
      * @param n number of elements in arr2
      */
     public static void mergeSortedInPlace(int[] arr1, int m, int[] arr2, int n) {
+        long start = Metrics.start();
         int i = m - 1, j = n - 1, k = m + n - 1;
         while (i >= 0 && j >= 0) {
             arr1[k--] = arr1[i] > arr2[j] ? arr1[i--] : arr2[j--];
@@ -106,6 +168,7 @@ public class CompetitiveAlgorithms {
         while (j >= 0) {
             arr1[k--] = arr2[j--];
         }
+        MERGE_SORTED_IN_PLACE.end(start, m + n);
     }
 
     /**
@@ -119,10 +182,12 @@ public class CompetitiveAlgorithms {
      * @return the missing number
      */
     public static int findMissing(int[] arr, int n) {
+        long start = Metrics.start();
         int total = n * (n + 1) / 2; // Sum of 0 to n
         for (int num : arr) {
             total -= num;  // Subtract each present number
         }
+        FIND_MISSING.end(start, arr.length);
         return total; // What remains is missing
     }
 
@@ -140,11 +205,13 @@ public class CompetitiveAlgorithms {
      * @return majority element
      */
     public static int majorityElement(int[] nums) {
+        long start = Metrics.start();
         int count = 0, candidate = 0;
         for (int num : nums) {
             if (count == 0) candidate = num;  // Pick new candidate
             count += (num == candidate) ? 1 : -1; // Increment or decrement count
         }
+        MAJORITY_ELEMENT.end(start, nums.length);
         return candidate;
     }
 }
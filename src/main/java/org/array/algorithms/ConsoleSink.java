@@ -0,0 +1,118 @@
+package org.array.algorithms;
+
+import java.io.PrintStream;
+
+/**
+ * Buffered adapter from algorithm results to System.out.
+ *
+ * Text is collected in a StringBuilder and written in blocks of about {@value #FLUSH_THRESHOLD} chars
+ * (and on {@link #flush()}), instead of one synchronized System.out call (and one String
+ * concatenation) per result. The buffer never grows past one block, so printing O(n^2) results
+ * streams them out in bounded memory. The old printing methods use it, so their output stays the same.
+ *
+ * Not thread-safe: create one per call or per thread.
+ */
+public final class ConsoleSink {
+
+    /** Buffered chars that trigger a write to the stream. */
+    static final int FLUSH_THRESHOLD = 8192;
+
+    private final PrintStream out;
+    private final StringBuilder buffer = new StringBuilder(64);
+
+    /**
+     * Creates a sink that writes to the current System.out.
+     */
+    public ConsoleSink() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a sink that writes to the given stream.
+     *
+     * @param out destination stream
+     */
+    public ConsoleSink(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Appends text.
+     *
+     * @param text text to append
+     * @return this sink
+     */
+    public ConsoleSink print(String text) {
+        buffer.append(text);
+        writeIfFull();
+        return this;
+    }
+
+    /**
+     * Appends a number (no String is created for it).
+     *
+     * @param value number to append
+     * @return this sink
+     */
+    public ConsoleSink print(int value) {
+        buffer.append(value);
+        writeIfFull();
+        return this;
+    }
+
+    /**
+     * Appends a line break.
+     *
+     * @return this sink
+     */
+    public ConsoleSink println() {
+        buffer.append(System.lineSeparator());
+        writeIfFull();
+        return this;
+    }
+
+    /**
+     * Writes everything collected so far to the stream and flushes it.
+     */
+    public void flush() {
+        if (buffer.length() == 0) return;
+        write();
+        out.flush();
+    }
+
+    private void writeIfFull() {
+        if (buffer.length() >= FLUSH_THRESHOLD) write();
+    }
+
+    private void write() {
+        out.append(buffer);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Sink that prints every value followed by a space (the format of printArray).
+     *
+     * @return a sink writing into this buffer
+     */
+    public IntSink values() {
+        return value -> {
+            buffer.append(value).append(' ');
+            writeIfFull();
+        };
+    }
+
+    /**
+     * Sink that prints one line per pair: prefix + first + separator + second + suffix.
+     *
+     * @param prefix    text before the first value
+     * @param separator text between the values
+     * @param suffix    text after the second value
+     * @return a sink writing into this buffer
+     */
+    public IntPairSink pairs(String prefix, String separator, String suffix) {
+        return (first, second) -> {
+            buffer.append(prefix).append(first).append(separator).append(second).append(suffix);
+            println();
+        };
+    }
+}
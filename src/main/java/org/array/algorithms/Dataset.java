@@ -0,0 +1,83 @@
+package org.array.algorithms;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A shared, changing set of int values, read by many threads through immutable {@link ArraySnapshot}s.
+ *
+ * Pattern: Copy-on-write. Readers take {@link #snapshot()} (one volatile read, no lock) and keep
+ * working on it while writers publish new versions; nothing a reader holds ever changes under it.
+ * A writer builds the next snapshot from the current one and swaps it in. Rotations, shifts and
+ * reversals build it without copying (see {@link ArraySnapshot}); other changes copy once per update,
+ * never once per reader.
+ *
+ * Writers are serialized (updates are expected to be much rarer than reads).
+ */
+public final class Dataset {
+
+    private volatile ArraySnapshot current;
+    private volatile long version;
+    private final CopyOnWriteArrayList<Consumer<ArraySnapshot>> replacedListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param values initial values (copied)
+     */
+    public Dataset(int[] values) {
+        this.current = ArraySnapshot.of(values);
+    }
+
+    /**
+     * @return the current values; stays valid and unchanged however the dataset is updated later
+     */
+    public ArraySnapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * @return number of updates so far (0 for the initial values)
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Publishes the snapshot built by change from the current one.
+     * Nothing is published (and the version stays) if change returns the current snapshot.
+     *
+     * @param change builds the next snapshot from the current one
+     * @return the current snapshot after the update
+     */
+    public synchronized ArraySnapshot update(UnaryOperator<ArraySnapshot> change) {
+        ArraySnapshot previous = current;
+        ArraySnapshot next = change.apply(previous);
+        if (next != previous) {
+            current = next;
+            version++;
+            for (Consumer<ArraySnapshot> listener : replacedListeners) {
+                listener.accept(previous);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Registers a callback that receives each snapshot this dataset moves away from
+     * (e.g. so a {@link ResultCache} can drop its results). Registering the same callback twice has no effect.
+     */
+    void addReplacedListener(Consumer<ArraySnapshot> listener) {
+        replacedListeners.addIfAbsent(listener);
+    }
+
+    /**
+     * Replaces all values.
+     *
+     * @param values new values (copied)
+     * @return the new snapshot
+     */
+    public ArraySnapshot replace(int[] values) {
+        ArraySnapshot next = ArraySnapshot.of(values);
+        return update(old -> next);
+    }
+}
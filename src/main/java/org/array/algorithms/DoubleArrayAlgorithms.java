@@ -0,0 +1,478 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The core algorithms of this library for double[] arrays: no boxing, no conversion to int[].
+ *
+ * Sums, prefix sums and subarray sums are returned as double.
+ *
+ * NaN semantics:
+ * - Arithmetic (sum, average, prefix sums, window sums, Kadane, min/max) follows IEEE 754:
+ *   a NaN anywhere in the input gives NaN, as do +Infinity and -Infinity together.
+ * - Ordering (sort, searches, second largest/smallest, duplicates, majority) uses the total
+ *   order of {@link Double#compare}: -0.0 &lt; 0.0, and NaN equals NaN and is above +Infinity.
+ * - rearrangePosNeg treats only x &lt; 0 as negative: -0.0 and NaN go with the non-negatives.
+ *
+ * Sums use compensated (Kahan-Babuska) summation, so the rounding error does not grow with
+ * the array length: summing a million 0.1s gives 100000.0, not 100000.00000133288.
+ *
+ * Generated from src/template/java/org/array/algorithms/X-ArrayAlgorithms.java.template
+ * by src/template/GenerateArrayAlgorithms.java. Edit the template, not this file.
+ */
+public class DoubleArrayAlgorithms {
+
+    // ===== Basic =====
+
+    /**
+     * Sum of all elements.
+     *
+     * Algorithm: Compensated summation (see {@link CompensatedSum}).
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the sum (0 for an empty array)
+     */
+    public static double sumArray(double[] arr) {
+        CompensatedSum sum = new CompensatedSum();
+        for (double value : arr) {
+            sum.add(value);
+        }
+        return sum.value();
+    }
+
+    /**
+     * Average of all elements.
+     *
+     * @param arr input array (must not be empty)
+     * @return the average value
+     */
+    public static double averageArray(double[] arr) {
+        return sumArray(arr) / arr.length;
+    }
+
+    /**
+     * Smallest and largest element.
+     *
+     * Pattern: One pass, two running extremes.
+     * Time complexity: O(n).
+     *
+     * @param arr input array (must not be empty)
+     * @return {min, max}
+     */
+    public static double[] findMinMax(double[] arr) {
+        double min = arr[0], max = arr[0];
+        for (double value : arr) {
+            min = Math.min(min, value); // propagates NaN
+            max = Math.max(max, value);
+        }
+        return new double[]{min, max};
+    }
+
+    /**
+     * Reverses the whole array in place.
+     *
+     * Pattern: Two pointers moving towards each other.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array to reverse
+     */
+    public static void reverseArray(double[] arr) {
+        reverse(arr, 0, arr.length - 1);
+    }
+
+    // ===== Searching and sorting =====
+
+    /**
+     * Index of the first element equal to target.
+     *
+     * Time complexity: O(n).
+     *
+     * @param arr    input array
+     * @param target value to find
+     * @return index of the first match, else -1
+     */
+    public static int linearSearch(double[] arr, double target) {
+        for (int i = 0; i < arr.length; i++) {
+            if (same(arr[i], target)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search in a sorted array.
+     *
+     * Pattern: Halve the search range every step.
+     * Time complexity: O(log n).
+     *
+     * @param arr    array sorted ascending (for example by {@link #sort})
+     * @param target value to find
+     * @return index of a match, else -1
+     */
+    public static int binarySearch(double[] arr, double target) {
+        int low = 0, high = arr.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (same(arr[mid], target)) return mid;
+            else if (less(arr[mid], target)) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Sorts the array ascending, in place.
+     *
+     * Time complexity: O(n log n) (dual-pivot quicksort from {@link Arrays#sort}).
+     *
+     * @param arr the array to sort
+     */
+    public static void sort(double[] arr) {
+        Arrays.sort(arr);
+    }
+
+    /**
+     * Checks whether any value occurs twice.
+     *
+     * Algorithm: Sort a copy, then compare neighbours. The input is not modified.
+     * Time complexity: O(n log n). Space complexity: O(n).
+     *
+     * @param arr input array
+     * @return true if a duplicate exists
+     */
+    public static boolean hasDuplicates(double[] arr) {
+        double[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (same(sorted[i - 1], sorted[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Merges two sorted arrays into one new sorted array.
+     *
+     * Pattern: Two pointers, always take the smaller head (stable: ties come from arr1 first).
+     * Time complexity: O(n + m).
+     *
+     * @param arr1 first array, sorted ascending
+     * @param arr2 second array, sorted ascending
+     * @return merged array
+     */
+    public static double[] mergeSorted(double[] arr1, double[] arr2) {
+        double[] merged = new double[arr1.length + arr2.length];
+        int i = 0, j = 0, k = 0;
+        while (i < arr1.length && j < arr2.length) {
+            merged[k++] = less(arr2[j], arr1[i]) ? arr2[j++] : arr1[i++];
+        }
+        System.arraycopy(arr1, i, merged, k, arr1.length - i);
+        System.arraycopy(arr2, j, merged, k + arr1.length - i, arr2.length - j);
+        return merged;
+    }
+
+    // ===== Advanced =====
+
+    /**
+     * Second largest distinct value.
+     *
+     * Pattern: One pass tracking max and second max.
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the second largest value, or Double.NEGATIVE_INFINITY if none
+     */
+    public static double secondLargest(double[] arr) {
+        double max = Double.NEGATIVE_INFINITY, second = Double.NEGATIVE_INFINITY;
+        for (double num : arr) {
+            if (less(max, num)) {
+                second = max;
+                max = num;
+            } else if (less(second, num) && !same(num, max)) {
+                second = num;
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Second smallest distinct value.
+     *
+     * Pattern: One pass tracking min and second min.
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the second smallest value, or Double.POSITIVE_INFINITY if none
+     */
+    public static double secondSmallest(double[] arr) {
+        double min = Double.POSITIVE_INFINITY, second = Double.POSITIVE_INFINITY;
+        for (double num : arr) {
+            if (less(num, min)) {
+                second = min;
+                min = num;
+            } else if (less(num, second) && !same(num, min)) {
+                second = num;
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Maximum sum of k consecutive elements.
+     *
+     * Pattern: Sliding window (add the entering element, subtract the leaving one).
+     * Time complexity: O(n).
+     *
+     * @param arr input array (at least k elements)
+     * @param k   window size
+     * @return maximum window sum
+     */
+    public static double maxSumSlidingWindow(double[] arr, int k) {
+        WindowSum window = new WindowSum();
+        for (int i = 0; i < k; i++) {
+            window.add(arr[i]);
+        }
+        double maxSum = window.value();
+        for (int i = k; i < arr.length; i++) {
+            window.add(arr[i]);
+            window.remove(arr[i - k]);
+            if (window.overflowed()) window.rebuild(arr, i - k + 1, i + 1);
+            maxSum = Math.max(maxSum, window.value());
+        }
+        return maxSum;
+    }
+
+    /**
+     * Prefix sums: prefix[i] = arr[0] + ... + arr[i].
+     *
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return new array of prefix sums (empty for empty input)
+     */
+    public static double[] prefixSum(double[] arr) {
+        double[] prefix = new double[arr.length];
+        CompensatedSum sum = new CompensatedSum();
+        for (int i = 0; i < arr.length; i++) {
+            sum.add(arr[i]);
+            prefix[i] = sum.value();
+        }
+        return prefix;
+    }
+
+    /**
+     * Maximum subarray sum (Kadane's algorithm).
+     *
+     * Pattern: Either extend the current subarray or start a new one at each element.
+     * Time complexity: O(n).
+     *
+     * @param arr input array (must not be empty)
+     * @return maximum subarray sum
+     */
+    public static double kadaneMaxSubArraySum(double[] arr) {
+        double maxSoFar = arr[0], currentMax = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            currentMax = Math.max(arr[i], currentMax + arr[i]);
+            maxSoFar = Math.max(maxSoFar, currentMax);
+        }
+        return maxSoFar;
+    }
+
+    /**
+     * Moves negative values before non-negative ones, keeping the order in both groups.
+     *
+     * Pattern: Partitioning with a temporary array.
+     * Time complexity: O(n). Space complexity: O(n).
+     *
+     * @param arr the array to rearrange
+     */
+    public static void rearrangePosNeg(double[] arr) {
+        double[] temp = new double[arr.length];
+        int index = 0;
+        for (double value : arr) {
+            if (value < 0) temp[index++] = value;
+        }
+        for (double value : arr) {
+            if (!(value < 0)) temp[index++] = value;
+        }
+        System.arraycopy(temp, 0, arr, 0, arr.length);
+    }
+
+    /**
+     * Rotates the array right by k steps, in place.
+     *
+     * Algorithm: Triple reversal.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of steps (any non-negative value)
+     */
+    public static void rotateRightInPlace(double[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        k %= n;
+        reverse(arr, 0, n - 1);
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+    }
+
+    /**
+     * Rotates the array left by k steps, in place.
+     *
+     * Algorithm: Triple reversal.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of steps (any non-negative value)
+     */
+    public static void rotateLeftInPlace(double[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        k %= n;
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+        reverse(arr, 0, n - 1);
+    }
+
+    /**
+     * Reverses arr[start..end] in place.
+     *
+     * @param arr   the array
+     * @param start first index
+     * @param end   last index (inclusive)
+     */
+    public static void reverse(double[] arr, int start, int end) {
+        while (start < end) {
+            double temp = arr[start];
+            arr[start++] = arr[end];
+            arr[end--] = temp;
+        }
+    }
+
+    // ===== Competitive =====
+
+    /**
+     * Finds a pair with the given sum in a sorted array.
+     *
+     * Pattern: Two pointers from both ends.
+     * Time complexity: O(n).
+     *
+     * @param arr    array sorted ascending
+     * @param target the sum to find
+     * @param sink   receives the indices (left, right) of the first pair found
+     * @return true if a pair was found
+     */
+    public static boolean twoPointerSum(double[] arr, double target, IntPairSink sink) {
+        int left = 0, right = arr.length - 1;
+        while (left < right) {
+            int cmp = compareSum(arr[left], arr[right], target);
+            if (cmp == 0) {
+                sink.accept(left, right);
+                return true;
+            } else if (cmp < 0) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Majority element (Boyer-Moore voting).
+     *
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr input array in which some value occurs more than n/2 times
+     * @return the majority element
+     */
+    public static double majorityElement(double[] arr) {
+        int count = 0;
+        double candidate = 0;
+        for (double num : arr) {
+            if (count == 0) candidate = num;
+            count += same(num, candidate) ? 1 : -1;
+        }
+        return candidate;
+    }
+
+    // ===== Helpers =====
+
+    // Total order of Double.compare: -0.0 < 0.0, NaN above everything
+    private static boolean less(double a, double b) {
+        return Double.compare(a, b) < 0;
+    }
+
+    private static boolean same(double a, double b) {
+        return Double.compare(a, b) == 0;
+    }
+
+    private static int compareSum(double a, double b, double target) {
+        return Double.compare(a + b, target);
+    }
+
+    /**
+     * Running sum with Kahan-Babuska (Neumaier) compensation: the low-order bits lost by
+     * each addition are collected in a separate term and added back at the end.
+     */
+    private static final class CompensatedSum {
+        private double sum;
+        private double compensation;
+
+        void add(double value) {
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) compensation += (sum - t) + value;
+            else compensation += (value - t) + sum;
+            sum = t;
+        }
+
+        double value() {
+            // Once the plain sum is infinite or NaN the compensation is meaningless (inf - inf)
+            return Double.isFinite(sum) ? sum + compensation : sum;
+        }
+    }
+
+    /**
+     * Sum of a sliding window that recovers when infinities and NaNs leave it.
+     * Subtracting a leaving +Infinity from a running sum gives inf - inf = NaN for good, so
+     * non-finite values are only counted, and the finite ones are summed apart (compensated).
+     */
+    private static final class WindowSum {
+        private final CompensatedSum finite = new CompensatedSum();
+        private int nans, positiveInfinities, negativeInfinities;
+
+        void add(double value) {
+            if (Double.isNaN(value)) nans++;
+            else if (value == Double.POSITIVE_INFINITY) positiveInfinities++;
+            else if (value == Double.NEGATIVE_INFINITY) negativeInfinities++;
+            else finite.add(value);
+        }
+
+        void remove(double value) {
+            if (Double.isNaN(value)) nans--;
+            else if (value == Double.POSITIVE_INFINITY) positiveInfinities--;
+            else if (value == Double.NEGATIVE_INFINITY) negativeInfinities--;
+            else finite.add(-value);
+        }
+
+        // The finite values themselves overflowed: the running sum cannot come back by subtraction
+        boolean overflowed() {
+            return !Double.isFinite(finite.sum);
+        }
+
+        // Re-sums the finite values of arr[from .. to) (only needed while they overflow)
+        void rebuild(double[] arr, int from, int to) {
+            finite.sum = 0;
+            finite.compensation = 0;
+            for (int i = from; i < to; i++) {
+                if (Double.isFinite(arr[i])) finite.add(arr[i]);
+            }
+        }
+
+        double value() {
+            if (nans > 0 || (positiveInfinities > 0 && negativeInfinities > 0)) return Double.NaN;
+            if (positiveInfinities > 0) return Double.POSITIVE_INFINITY;
+            if (negativeInfinities > 0) return Double.NEGATIVE_INFINITY;
+            return finite.value();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.array.algorithms;
+
+/**
+ * Duplicate detection engine:
+ * - primitive hash set (no Integer boxing)
+ * - bitmap for bounded value ranges
+ * - in-place sort-then-scan, for callers that allow the array to be reordered
+ * - strategy selector based on size and value range
+ *
+ * {@link IntermediateArrayAlgorithms#hasDuplicates} stays as the O(n^2) reference version.
+ */
+public class DuplicateAlgorithms {
+
+    /** Arrays up to this size are checked with the brute-force nested loop. */
+    static final int BRUTE_FORCE_THRESHOLD = 16;
+
+    /** A bitmap is used when the value range is at most this many bits per element. */
+    private static final int BITMAP_BITS_PER_ELEMENT = 32;
+
+    /**
+     * Strategy used to detect duplicates.
+     */
+    public enum DuplicateStrategy {
+        /** Nested loop, O(n^2); only sensible for tiny arrays. */
+        BRUTE_FORCE,
+        /** Open-addressing int hash set, O(n) expected, O(n) memory. */
+        HASH,
+        /** One bit per possible value, O(n + range), range / 8 bytes of memory. */
+        BITMAP,
+        /**
+         * Sort the array itself, then compare neighbours. O(n log n), no extra memory. Sorts the input,
+         * unless there are more elements than values in [min, max] (then there must be a duplicate,
+         * and the input is left as it is).
+         */
+        SORT_IN_PLACE
+    }
+
+    /**
+     * Checks if the array contains any duplicate values, choosing the best strategy.
+     * The array is never modified.
+     *
+     * Time complexity: O(n) expected.
+     *
+     * @param arr the array to check
+     * @return true if duplicates found, false otherwise
+     */
+    public static boolean hasDuplicates(int[] arr) {
+        return firstDuplicateIndex(arr) >= 0;
+    }
+
+    /**
+     * Checks if the array contains any duplicate values with the given strategy.
+     *
+     * @param arr      the array to check (may be sorted when the strategy is SORT_IN_PLACE, see there)
+     * @param strategy how to detect duplicates
+     * @return true if duplicates found, false otherwise
+     */
+    public static boolean hasDuplicates(int[] arr, DuplicateStrategy strategy) {
+        switch (strategy) {
+            case BRUTE_FORCE:
+                return IntermediateArrayAlgorithms.hasDuplicates(arr);
+            case SORT_IN_PLACE:
+                return hasDuplicatesSorting(arr);
+            default:
+                return firstDuplicateIndex(arr, strategy) >= 0;
+        }
+    }
+
+    /**
+     * Finds the first position where a value repeats, choosing the best strategy.
+     * The array is never modified.
+     *
+     * Example: {4, 1, 7, 1, 4} → 3 (the second 1 is the first value seen before).
+     *
+     * @param arr the array to check
+     * @return index of the first element equal to an earlier element, or -1 if all values are distinct
+     */
+    public static int firstDuplicateIndex(int[] arr) {
+        if (arr.length <= BRUTE_FORCE_THRESHOLD) return firstDuplicateBruteForce(arr);
+        // Same choice as selectStrategy, but the bitmap reuses this min / max pass
+        int min = arr[0], max = arr[0];
+        for (int value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        if (fitsBitmap((long) max - min + 1, arr.length)) return firstDuplicateBitmap(arr, min, max);
+        return firstDuplicateHash(arr);
+    }
+
+    /**
+     * Finds the first position where a value repeats, with the given strategy.
+     *
+     * @param arr      the array to check
+     * @param strategy BRUTE_FORCE, HASH or BITMAP (sorting loses the original positions)
+     * @return index of the first element equal to an earlier element, or -1 if all values are distinct
+     * @throws IllegalArgumentException if strategy is SORT_IN_PLACE
+     */
+    public static int firstDuplicateIndex(int[] arr, DuplicateStrategy strategy) {
+        switch (strategy) {
+            case BRUTE_FORCE:
+                return firstDuplicateBruteForce(arr);
+            case HASH:
+                return firstDuplicateHash(arr);
+            case BITMAP:
+                return firstDuplicateBitmap(arr);
+            default:
+                throw new IllegalArgumentException("Cannot report positions with strategy " + strategy);
+        }
+    }
+
+    /**
+     * Picks a strategy from the input size and value range (never SORT_IN_PLACE,
+     * since that one modifies the caller's array).
+     *
+     * Pattern: One O(n) pass for min and max, then:
+     * - tiny array → BRUTE_FORCE
+     * - range small compared to n → BITMAP (fewer bytes than a hash table, no hashing)
+     * - otherwise → HASH
+     *
+     * @param arr the array that is about to be checked
+     * @return the strategy to use
+     */
+    public static DuplicateStrategy selectStrategy(int[] arr) {
+        if (arr.length <= BRUTE_FORCE_THRESHOLD) return DuplicateStrategy.BRUTE_FORCE;
+        if (fitsBitmap(valueRange(arr), arr.length)) return DuplicateStrategy.BITMAP;
+        return DuplicateStrategy.HASH;
+    }
+
+    private static boolean fitsBitmap(long range, int length) {
+        return range <= (long) BITMAP_BITS_PER_ELEMENT * length;
+    }
+
+    private static int firstDuplicateBruteForce(int[] arr) {
+        for (int j = 1; j < arr.length; j++) {
+            for (int i = 0; i < j; i++) {
+                if (arr[i] == arr[j]) return j;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Algorithm: Remember every value in a primitive hash set; the first add that fails is a repeat.
+     * Time complexity: O(n) expected.
+     * Space complexity: O(n)
+     */
+    private static int firstDuplicateHash(int[] arr) {
+        IntHashSet seen = new IntHashSet(arr.length);
+        for (int i = 0; i < arr.length; i++) {
+            if (!seen.add(arr[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Algorithm: One bit per value in [min, max]; a bit that is already set is a repeat.
+     * Time complexity: O(n + range / 64).
+     * Space complexity: range / 8 bytes.
+     */
+    private static int firstDuplicateBitmap(int[] arr) {
+        if (arr.length == 0) return -1;
+        int min = arr[0], max = arr[0];
+        for (int value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return firstDuplicateBitmap(arr, min, max);
+    }
+
+    private static int firstDuplicateBitmap(int[] arr, int min, int max) {
+        long range = (long) max - min + 1;
+        long[] bits = new long[(int) ((range + 63) >>> 6)];
+        for (int i = 0; i < arr.length; i++) {
+            long offset = (long) arr[i] - min;
+            int word = (int) (offset >>> 6);
+            long mask = 1L << offset; // shift uses the low 6 bits only
+            if ((bits[word] & mask) != 0) return i;
+            bits[word] |= mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Algorithm: After sorting, equal values are neighbours.
+     * Pigeonhole shortcut: more elements than possible values → there must be a duplicate
+     * (answered without sorting, so the array stays as it is).
+     * Time complexity: O(n log n) (O(n) for large unordered inputs, see {@link SortAlgorithms#sort}).
+     * Space complexity: O(1) beyond the sort itself.
+     */
+    private static boolean hasDuplicatesSorting(int[] arr) {
+        if (arr.length > 1 && valueRange(arr) < arr.length) return true;
+        SortAlgorithms.sort(arr);
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1] == arr[i]) return true;
+        }
+        return false;
+    }
+
+    // Number of possible values between min and max (inclusive); 0 for an empty array
+    private static long valueRange(int[] arr) {
+        if (arr.length == 0) return 0;
+        int min = arr[0], max = arr[0];
+        for (int value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return (long) max - min + 1;
+    }
+}
@@ -0,0 +1,132 @@
+package org.array.algorithms;
+
+/**
+ * Mutable prefix sums: point update and range sum, both in O(log n).
+ *
+ * Compared with a prefix sum array ({@link PrefixSumAlgorithms}), a query costs O(log n)
+ * instead of O(1), but an update costs O(log n) instead of an O(n) recompute.
+ *
+ * Data structure: Fenwick tree (binary indexed tree). With 1-based positions,
+ * tree[i] holds the sum of the lowbit(i) elements ending at i (lowbit = lowest set bit),
+ * so any prefix is the sum of at most log n entries, and any element is covered by
+ * at most log n entries.
+ *
+ * Sums are exact (long).
+ */
+public final class FenwickTree {
+
+    private final long[] tree;  // 1-based, tree[0] unused
+
+    /**
+     * Creates a tree of n zeros.
+     *
+     * @param n number of elements
+     */
+    public FenwickTree(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        tree = new long[n + 1];
+    }
+
+    /**
+     * Builds the tree from an array in O(n).
+     *
+     * Pattern: One prefix sum pass ({@link PrefixSumAlgorithms#prefixSum(int[], long[])}), then
+     * tree[i] = prefix[i] - prefix[i - lowbit(i)].
+     *
+     * @param arr initial values (not modified, not referenced afterwards)
+     */
+    public FenwickTree(int[] arr) {
+        tree = new long[arr.length + 1];
+        long[] prefix = new long[arr.length];
+        PrefixSumAlgorithms.prefixSum(arr, prefix);
+        for (int i = 1; i <= arr.length; i++) {
+            int start = i - (i & -i); // number of elements before this entry's range
+            tree[i] = prefix[i - 1] - (start == 0 ? 0 : prefix[start - 1]);
+        }
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Adds delta to one element.
+     *
+     * Time complexity: O(log n).
+     *
+     * @param index element position (0-based)
+     * @param delta amount to add
+     */
+    public void add(int index, long delta) {
+        checkIndex(index);
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Replaces one element.
+     *
+     * Time complexity: O(log n).
+     *
+     * @param index element position (0-based)
+     * @param value new value
+     */
+    public void set(int index, long value) {
+        add(index, value - get(index));
+    }
+
+    /**
+     * Current value of one element.
+     *
+     * @param index element position (0-based)
+     * @return the value
+     */
+    public long get(int index) {
+        return rangeSum(index, index);
+    }
+
+    /**
+     * Sum of elements 0..index (inclusive).
+     *
+     * Time complexity: O(log n).
+     *
+     * @param index last position included; -1 gives 0
+     * @return the prefix sum
+     */
+    public long prefixSum(int index) {
+        if (index < -1 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sum of elements from..to (both inclusive).
+     *
+     * Time complexity: O(log n).
+     *
+     * @param from first position
+     * @param to   last position
+     * @return the range sum, 0 if from &gt; to
+     */
+    public long rangeSum(int from, int to) {
+        if (from > to) return 0;
+        return prefixSum(to) - prefixSum(from - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+    }
+}
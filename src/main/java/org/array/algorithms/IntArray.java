@@ -0,0 +1,185 @@
+package org.array.algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Fixed-size, mutable int array stored off-heap, with long indices.
+ *
+ * The values live in direct buffers, outside the Java heap: the garbage collector never
+ * scans or copies them, so a 10-billion-element array adds nothing to GC pause times,
+ * and the 2^31 element limit of int[] does not apply.
+ *
+ * One direct buffer can hold at most 2 GB, so the array is split into chunks of
+ * 2^{@value #DEFAULT_CHUNK_SHIFT} ints (1 GB). Index → (chunk, offset) is a shift and a mask.
+ *
+ * Notes:
+ * - Direct memory is limited by -XX:MaxDirectMemorySize (default: the maximum heap size).
+ * - The memory is released when the array becomes unreachable and is garbage collected.
+ *
+ * Read-only algorithms run on it through {@link IntSourceAlgorithms};
+ * the in-place ones are in {@link IntArrayAlgorithms}.
+ */
+public final class IntArray implements IntSource {
+
+    /** log2 of the ints per chunk (2^28 ints = 1 GB). */
+    static final int DEFAULT_CHUNK_SHIFT = 28;
+
+    private final IntBuffer[] chunks;
+    private final long length;
+    private final int chunkShift;
+    private final long chunkMask;
+
+    /**
+     * Allocates an array of zeros.
+     *
+     * @param length number of elements (may exceed Integer.MAX_VALUE)
+     */
+    public IntArray(long length) {
+        this(length, DEFAULT_CHUNK_SHIFT);
+    }
+
+    // chunkShift = log2(ints per chunk), at most DEFAULT_CHUNK_SHIFT
+    IntArray(long length, int chunkShift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+        if (chunkShift < 0 || chunkShift > DEFAULT_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("chunkShift must be in [0, " + DEFAULT_CHUNK_SHIFT + "]: " + chunkShift);
+        }
+        this.length = length;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+
+        long chunkCount = (length + chunkMask) >>> chunkShift;
+        chunks = new IntBuffer[Math.toIntExact(chunkCount)];
+        for (int c = 0; c < chunks.length; c++) {
+            long size = Math.min(1L << chunkShift, length - ((long) c << chunkShift));
+            // Native byte order: values are stored exactly as the CPU uses them, no byte swapping
+            chunks[c] = ByteBuffer.allocateDirect((int) size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+    }
+
+    /**
+     * Copies an on-heap array into a new off-heap array.
+     *
+     * @param arr values to copy
+     * @return a new array with the same values
+     */
+    public static IntArray copyOf(int[] arr) {
+        IntArray array = new IntArray(arr.length);
+        array.write(0, arr, 0, arr.length);
+        return array;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int get(long index) {
+        checkIndex(index);
+        return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+    }
+
+    /**
+     * Stores a value.
+     *
+     * @param index position in [0, length())
+     * @param value the new value
+     */
+    public void set(long index, int value) {
+        checkIndex(index);
+        chunks[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+    }
+
+    /**
+     * Exchanges the values at two positions.
+     *
+     * @param i first position
+     * @param j second position
+     */
+    public void swap(long i, long j) {
+        int temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    @Override
+    public void read(long from, int[] dst, int offset, int length) {
+        checkRange(from, length);
+        while (length > 0) {
+            IntBuffer chunk = chunks[(int) (from >>> chunkShift)];
+            int position = (int) (from & chunkMask);
+            int count = Math.min(length, chunk.limit() - position); // a read may span two chunks
+            chunk.get(position, dst, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Bulk write: copies src[offset .. offset + length) to positions from .. from + length.
+     *
+     * @param from   first position written
+     * @param src    source array
+     * @param offset first index read from src
+     * @param length number of values to copy
+     */
+    public void write(long from, int[] src, int offset, int length) {
+        checkRange(from, length);
+        while (length > 0) {
+            IntBuffer chunk = chunks[(int) (from >>> chunkShift)];
+            int position = (int) (from & chunkMask);
+            int count = Math.min(length, chunk.limit() - position);
+            chunk.put(position, src, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Sets every element to the same value.
+     *
+     * @param value value to store
+     */
+    public void fill(int value) {
+        int[] block = new int[(int) Math.min(IntSourceAlgorithms.BLOCK_SIZE, length)];
+        Arrays.fill(block, value);
+        for (long base = 0; base < length; base += block.length) {
+            write(base, block, 0, (int) Math.min(block.length, length - base));
+        }
+    }
+
+    /**
+     * Copies the values back to the heap.
+     *
+     * @return a new int[] with the same values
+     * @throws IllegalStateException if the array is too long for an int[]
+     */
+    public int[] toArray() {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many elements for an int[]: " + length);
+        }
+        int[] arr = new int[(int) length];
+        read(0, arr, 0, arr.length);
+        return arr;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    private void checkRange(long from, int count) {
+        if (from < 0 || count < 0 || from > length - count) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + count + ") out of bounds for length " + length);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.array.algorithms;
+
+/**
+ * In-place algorithms for the off-heap {@link IntArray} (long indices, no heap copy).
+ *
+ * Each method gives the same result as the int[] version named in its doc comment.
+ * Read-only algorithms (sum, min/max, binary search, Kadane ...) work on an IntArray
+ * directly through {@link IntSourceAlgorithms}.
+ *
+ * Pattern: Work is done on blocks of {@value IntSourceAlgorithms#BLOCK_SIZE} values copied
+ * to a small on-heap buffer (bulk read → plain int[] loop → bulk write), instead of one
+ * bounds-checked buffer access per element. Scratch memory is a few blocks, never O(n).
+ */
+public class IntArrayAlgorithms {
+
+    private static final int BLOCK_SIZE = IntSourceAlgorithms.BLOCK_SIZE;
+
+    /**
+     * Reverses the whole array. See {@link BasicArrayAlgorithms#reverseArray}.
+     *
+     * Time complexity: O(n). Space complexity: O(1) (two blocks).
+     *
+     * @param arr the array to reverse
+     */
+    public static void reverseArray(IntArray arr) {
+        reverse(arr, 0, arr.length() - 1);
+    }
+
+    /**
+     * Reverses a portion of the array in place. See {@link AdvanceAlgorithms#reverse}.
+     *
+     * Algorithm: Two-pointer swapping, one block from each end at a time:
+     * read the left and right blocks, reverse both, write each to the other's place.
+     *
+     * @param arr   the array
+     * @param start start index
+     * @param end   end index (inclusive)
+     */
+    public static void reverse(IntArray arr, long start, long end) {
+        int[] left = new int[BLOCK_SIZE];
+        int[] right = new int[BLOCK_SIZE];
+        while (end - start + 1 >= 2L * BLOCK_SIZE) {
+            long rightStart = end - BLOCK_SIZE + 1;
+            arr.read(start, left, 0, BLOCK_SIZE);
+            arr.read(rightStart, right, 0, BLOCK_SIZE);
+            AdvanceAlgorithms.reverse(left, 0, BLOCK_SIZE - 1);
+            AdvanceAlgorithms.reverse(right, 0, BLOCK_SIZE - 1);
+            arr.write(start, right, 0, BLOCK_SIZE);
+            arr.write(rightStart, left, 0, BLOCK_SIZE);
+            start += BLOCK_SIZE;
+            end -= BLOCK_SIZE;
+        }
+        // The middle is shorter than two blocks
+        if (start < end) {
+            int len = (int) (end - start + 1);
+            arr.read(start, left, 0, Math.min(len, BLOCK_SIZE));
+            if (len > BLOCK_SIZE) arr.read(start + BLOCK_SIZE, right, 0, len - BLOCK_SIZE);
+            for (int i = 0, j = len - 1; i < j; i++, j--) {
+                int temp = blockGet(left, right, i);
+                blockSet(left, right, i, blockGet(left, right, j));
+                blockSet(left, right, j, temp);
+            }
+            arr.write(start, left, 0, Math.min(len, BLOCK_SIZE));
+            if (len > BLOCK_SIZE) arr.write(start + BLOCK_SIZE, right, 0, len - BLOCK_SIZE);
+        }
+    }
+
+    /**
+     * Rotates the array right by k steps. See {@link AdvanceAlgorithms#rotateRightInPlace}.
+     *
+     * Algorithm: Triple reversal. Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of rotation steps (any non-negative value)
+     */
+    public static void rotateRightInPlace(IntArray arr, long k) {
+        long n = arr.length();
+        if (n == 0) return;
+        k %= n; // handle k > n
+        reverse(arr, 0, n - 1);
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+    }
+
+    /**
+     * Rotates the array left by k steps. See {@link AdvanceAlgorithms#rotateLeftInPlace}.
+     *
+     * Algorithm: Triple reversal. Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of rotation steps (any non-negative value)
+     */
+    public static void rotateLeftInPlace(IntArray arr, long k) {
+        long n = arr.length();
+        if (n == 0) return;
+        k %= n; // handle k > n
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+        reverse(arr, 0, n - 1);
+    }
+
+    /**
+     * Moves all negative numbers before the non-negative ones, keeping the order inside both groups.
+     * See {@link AdvanceAlgorithms#rearrangePosNegInPlace}.
+     *
+     * Algorithm: Stable partition by divide and conquer with rotations, as in the int[] version.
+     * Ranges of up to one block are partitioned in a heap buffer instead of recursing further.
+     * Time complexity: O(n log(n / block)). Space complexity: two blocks + O(log n) recursion.
+     *
+     * @param arr the array to rearrange
+     */
+    public static void rearrangePosNegInPlace(IntArray arr) {
+        stablePartition(arr, 0, arr.length(), new int[BLOCK_SIZE], new int[BLOCK_SIZE]);
+    }
+
+    // Stable partition of [lo, hi); returns the index of the first non-negative value
+    private static long stablePartition(IntArray arr, long lo, long hi, int[] block, int[] scratch) {
+        if (hi - lo <= BLOCK_SIZE) {
+            int len = (int) (hi - lo);
+            arr.read(lo, block, 0, len);
+            int negatives = 0;
+            for (int i = 0; i < len; i++) {
+                if (block[i] < 0) negatives++;
+            }
+            int neg = 0, pos = negatives;
+            for (int i = 0; i < len; i++) {
+                if (block[i] < 0) scratch[neg++] = block[i];
+                else scratch[pos++] = block[i];
+            }
+            arr.write(lo, scratch, 0, len);
+            return lo + negatives;
+        }
+        long mid = (lo + hi) >>> 1;
+        long leftSplit = stablePartition(arr, lo, mid, block, scratch);
+        long rightSplit = stablePartition(arr, mid, hi, block, scratch);
+        // [lo, leftSplit) N1, [leftSplit, mid) P1, [mid, rightSplit) N2, [rightSplit, hi) P2
+        if (leftSplit != mid && mid != rightSplit) {
+            reverse(arr, leftSplit, mid - 1);
+            reverse(arr, mid, rightSplit - 1);
+            reverse(arr, leftSplit, rightSplit - 1);
+        }
+        return leftSplit + (rightSplit - mid);
+    }
+
+    /**
+     * Prefix sums: out[i] = arr[0] + ... + arr[i], wrapping on int overflow.
+     * See {@link PrefixSumAlgorithms#prefixSum(int[], int[])}.
+     *
+     * Time complexity: O(n). Space complexity: O(1) (one block).
+     *
+     * @param arr input values
+     * @param out destination, at least arr.length() long; may be arr itself (in-place)
+     */
+    public static void prefixSum(IntArray arr, IntArray out) {
+        if (out.length() < arr.length()) {
+            throw new IllegalArgumentException("out is smaller than arr: " + out.length() + " < " + arr.length());
+        }
+        int[] block = new int[BLOCK_SIZE];
+        int running = 0;
+        for (long base = 0; base < arr.length(); base += BLOCK_SIZE) {
+            int len = (int) Math.min(BLOCK_SIZE, arr.length() - base);
+            arr.read(base, block, 0, len);
+            for (int i = 0; i < len; i++) {
+                running += block[i];
+                block[i] = running;
+            }
+            out.write(base, block, 0, len);
+        }
+    }
+
+    /**
+     * Binary search in a sorted array. See {@link IntermediateArrayAlgorithms#binarySearch}.
+     *
+     * @param arr    the array, sorted ascending
+     * @param target the value to search for
+     * @return index of target if found, else -1
+     */
+    public static long binarySearch(IntArray arr, int target) {
+        return IntSourceAlgorithms.binarySearch(arr, target);
+    }
+
+    // Index i of the concatenation left ++ right
+    private static int blockGet(int[] left, int[] right, int i) {
+        return i < left.length ? left[i] : right[i - left.length];
+    }
+
+    private static void blockSet(int[] left, int[] right, int i, int value) {
+        if (i < left.length) left[i] = value;
+        else right[i - left.length] = value;
+    }
+}
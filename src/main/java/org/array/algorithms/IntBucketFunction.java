@@ -0,0 +1,48 @@
+package org.array.algorithms;
+
+/**
+ * Maps a value to its bucket, for the multi-way partitioning in {@link PartitionAlgorithms}.
+ *
+ * Must be deterministic and cheap: with more than 256 buckets the partitioners call it twice
+ * per value (once to count, once to place) instead of storing a bucket id per value.
+ */
+@FunctionalInterface
+public interface IntBucketFunction {
+
+    /**
+     * @param value the value to classify
+     * @return its bucket, in [0, number of buckets)
+     */
+    int bucket(int value);
+
+    /**
+     * Buckets by value ranges: bucket i holds the values v with bounds[i - 1] &lt;= v &lt; bounds[i],
+     * so n bounds give n + 1 buckets.
+     * Example: ranges(0) puts negatives in bucket 0 and the rest in bucket 1
+     * (the split of {@link AdvanceAlgorithms#rearrangePosNeg}).
+     *
+     * Lookup: branch-free binary search over the bounds (as in {@link SortedIntIndex}).
+     *
+     * @param bounds split points, strictly ascending
+     * @return the bucket function
+     */
+    static IntBucketFunction ranges(int... bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i - 1] >= bounds[i]) {
+                throw new IllegalArgumentException("bounds must be strictly ascending: " + bounds[i - 1] + ", " + bounds[i]);
+            }
+        }
+        int[] copy = bounds.clone();
+        if (copy.length == 0) return value -> 0;
+        return value -> {
+            // Number of bounds <= value
+            int base = 0;
+            for (int len = copy.length; len > 1; ) {
+                int half = len >>> 1;
+                base = copy[base + half - 1] <= value ? base + half : base;
+                len -= half;
+            }
+            return copy[base] <= value ? base + 1 : base;
+        };
+    }
+}
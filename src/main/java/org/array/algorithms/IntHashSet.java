@@ -0,0 +1,172 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * A set of int values without boxing.
+ *
+ * Data structure: Open addressing hash table with linear probing.
+ * All keys live in one int[] (no Integer objects, no linked nodes), so lookups
+ * touch one or two cache lines.
+ * 0 marks a free slot; the value 0 itself is tracked by a separate flag.
+ *
+ * Time complexity: O(1) expected for add / contains / remove.
+ * Space complexity: O(capacity), capacity is a power of two kept at most half full.
+ */
+public final class IntHashSet {
+
+    private static final int FREE = 0;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private int mask;
+    private int occupied;   // non-zero values in the table (0 is tracked by hasZero)
+    private boolean hasZero;
+
+    /**
+     * Creates a set that can hold expectedSize values without growing.
+     *
+     * @param expectedSize number of values expected
+     */
+    public IntHashSet(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value value to add
+     * @return true if the value was not in the set yet
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (hasZero) return false;
+            hasZero = true;
+            return true;
+        }
+        int slot = mix(value) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == value) return false;
+            slot = (slot + 1) & mask;
+        }
+        // Grow before inserting, so the table stays at most half full
+        if (occupied + 1 > (mask + 1) >>> 1 && keys.length < MAX_CAPACITY) {
+            grow();
+            slot = mix(value) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+        }
+        // Keep one free slot, so probes always end
+        if (occupied >= mask) throw new IllegalStateException("IntHashSet is full: " + size() + " values");
+        keys[slot] = value;
+        occupied++;
+        return true;
+    }
+
+    /**
+     * Checks whether the set holds a value.
+     *
+     * @param value value to look up
+     * @return true if present
+     */
+    public boolean contains(int value) {
+        if (value == FREE) return hasZero;
+        int[] table = keys;
+        int slot = mix(value) & mask;
+        while (table[slot] != FREE) {
+            if (table[slot] == value) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * Linear probing needs no tombstones: the entries after the freed slot that probed past it
+     * are shifted back into the gap, so every lookup still finds its key before a free slot.
+     *
+     * @param value value to remove
+     * @return true if the value was in the set
+     */
+    public boolean remove(int value) {
+        if (value == FREE) {
+            if (!hasZero) return false;
+            hasZero = false;
+            return true;
+        }
+        int[] table = keys;
+        int slot = mix(value) & mask;
+        while (table[slot] != value) {
+            if (table[slot] == FREE) return false;
+            slot = (slot + 1) & mask;
+        }
+        int gap = slot;
+        for (int next = (gap + 1) & mask; table[next] != FREE; next = (next + 1) & mask) {
+            int home = mix(table[next]) & mask;
+            // The entry may move into the gap unless its home slot lies in (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+        }
+        table[gap] = FREE;
+        occupied--;
+        return true;
+    }
+
+    /**
+     * @return number of values in the set
+     */
+    public int size() {
+        return occupied + (hasZero ? 1 : 0);
+    }
+
+    /**
+     * Removes every value but keeps the table, so the set can be reused without allocating.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasZero = false;
+        occupied = 0;
+    }
+
+    private void grow() {
+        int[] old = keys;
+        keys = new int[old.length << 1];
+        mask = keys.length - 1;
+        for (int value : old) {
+            if (value == FREE) continue;
+            int slot = mix(value) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = value;
+        }
+    }
+
+    /**
+     * Scrambles the bits of a key, so nearby values (1, 2, 3 ...) spread over the table.
+     * (MurmurHash3 finalizer.)
+     *
+     * @param value key to hash
+     * @return well-mixed hash
+     */
+    static int mix(int value) {
+        int h = value * 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Smallest power of two that keeps expectedSize entries at most half full.
+     *
+     * @param expectedSize number of entries expected
+     * @return table capacity
+     */
+    static int tableSizeFor(int expectedSize) {
+        long wanted = Math.max(4L, 2L * expectedSize);
+        if (wanted > MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
@@ -0,0 +1,24 @@
+package org.array.algorithms;
+
+/**
+ * Scan kernels that have a SIMD implementation (see {@link VectorAlgorithms}).
+ *
+ * Every method must give exactly the same result as the scalar version it replaces.
+ */
+interface IntKernels {
+
+    /** Same as {@link BasicArrayAlgorithms#sumArray}. */
+    int sumArray(int[] arr);
+
+    /** Same as {@link BasicArrayAlgorithms#findMinMax(int[], IntPairSink)}. */
+    void findMinMax(int[] arr, IntPairSink sink);
+
+    /** Same as {@link IntermediateArrayAlgorithms#linearSearch}. */
+    int linearSearch(int[] arr, int target);
+
+    /** Same as {@link AdvanceAlgorithms#rearrangePosNeg}. */
+    void rearrangePosNeg(int[] arr);
+
+    /** Same as {@link CompetitiveAlgorithms#sort012}. */
+    void sort012(int[] arr);
+}
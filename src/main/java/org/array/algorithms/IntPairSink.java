@@ -0,0 +1,16 @@
+package org.array.algorithms;
+
+/**
+ * Receives pairs of ints (for example two indices) from an algorithm, without boxing.
+ */
+@FunctionalInterface
+public interface IntPairSink {
+
+    /**
+     * Called once per result.
+     *
+     * @param first  first value of the pair
+     * @param second second value of the pair
+     */
+    void accept(int first, int second);
+}
@@ -0,0 +1,15 @@
+package org.array.algorithms;
+
+/**
+ * Receives int results from an algorithm, one at a time, without boxing.
+ */
+@FunctionalInterface
+public interface IntSink {
+
+    /**
+     * Called once per result.
+     *
+     * @param value the result
+     */
+    void accept(int value);
+}
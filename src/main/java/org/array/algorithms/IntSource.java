@@ -0,0 +1,61 @@
+package org.array.algorithms;
+
+/**
+ * Read-only sequence of ints with long indices.
+ *
+ * Lets the algorithms in {@link IntSourceAlgorithms} run over data that is not an on-heap
+ * int[] (a memory-mapped file, off-heap memory ...) and that may hold more than 2^31 values.
+ */
+public interface IntSource {
+
+    /**
+     * @return number of values
+     */
+    long length();
+
+    /**
+     * @param index position in [0, length())
+     * @return the value at index
+     */
+    int get(long index);
+
+    /**
+     * Bulk read: copies length values starting at position from into dst[offset ..].
+     * Lets scans read a small block at a time instead of paying per-element access overhead.
+     *
+     * @param from   first position to read
+     * @param dst    destination array
+     * @param offset first index written in dst
+     * @param length number of values to copy
+     */
+    default void read(long from, int[] dst, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[offset + i] = get(from + i);
+        }
+    }
+
+    /**
+     * Wraps an on-heap array (no copy), so the same code can run on both.
+     *
+     * @param arr the array to wrap
+     * @return a view of arr
+     */
+    static IntSource of(int[] arr) {
+        return new IntSource() {
+            @Override
+            public long length() {
+                return arr.length;
+            }
+
+            @Override
+            public int get(long index) {
+                return arr[(int) index];
+            }
+
+            @Override
+            public void read(long from, int[] dst, int offset, int length) {
+                System.arraycopy(arr, Math.toIntExact(from), dst, offset, length);
+            }
+        };
+    }
+}
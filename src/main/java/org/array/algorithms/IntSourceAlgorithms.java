@@ -0,0 +1,392 @@
+package org.array.algorithms;
+
+/**
+ * The read-only algorithms of this library, running directly over an {@link IntSource}
+ * (a memory-mapped file, off-heap memory, or a wrapped int[]) with long indices.
+ *
+ * Each method follows the int[] version named in its doc comment. Differences:
+ * - indices and positions are long, because a source can hold more than 2^31 values;
+ * - sums are long where a long stream of ints could overflow an int.
+ *
+ * Pattern: Scans read the source in blocks of {@value #BLOCK_SIZE} values with
+ * {@link IntSource#read}. The block stays in L1 cache, and the inner loop runs over a plain
+ * int[] (bounds checks hoisted, auto-vectorized) instead of one virtual call per value.
+ *
+ * Algorithms that reorder their input (sorts, reversals, rotations) need a writable
+ * array and are not part of this class.
+ */
+public class IntSourceAlgorithms {
+
+    /** Values read per block by the scanning methods (16 KB). */
+    static final int BLOCK_SIZE = 4096;
+
+    /**
+     * Above this many values {@link #hasDuplicates} uses a bitmap over the value range instead of a
+     * hash set: the set's table (8 bytes per value) would outgrow the at most 512 MB bitmap, and it
+     * cannot hold more than 2^30 values anyway.
+     */
+    static final long HASH_SET_LIMIT = 1L << 26;
+
+    /**
+     * Send all values to a sink, in order. See {@link BasicArrayAlgorithms#printArray(int[], IntSink)}.
+     *
+     * @param src  the values
+     * @param sink receives every value
+     */
+    public static void printArray(IntSource src, IntSink sink) {
+        int[] block = new int[BLOCK_SIZE];
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                sink.accept(block[i]);
+            }
+        }
+    }
+
+    /**
+     * Sum of all values, wrapping on int overflow. See {@link BasicArrayAlgorithms#sumArray}.
+     *
+     * @param src the values
+     * @return the sum (int arithmetic)
+     */
+    public static int sumArray(IntSource src) {
+        return (int) sumArrayLong(src); // low 32 bits of the exact sum = the wrapped int sum
+    }
+
+    /**
+     * Exact sum of all values.
+     *
+     * Time complexity: O(n).
+     *
+     * @param src the values
+     * @return the sum as a long (cannot overflow below 2^32 values)
+     */
+    public static long sumArrayLong(IntSource src) {
+        int[] block = new int[BLOCK_SIZE];
+        long sum = 0;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                sum += block[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Minimum and maximum value. See {@link BasicArrayAlgorithms#findMinMax(int[], IntPairSink)}.
+     *
+     * @param src  the values (must not be empty)
+     * @param sink receives (min, max)
+     */
+    public static void findMinMax(IntSource src, IntPairSink sink) {
+        int[] block = new int[BLOCK_SIZE];
+        int max = src.get(0);
+        int min = max;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                max = Math.max(max, block[i]);
+                min = Math.min(min, block[i]);
+            }
+        }
+        sink.accept(min, max);
+    }
+
+    /**
+     * Average of all values, computed from the exact long sum.
+     * (Unlike {@link BasicArrayAlgorithms#averageArray}, large inputs do not overflow.)
+     *
+     * @param src the values
+     * @return the average value
+     */
+    public static double averageArray(IntSource src) {
+        return (double) sumArrayLong(src) / src.length();
+    }
+
+    /**
+     * Linear search. See {@link IntermediateArrayAlgorithms#linearSearch}.
+     *
+     * @param src    the values
+     * @param target the value to search for
+     * @return index of the first match, else -1
+     */
+    public static long linearSearch(IntSource src, int target) {
+        int[] block = new int[BLOCK_SIZE];
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                if (block[i] == target) return base + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search in sorted values. See {@link IntermediateArrayAlgorithms#binarySearch}.
+     *
+     * @param src    the values, sorted ascending
+     * @param target the value to search for
+     * @return index of target if found, else -1
+     */
+    public static long binarySearch(IntSource src, int target) {
+        long low = 0, high = src.length() - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int value = src.get(mid);
+            if (value == target) return mid;
+            else if (value < target) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Duplicate check. See {@link DuplicateAlgorithms#hasDuplicates(int[])}.
+     * Up to {@link #HASH_SET_LIMIT} values: a primitive hash set. Above: one bit per value in
+     * [min, max] (a second pass; at most 512 MB, which covers every int).
+     *
+     * @param src the values
+     * @return true if some value occurs twice
+     */
+    public static boolean hasDuplicates(IntSource src) {
+        long n = src.length();
+        if (n > 1L << 32) return true; // more values than distinct ints (pigeonhole)
+        if (n > HASH_SET_LIMIT) return hasDuplicatesBitmap(src);
+        IntHashSet seen = new IntHashSet((int) n);
+        int[] block = new int[BLOCK_SIZE];
+        for (long base = 0; base < n; base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                if (!seen.add(block[i])) return true;
+            }
+        }
+        return false;
+    }
+
+    // One bit per value in [min, max], as DuplicateAlgorithms' bitmap strategy
+    private static boolean hasDuplicatesBitmap(IntSource src) {
+        long n = src.length();
+        int[] block = new int[BLOCK_SIZE];
+        int min = src.get(0), max = min;
+        for (long base = 0; base < n; base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                if (block[i] < min) min = block[i];
+                if (block[i] > max) max = block[i];
+            }
+        }
+        long range = (long) max - min + 1;
+        if (range < n) return true;     // pigeonhole
+        long[] bits = new long[(int) ((range + 63) >>> 6)];
+        for (long base = 0; base < n; base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                long offset = (long) block[i] - min;
+                int word = (int) (offset >>> 6);
+                long mask = 1L << offset;   // shift uses the low 6 bits only
+                if ((bits[word] & mask) != 0) return true;
+                bits[word] |= mask;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Second largest distinct value. See {@link AdvanceAlgorithms#secondLargest}.
+     *
+     * @param src the values
+     * @return the second largest value or Integer.MIN_VALUE if none
+     */
+    public static int secondLargest(IntSource src) {
+        int[] block = new int[BLOCK_SIZE];
+        int max = Integer.MIN_VALUE, second = Integer.MIN_VALUE;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                int num = block[i];
+                if (num > max) {
+                    second = max;
+                    max = num;
+                } else if (num > second && num != max) {
+                    second = num;
+                }
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Second smallest distinct value. See {@link AdvanceAlgorithms#secondSmallest}.
+     *
+     * @param src the values
+     * @return the second smallest value or Integer.MAX_VALUE if none
+     */
+    public static int secondSmallest(IntSource src) {
+        int[] block = new int[BLOCK_SIZE];
+        int min = Integer.MAX_VALUE, second = Integer.MAX_VALUE;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                int num = block[i];
+                if (num < min) {
+                    second = min;
+                    min = num;
+                } else if (num < second && num != min) {
+                    second = num;
+                }
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Maximum sum of k consecutive values. See {@link AdvanceAlgorithms#maxSumSlidingWindow}.
+     *
+     * @param src the values (at least k of them)
+     * @param k   size of the window
+     * @return maximum window sum, as a long
+     */
+    public static long maxSumSlidingWindow(IntSource src, int k) {
+        long n = src.length();
+        int[] entering = new int[BLOCK_SIZE];
+        int[] leaving = new int[BLOCK_SIZE];
+        long windowSum = 0;
+        for (long base = 0; base < k; base += BLOCK_SIZE) {
+            int len = (int) Math.min(BLOCK_SIZE, k - base);
+            src.read(base, entering, 0, len);
+            for (int i = 0; i < len; i++) {
+                windowSum += entering[i];
+            }
+        }
+        long maxSum = windowSum;
+        // The values leaving the window are the ones entering it k positions earlier, so both blocks have the same length
+        for (long base = k; base < n; base += BLOCK_SIZE) {
+            int len = (int) Math.min(BLOCK_SIZE, n - base);
+            src.read(base, entering, 0, len);
+            src.read(base - k, leaving, 0, len);
+            for (int i = 0; i < len; i++) {
+                windowSum += entering[i] - (long) leaving[i]; // Remove left element, add right element
+                maxSum = Math.max(maxSum, windowSum);
+            }
+        }
+        return maxSum;
+    }
+
+    /**
+     * Maximum subarray sum. See {@link AdvanceAlgorithms#kadaneMaxSubArraySum}
+     * and {@link StreamingKadane} for the positions of the best subarray.
+     *
+     * @param src the values (must not be empty)
+     * @return maximum subarray sum, as a long
+     */
+    public static long kadaneMaxSubArraySum(IntSource src) {
+        int[] block = new int[BLOCK_SIZE];
+        long maxSoFar = src.get(0), currentMax = 0;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                currentMax = Math.max(block[i], currentMax + block[i]);
+                maxSoFar = Math.max(maxSoFar, currentMax);
+            }
+        }
+        return maxSoFar;
+    }
+
+    /**
+     * Two-pointer pair search in sorted values. See {@link CompetitiveAlgorithms#twoPointerSum(int[], int, IntPairSink)}.
+     *
+     * @param src    the values, sorted ascending
+     * @param target target sum to find
+     * @param sink   receives the two values of the first pair found
+     * @return true if a pair was found
+     */
+    public static boolean twoPointerSum(IntSource src, long target, IntPairSink sink) {
+        long left = 0, right = src.length() - 1;
+        while (left < right) {
+            long sum = (long) src.get(left) + src.get(right);
+            if (sum == target) {
+                sink.accept(src.get(left), src.get(right));
+                return true;
+            } else if (sum < target) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * First contiguous run summing to the target (non-negative values).
+     * See {@link CompetitiveAlgorithms#subarraySum(int[], int, IntPairSink)}.
+     *
+     * @param src    the values (non-negative)
+     * @param target target sum
+     * @return {start, end} positions of the first match, or null if none
+     */
+    public static long[] subarraySum(IntSource src, long target) {
+        int[] block = new int[BLOCK_SIZE];
+        int[] leaving = new int[BLOCK_SIZE];   // values from start on, refilled when used up
+        int leavingLen = 0, leavingPos = 0;
+        long start = 0, sum = 0;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                long end = base + i;
+                sum += block[i];
+                // Shrink window from left while sum > target
+                while (sum > target && start <= end) {
+                    if (leavingPos == leavingLen) {
+                        leavingLen = readBlock(src, start, leaving);
+                        leavingPos = 0;
+                    }
+                    sum -= leaving[leavingPos++];
+                    start++;
+                }
+                if (sum == target && start <= end) return new long[]{start, end};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Missing number of the sequence 0..n. See {@link CompetitiveAlgorithms#findMissing}.
+     *
+     * @param src values 0..n with one missing
+     * @param n   upper bound of sequence (inclusive)
+     * @return the missing number
+     */
+    public static long findMissing(IntSource src, long n) {
+        long total = n * (n + 1) / 2; // Sum of 0 to n
+        return total - sumArrayLong(src);
+    }
+
+    /**
+     * Majority element (Boyer-Moore). See {@link CompetitiveAlgorithms#majorityElement}.
+     *
+     * @param src the values; a value occurring more than n/2 times is assumed to exist
+     * @return majority element
+     */
+    public static int majorityElement(IntSource src) {
+        int[] block = new int[BLOCK_SIZE];
+        long count = 0;
+        int candidate = 0;
+        for (long base = 0; base < src.length(); base += BLOCK_SIZE) {
+            int len = readBlock(src, base, block);
+            for (int i = 0; i < len; i++) {
+                int num = block[i];
+                if (count == 0) candidate = num;  // Pick new candidate
+                count += (num == candidate) ? 1 : -1;
+            }
+        }
+        return candidate;
+    }
+
+    // Reads the block starting at base; returns how many values were read
+    private static int readBlock(IntSource src, long base, int[] block) {
+        int len = (int) Math.min(block.length, src.length() - base);
+        src.read(base, block, 0, len);
+        return len;
+    }
+}
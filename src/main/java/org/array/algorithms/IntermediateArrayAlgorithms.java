@@ -10,6 +10,17 @@ package org.array.algorithms;
  */
 public class IntermediateArrayAlgorithms {
 
+    // Instrumentation (see Metrics; compiled away unless enabled)
+    private static final OperationMetrics LINEAR_SEARCH = Metrics.operation("IntermediateArrayAlgorithms.linearSearch");
+    private static final OperationMetrics BUBBLE_SORT = Metrics.operation("IntermediateArrayAlgorithms.bubbleSort");
+    private static final OperationMetrics SELECTION_SORT = Metrics.operation("IntermediateArrayAlgorithms.selectionSort");
+    private static final OperationMetrics INSERTION_SORT = Metrics.operation("IntermediateArrayAlgorithms.insertionSort");
+    private static final OperationMetrics BINARY_SEARCH = Metrics.operation("IntermediateArrayAlgorithms.binarySearch");
+    private static final OperationMetrics SHIFT_RIGHT = Metrics.operation("IntermediateArrayAlgorithms.shiftRight");
+    private static final OperationMetrics SHIFT_LEFT = Metrics.operation("IntermediateArrayAlgorithms.shiftLeft");
+    private static final OperationMetrics HAS_DUPLICATES = Metrics.operation("IntermediateArrayAlgorithms.hasDuplicates");
+    private static final OperationMetrics MERGE_ARRAYS = Metrics.operation("IntermediateArrayAlgorithms.mergeArrays");
+
     /**
      * Performs linear search for the target in the given array.
      * <p>
@@ -22,10 +33,16 @@ public class IntermediateArrayAlgorithms {
      * @return index of target if found, else -1
      */
     public static int linearSearch(int[] arr, int target) {
+        long start = Metrics.start();
+        int found = -1;
         for (int i = 0; i < arr.length; i++) {
-            if (arr[i] == target) return i;
+            if (arr[i] == target) {
+                found = i;
+                break;
+            }
         }
-        return -1;
+        LINEAR_SEARCH.end(start, arr.length, found < 0 ? arr.length : found + 1, found < 0);
+        return found;
     }
 
     /**
@@ -38,13 +55,18 @@ public class IntermediateArrayAlgorithms {
      * @param arr the array to sort
      */
     public static void bubbleSort(int[] arr) {
+        long start = Metrics.start();
+        long comparisons = 0, swaps = 0;
         for (int i = 0; i < arr.length - 1; i++) {
             for (int j = 0; j < arr.length - 1 - i; j++) {
+                comparisons++;
                 if (arr[j] > arr[j + 1]) {
                     swap(arr, j, j + 1);
+                    swaps++;
                 }
             }
         }
+        BUBBLE_SORT.end(start, arr.length, comparisons, swaps);
     }
 
     /**
@@ -57,14 +79,18 @@ public class IntermediateArrayAlgorithms {
      * @param arr the array to sort
      */
     public static void selectionSort(int[] arr) {
+        long start = Metrics.start();
+        long comparisons = 0;
         for (int i = 0; i < arr.length - 1; i++) {
             int minIndex = i;
             for (int j = i + 1; j < arr.length; j++) {
+                comparisons++;
                 if (arr[j] < arr[minIndex])
                     minIndex = j;
             }
             swap(arr, i, minIndex);
         }
+        SELECTION_SORT.end(start, arr.length, comparisons, Math.max(arr.length - 1, 0));
     }
 
     /**
@@ -77,11 +103,28 @@ public class IntermediateArrayAlgorithms {
      * @param arr the array to sort
      */
     public static void insertionSort(int[] arr) {
-        for (int i = 1; i < arr.length; i++) {
+        long start = Metrics.start();
+        insertionSort(arr, 0, arr.length);
+        INSERTION_SORT.end(start, arr.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of the array in ascending order using Insertion Sort.
+     * <p>
+     * Same algorithm as {@link #insertionSort(int[])}, limited to a range.
+     * Used by {@link SortAlgorithms} to finish small partitions, where insertion sort
+     * beats every O(n log n) algorithm.
+     *
+     * @param arr  the array to sort
+     * @param from first index (inclusive)
+     * @param to   last index (exclusive)
+     */
+    public static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
             int key = arr[i];
             int j = i - 1;
             // Shift larger elements to the right
-            while (j >= 0 && arr[j] > key) {
+            while (j >= from && arr[j] > key) {
                 arr[j + 1] = arr[j];
                 j--;
             }
@@ -104,14 +147,19 @@ public class IntermediateArrayAlgorithms {
      * @return index of target if found, else -1
      */
     public static int binarySearch(int[] arr, int target) {
-        int low = 0, high = arr.length - 1;
+        long start = Metrics.start();
+        int low = 0, high = arr.length - 1, found = -1, probes = 0;
         while (low <= high) {
             int mid = low + (high - low) / 2; // Safe midpoint calculation
-            if (arr[mid] == target) return mid;
-            else if (arr[mid] < target) low = mid + 1;
+            probes++;
+            if (arr[mid] == target) {
+                found = mid;
+                break;
+            } else if (arr[mid] < target) low = mid + 1;
             else high = mid - 1;
         }
-        return -1;
+        BINARY_SEARCH.end(start, arr.length, probes, found < 0);
+        return found;
     }
 
     /**
@@ -125,11 +173,13 @@ public class IntermediateArrayAlgorithms {
      */
     public static void shiftRight(int[] arr) {
         if (arr.length == 0) return;
+        long start = Metrics.start();
         int last = arr[arr.length - 1];
         for (int i = arr.length - 1; i > 0; i--) {
             arr[i] = arr[i - 1];
         }
         arr[0] = last;
+        SHIFT_RIGHT.end(start, arr.length, 0, arr.length);
     }
 
     /**
@@ -143,11 +193,13 @@ public class IntermediateArrayAlgorithms {
      */
     public static void shiftLeft(int[] arr) {
         if (arr.length == 0) return;
+        long start = Metrics.start();
         int first = arr[0];
         for (int i = 0; i < arr.length - 1; i++) {
             arr[i] = arr[i + 1];
         }
         arr[arr.length - 1] = first;
+        SHIFT_LEFT.end(start, arr.length, 0, arr.length);
     }
 
     /**
@@ -161,12 +213,21 @@ public class IntermediateArrayAlgorithms {
      * @return true if duplicates found, false otherwise
      */
     public static boolean hasDuplicates(int[] arr) {
+        long start = Metrics.start();
+        long comparisons = 0;
+        boolean found = false;
+        search:
         for (int i = 0; i < arr.length; i++) {
             for (int j = i + 1; j < arr.length; j++) {
-                if (arr[i] == arr[j]) return true;
+                comparisons++;
+                if (arr[i] == arr[j]) {
+                    found = true;
+                    break search;
+                }
             }
         }
-        return false;
+        HAS_DUPLICATES.end(start, arr.length, comparisons, !found);
+        return found;
     }
 
     /**
@@ -174,20 +235,19 @@ public class IntermediateArrayAlgorithms {
      * <p>
      * Algorithm type: Merge operation.
      * Time complexity: O(n + m).
-     * Pattern: Copy all elements from both arrays into a new array.
+     * Pattern: Copy all elements from both arrays into a new array (two System.arraycopy block copies).
+     * To merge two sorted arrays into sorted order, see {@link MergeAlgorithms#merge}.
      *
      * @param arr1 the first array
      * @param arr2 the second array
      * @return merged array
      */
     public static int[] mergeArrays(int[] arr1, int[] arr2) {
+        long start = Metrics.start();
         int[] merged = new int[arr1.length + arr2.length];
-        for (int i = 0; i < arr1.length; i++) {
-            merged[i] = arr1[i];
-        }
-        for (int i = 0; i < arr2.length; i++) {
-            merged[arr1.length + i] = arr2[i];
-        }
+        System.arraycopy(arr1, 0, merged, 0, arr1.length);
+        System.arraycopy(arr2, 0, merged, arr1.length, arr2.length);
+        MERGE_ARRAYS.end(start, merged.length);
         return merged;
     }
 
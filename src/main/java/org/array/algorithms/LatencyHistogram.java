@@ -0,0 +1,135 @@
+package org.array.algorithms;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds, in the style of HdrHistogram.
+ *
+ * Buckets are log-linear: every power of two is split into {@value #SUB_BUCKETS} equal
+ * sub-buckets, so any recorded value is reported within about 1 / {@value #SUB_BUCKETS}
+ * (6%) of its true value, from 1 ns up to about 18 minutes (longer values land in the last bucket).
+ * Recording is a shift, a table index and one atomic add; no allocation, no locks.
+ *
+ * The counts are striped: each thread adds to one of several copies of the table, picked by
+ * its thread id, so threads recording at the same time rarely touch the same cache line
+ * (the idea of LongAdder). Reads sum the stripes.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;     // 2^40 ns ≈ 18 minutes
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final int STRIPES = Math.min(16,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos latency in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        counts.getAndIncrement(stripe * BUCKETS + bucket(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return average latency in nanoseconds (0 if empty)
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * @return largest recorded latency in nanoseconds (exact)
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Latency at a quantile, e.g. 0.99 for p99 (nearest rank, within the bucket precision).
+     *
+     * @param q quantile in [0, 1]
+     * @return latency in nanoseconds (0 if empty)
+     */
+    public long valueAtQuantile(double q) {
+        if (!(q >= 0 && q <= 1)) throw new IllegalArgumentException("q must be in [0, 1]: " + q);
+        long[] merged = new long[BUCKETS];
+        long count = addCountsTo(merged);
+        return count == 0 ? 0 : Math.min(valueAtQuantile(merged, count, q), max());
+    }
+
+    /**
+     * Forgets all recorded values. Values recorded concurrently may or may not survive.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    // Adds the bucket counts (summed over the stripes) to merged; returns the number of values
+    long addCountsTo(long[] merged) {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long c = counts.get(i);
+            merged[i % BUCKETS] += c;
+            count += c;
+        }
+        return count;
+    }
+
+    // Quantile of summed bucket counts (nearest rank); also used to combine several histograms
+    static long valueAtQuantile(long[] counts, long count, double q) {
+        long rank = Math.max((long) Math.ceil(q * count), 1);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) return representative(b);
+        }
+        return representative(BUCKETS - 1);
+    }
+
+    static int bucketCount() {
+        return BUCKETS;
+    }
+
+    // Values below 2^SUB_BUCKET_BITS get one bucket each; above, the top SUB_BUCKET_BITS + 1 bits pick it
+    static int bucket(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        int index = (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+        return Math.min(index, BUCKETS - 1);
+    }
+
+    // Middle of the value range of a bucket
+    static long representative(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (bucket - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + (1L << shift) / 2;
+    }
+}
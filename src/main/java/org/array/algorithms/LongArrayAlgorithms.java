@@ -0,0 +1,405 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The core algorithms of this library for long[] arrays: no boxing, no conversion to int[].
+ *
+ * Sums, prefix sums and subarray sums are returned as long.
+ * (Integer types are widened to long, so short and byte sums cannot overflow;
+ * long sums wrap around like the int versions do.)
+ *
+ * Generated from src/template/java/org/array/algorithms/X-ArrayAlgorithms.java.template
+ * by src/template/GenerateArrayAlgorithms.java. Edit the template, not this file.
+ */
+public class LongArrayAlgorithms {
+
+    // ===== Basic =====
+
+    /**
+     * Sum of all elements.
+     *
+     * Algorithm: Running total in a long.
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the sum (0 for an empty array)
+     */
+    public static long sumArray(long[] arr) {
+        long sum = 0;
+        for (long value : arr) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Average of all elements.
+     *
+     * @param arr input array (must not be empty)
+     * @return the average value
+     */
+    public static double averageArray(long[] arr) {
+        return (double) sumArray(arr) / arr.length;
+    }
+
+    /**
+     * Smallest and largest element.
+     *
+     * Pattern: One pass, two running extremes.
+     * Time complexity: O(n).
+     *
+     * @param arr input array (must not be empty)
+     * @return {min, max}
+     */
+    public static long[] findMinMax(long[] arr) {
+        long min = arr[0], max = arr[0];
+        for (long value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return new long[]{min, max};
+    }
+
+    /**
+     * Reverses the whole array in place.
+     *
+     * Pattern: Two pointers moving towards each other.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array to reverse
+     */
+    public static void reverseArray(long[] arr) {
+        reverse(arr, 0, arr.length - 1);
+    }
+
+    // ===== Searching and sorting =====
+
+    /**
+     * Index of the first element equal to target.
+     *
+     * Time complexity: O(n).
+     *
+     * @param arr    input array
+     * @param target value to find
+     * @return index of the first match, else -1
+     */
+    public static int linearSearch(long[] arr, long target) {
+        for (int i = 0; i < arr.length; i++) {
+            if (same(arr[i], target)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Binary search in a sorted array.
+     *
+     * Pattern: Halve the search range every step.
+     * Time complexity: O(log n).
+     *
+     * @param arr    array sorted ascending (for example by {@link #sort})
+     * @param target value to find
+     * @return index of a match, else -1
+     */
+    public static int binarySearch(long[] arr, long target) {
+        int low = 0, high = arr.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (same(arr[mid], target)) return mid;
+            else if (less(arr[mid], target)) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Sorts the array ascending, in place.
+     *
+     * Time complexity: O(n log n) (dual-pivot quicksort from {@link Arrays#sort}).
+     *
+     * @param arr the array to sort
+     */
+    public static void sort(long[] arr) {
+        Arrays.sort(arr);
+    }
+
+    /**
+     * Checks whether any value occurs twice.
+     *
+     * Algorithm: Sort a copy, then compare neighbours. The input is not modified.
+     * Time complexity: O(n log n). Space complexity: O(n).
+     *
+     * @param arr input array
+     * @return true if a duplicate exists
+     */
+    public static boolean hasDuplicates(long[] arr) {
+        long[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (same(sorted[i - 1], sorted[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Merges two sorted arrays into one new sorted array.
+     *
+     * Pattern: Two pointers, always take the smaller head (stable: ties come from arr1 first).
+     * Time complexity: O(n + m).
+     *
+     * @param arr1 first array, sorted ascending
+     * @param arr2 second array, sorted ascending
+     * @return merged array
+     */
+    public static long[] mergeSorted(long[] arr1, long[] arr2) {
+        long[] merged = new long[arr1.length + arr2.length];
+        int i = 0, j = 0, k = 0;
+        while (i < arr1.length && j < arr2.length) {
+            merged[k++] = less(arr2[j], arr1[i]) ? arr2[j++] : arr1[i++];
+        }
+        System.arraycopy(arr1, i, merged, k, arr1.length - i);
+        System.arraycopy(arr2, j, merged, k + arr1.length - i, arr2.length - j);
+        return merged;
+    }
+
+    // ===== Advanced =====
+
+    /**
+     * Second largest distinct value.
+     *
+     * Pattern: One pass tracking max and second max.
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the second largest value, or Long.MIN_VALUE if none
+     */
+    public static long secondLargest(long[] arr) {
+        long max = Long.MIN_VALUE, second = Long.MIN_VALUE;
+        for (long num : arr) {
+            if (less(max, num)) {
+                second = max;
+                max = num;
+            } else if (less(second, num) && !same(num, max)) {
+                second = num;
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Second smallest distinct value.
+     *
+     * Pattern: One pass tracking min and second min.
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return the second smallest value, or Long.MAX_VALUE if none
+     */
+    public static long secondSmallest(long[] arr) {
+        long min = Long.MAX_VALUE, second = Long.MAX_VALUE;
+        for (long num : arr) {
+            if (less(num, min)) {
+                second = min;
+                min = num;
+            } else if (less(num, second) && !same(num, min)) {
+                second = num;
+            }
+        }
+        return second;
+    }
+
+    /**
+     * Maximum sum of k consecutive elements.
+     *
+     * Pattern: Sliding window (add the entering element, subtract the leaving one).
+     * Time complexity: O(n).
+     *
+     * @param arr input array (at least k elements)
+     * @param k   window size
+     * @return maximum window sum
+     */
+    public static long maxSumSlidingWindow(long[] arr, int k) {
+        long windowSum = 0;
+        for (int i = 0; i < k; i++) {
+            windowSum += arr[i];
+        }
+        long maxSum = windowSum;
+        for (int i = k; i < arr.length; i++) {
+            windowSum += arr[i] - arr[i - k];
+            maxSum = Math.max(maxSum, windowSum);
+        }
+        return maxSum;
+    }
+
+    /**
+     * Prefix sums: prefix[i] = arr[0] + ... + arr[i].
+     *
+     * Time complexity: O(n).
+     *
+     * @param arr input array
+     * @return new array of prefix sums (empty for empty input)
+     */
+    public static long[] prefixSum(long[] arr) {
+        long[] prefix = new long[arr.length];
+        long sum = 0;
+        for (int i = 0; i < arr.length; i++) {
+            sum += arr[i];
+            prefix[i] = sum;
+        }
+        return prefix;
+    }
+
+    /**
+     * Maximum subarray sum (Kadane's algorithm).
+     *
+     * Pattern: Either extend the current subarray or start a new one at each element.
+     * Time complexity: O(n).
+     *
+     * @param arr input array (must not be empty)
+     * @return maximum subarray sum
+     */
+    public static long kadaneMaxSubArraySum(long[] arr) {
+        long maxSoFar = arr[0], currentMax = arr[0];
+        for (int i = 1; i < arr.length; i++) {
+            currentMax = Math.max(arr[i], currentMax + arr[i]);
+            maxSoFar = Math.max(maxSoFar, currentMax);
+        }
+        return maxSoFar;
+    }
+
+    /**
+     * Moves negative values before non-negative ones, keeping the order in both groups.
+     *
+     * Pattern: Partitioning with a temporary array.
+     * Time complexity: O(n). Space complexity: O(n).
+     *
+     * @param arr the array to rearrange
+     */
+    public static void rearrangePosNeg(long[] arr) {
+        long[] temp = new long[arr.length];
+        int index = 0;
+        for (long value : arr) {
+            if (value < 0) temp[index++] = value;
+        }
+        for (long value : arr) {
+            if (!(value < 0)) temp[index++] = value;
+        }
+        System.arraycopy(temp, 0, arr, 0, arr.length);
+    }
+
+    /**
+     * Rotates the array right by k steps, in place.
+     *
+     * Algorithm: Triple reversal.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of steps (any non-negative value)
+     */
+    public static void rotateRightInPlace(long[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        k %= n;
+        reverse(arr, 0, n - 1);
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+    }
+
+    /**
+     * Rotates the array left by k steps, in place.
+     *
+     * Algorithm: Triple reversal.
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr the array
+     * @param k   number of steps (any non-negative value)
+     */
+    public static void rotateLeftInPlace(long[] arr, int k) {
+        int n = arr.length;
+        if (n == 0) return;
+        k %= n;
+        reverse(arr, 0, k - 1);
+        reverse(arr, k, n - 1);
+        reverse(arr, 0, n - 1);
+    }
+
+    /**
+     * Reverses arr[start..end] in place.
+     *
+     * @param arr   the array
+     * @param start first index
+     * @param end   last index (inclusive)
+     */
+    public static void reverse(long[] arr, int start, int end) {
+        while (start < end) {
+            long temp = arr[start];
+            arr[start++] = arr[end];
+            arr[end--] = temp;
+        }
+    }
+
+    // ===== Competitive =====
+
+    /**
+     * Finds a pair with the given sum in a sorted array.
+     *
+     * Pattern: Two pointers from both ends.
+     * The sum is compared exactly, even when arr[left] + arr[right] overflows a long.
+     * Time complexity: O(n).
+     *
+     * @param arr    array sorted ascending
+     * @param target the sum to find
+     * @param sink   receives the indices (left, right) of the first pair found
+     * @return true if a pair was found
+     */
+    public static boolean twoPointerSum(long[] arr, long target, IntPairSink sink) {
+        int left = 0, right = arr.length - 1;
+        while (left < right) {
+            int cmp = compareSum(arr[left], arr[right], target);
+            if (cmp == 0) {
+                sink.accept(left, right);
+                return true;
+            } else if (cmp < 0) {
+                left++;
+            } else {
+                right--;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Majority element (Boyer-Moore voting).
+     *
+     * Time complexity: O(n). Space complexity: O(1).
+     *
+     * @param arr input array in which some value occurs more than n/2 times
+     * @return the majority element
+     */
+    public static long majorityElement(long[] arr) {
+        int count = 0;
+        long candidate = 0;
+        for (long num : arr) {
+            if (count == 0) candidate = num;
+            count += same(num, candidate) ? 1 : -1;
+        }
+        return candidate;
+    }
+
+    // ===== Helpers =====
+
+    private static boolean less(long a, long b) {
+        return a < b;
+    }
+
+    private static boolean same(long a, long b) {
+        return a == b;
+    }
+
+    // Sign of (a + b) - target, exact even when a + b overflows
+    private static int compareSum(long a, long b, long target) {
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0) return a < 0 ? -1 : 1; // overflow: true sum is beyond any long
+        return Long.compare(sum, target);
+    }
+}
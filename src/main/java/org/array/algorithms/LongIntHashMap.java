@@ -0,0 +1,199 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * A map from long keys to int values without boxing.
+ *
+ * Data structure: Open addressing hash table with linear probing, as in {@link IntHashSet}.
+ * Keys and values live in two parallel primitive arrays (no Long / Integer objects, no entry nodes).
+ * 0 marks a free key slot; the key 0 itself is kept in separate fields.
+ *
+ * Time complexity: O(1) expected for get / put / addTo.
+ * Space complexity: O(capacity), capacity is a power of two kept at most half full.
+ * Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    private static final long FREE = 0;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+    private int zeroValue;
+
+    /**
+     * Creates a map that can hold expectedSize entries without growing.
+     *
+     * @param expectedSize number of entries expected
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(IntHashSet.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * @param key     key to look up
+     * @param missing value returned when the key is absent
+     * @return the value of key, or missing
+     */
+    public int get(long key, int missing) {
+        if (key == FREE) return hasZero ? zeroValue : missing;
+        long[] table = keys;
+        int slot = mix(key) & mask;
+        while (table[slot] != FREE) {
+            if (table[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return missing;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   key
+     * @param value new value
+     */
+    public void put(long key, int value) {
+        if (key == FREE) {
+            if (!hasZero) size++;
+            hasZero = true;
+            zeroValue = value;
+            return;
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+        } else {
+            insert(slot, key, value);
+        }
+    }
+
+    /**
+     * Sets the value of a key only if it is absent.
+     *
+     * @param key   key
+     * @param value value to store if key is absent
+     * @return true if the value was stored
+     */
+    public boolean putIfAbsent(long key, int value) {
+        if (key == FREE) {
+            if (hasZero) return false;
+            put(key, value);
+            return true;
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) return false;
+        insert(slot, key, value);
+        return true;
+    }
+
+    /**
+     * Adds delta to the value of a key (an absent key counts as 0). Useful for counting.
+     *
+     * @param key   key
+     * @param delta amount to add
+     * @return the new value
+     */
+    public int addTo(long key, int delta) {
+        if (key == FREE) {
+            if (!hasZero) size++;
+            hasZero = true;
+            return zeroValue += delta;
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) return values[slot] += delta;
+        insert(slot, key, delta);
+        return delta;
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry but keeps the table, so the map can be reused without allocating.
+     */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, FREE);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Removes every entry, ready for about expectedSize new ones. The table is kept unless it is
+     * more than 4 times the size expectedSize needs (left over from a much larger use), in which
+     * case it is replaced by one of that size: clearing then costs O(expectedSize), not O(largest size ever).
+     *
+     * @param expectedSize number of entries expected next
+     */
+    public void clear(int expectedSize) {
+        int capacity = IntHashSet.tableSizeFor(expectedSize);
+        if (keys.length > 4L * capacity) {
+            allocate(capacity);
+            hasZero = false;
+            size = 0;
+        } else {
+            clear();
+        }
+    }
+
+    // Slot holding key, or the free slot where it would go
+    private int slotFor(long key) {
+        long[] table = keys;
+        int slot = mix(key) & mask;
+        while (table[slot] != FREE && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, long key, int value) {
+        if (size >= mask) throw new IllegalStateException("LongIntHashMap is full: " + size + " entries");
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) >>> 1 && keys.length < MAX_CAPACITY) grow();
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == FREE) continue;
+            int slot = mix(key) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Scrambles the bits of a long key into an int hash (MurmurHash3 64-bit finalizer).
+     *
+     * @param key key to hash
+     * @return well-mixed hash
+     */
+    static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,105 @@
+package org.array.algorithms;
+
+/**
+ * Tournament tree that repeatedly picks the smallest head among k sorted sources,
+ * used by the k-way merges in {@link MergeAlgorithms}.
+ *
+ * Data structure: a loser tree. Leaf i (node k + i) is source i; every inner node stores the
+ * entry that lost the match played there, and the overall winner is kept on the side.
+ * After the winner advances, only the matches on its own leaf-to-root path are replayed:
+ * log2(k) comparisons, each against a stored loser (no sibling lookups as in a winner tree).
+ *
+ * Each entry is one long, (value &lt;&lt; 32) | source, so a match is a single long comparison:
+ * smaller value wins, and equal values go to the lower source index (stable merging).
+ * An exhausted source becomes Long.MAX_VALUE and loses every match.
+ * Not thread-safe.
+ */
+final class LoserTree {
+
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final int k;
+    private final long[] losers;    // losers[1..k) = loser of each inner node
+    private long winner;
+
+    /**
+     * @param k number of sources (at least 1)
+     */
+    LoserTree(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be positive: " + k);
+        this.k = k;
+        losers = new long[k];
+    }
+
+    /**
+     * Plays the whole tournament. O(k).
+     *
+     * @param heads first value of each source
+     * @param empty empty[s] is true if source s has no values (heads[s] is then ignored)
+     */
+    void init(int[] heads, boolean[] empty) {
+        long[] winners = new long[2 * k];   // winner of each node; leaves are k .. 2k - 1
+        for (int s = 0; s < k; s++) {
+            winners[k + s] = empty[s] ? EXHAUSTED : entry(heads[s], s);
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            long left = winners[2 * node], right = winners[2 * node + 1];
+            winners[node] = Math.min(left, right);
+            losers[node] = Math.max(left, right);
+        }
+        winner = winners[1];  // for k = 1, node 1 is the only leaf
+    }
+
+    /**
+     * @return true once every source is exhausted
+     */
+    boolean isEmpty() {
+        return winner == EXHAUSTED;
+    }
+
+    /**
+     * @return source holding the smallest head
+     */
+    int winnerSource() {
+        return (int) winner;
+    }
+
+    /**
+     * @return the smallest head
+     */
+    int winnerValue() {
+        return (int) (winner >> 32);
+    }
+
+    /**
+     * The winning source moved on to its next value. O(log k).
+     *
+     * @param value the new head of {@link #winnerSource()}
+     */
+    void replaceWinner(int value) {
+        replay(entry(value, (int) winner));
+    }
+
+    /**
+     * The winning source has no more values. O(log k).
+     */
+    void exhaustWinner() {
+        replay(EXHAUSTED);
+    }
+
+    private void replay(long candidate) {
+        int s = (int) winner;
+        for (int node = (k + s) >>> 1; node >= 1; node >>>= 1) {
+            // Branch-free match (min / max become conditional moves): on merged data the
+            // outcome is a coin flip, so a branch would mispredict half the time
+            long loser = losers[node];
+            losers[node] = Math.max(loser, candidate);
+            candidate = Math.min(loser, candidate);
+        }
+        winner = candidate;
+    }
+
+    private static long entry(int value, int source) {
+        return ((long) value << 32) | source;
+    }
+}
@@ -0,0 +1,135 @@
+package org.array.algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A binary file of little-endian ints, memory-mapped and read in place.
+ *
+ * Nothing is copied to the heap: values are read straight from the OS page cache,
+ * so a multi-GB dump costs page-cache memory instead of heap memory, and opening it is instant.
+ *
+ * One mapping can cover at most 2 GB, so larger files are mapped in chunks of
+ * {@value #DEFAULT_CHUNK_BYTES} bytes. A chunk always holds whole ints, so
+ * index → (chunk, offset) is a shift and a mask.
+ *
+ * The file is mapped read-only; the mapping stays valid until the buffers are garbage collected
+ * ({@link #close()} only closes the channel).
+ */
+public final class MappedIntFile implements IntSource, Closeable {
+
+    /** Bytes per mapped chunk (1 GB). */
+    static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+    private final FileChannel channel;
+    private final IntBuffer[] chunks;   // little-endian int views of the mapped chunks
+    private final long length;
+    private final int chunkShift;   // log2(ints per chunk)
+    private final long chunkMask;
+
+    /**
+     * Maps a file of little-endian ints.
+     *
+     * @param path file to map (its size must be a multiple of 4)
+     * @return the mapped file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MappedIntFile open(Path path) throws IOException {
+        return new MappedIntFile(path, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Writes an array as a file of little-endian ints (the format read by {@link #open(Path)}).
+     *
+     * @param path destination file (created or truncated)
+     * @param arr  values to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, int[] arr) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (int value : arr) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) out.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putInt(value);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) out.write(buffer);
+        }
+    }
+
+    // chunkBytes must be a power of two and a multiple of 4
+    MappedIntFile(Path path, int chunkBytes) throws IOException {
+        if (Integer.bitCount(chunkBytes) != 1 || chunkBytes < Integer.BYTES) {
+            throw new IllegalArgumentException("chunkBytes must be a power of two >= 4: " + chunkBytes);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IOException("File size is not a multiple of 4 bytes: " + path + " (" + bytes + " bytes)");
+            }
+            length = bytes / Integer.BYTES;
+            int intsPerChunk = chunkBytes / Integer.BYTES;
+            chunkShift = Integer.numberOfTrailingZeros(intsPerChunk);
+            chunkMask = intsPerChunk - 1;
+
+            int chunkCount = (int) ((bytes + chunkBytes - 1) / chunkBytes);
+            chunks = new IntBuffer[chunkCount];
+            for (int c = 0; c < chunkCount; c++) {
+                long position = (long) c * chunkBytes;
+                long size = Math.min(chunkBytes, bytes - position);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                chunks[c] = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int get(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+    }
+
+    @Override
+    public void read(long from, int[] dst, int offset, int length) {
+        if (from < 0 || length < 0 || from > this.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length + ") out of bounds for length " + this.length);
+        }
+        while (length > 0) {
+            int chunk = (int) (from >>> chunkShift);
+            int position = (int) (from & chunkMask);
+            int count = Math.min(length, chunks[chunk].limit() - position); // a read may span two chunks
+            chunks[chunk].get(position, dst, offset, count);
+            from += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
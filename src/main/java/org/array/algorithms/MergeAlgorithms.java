@@ -0,0 +1,323 @@
+package org.array.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merging sorted runs, beyond the two-array {@link CompetitiveAlgorithms#mergeSortedInPlace}:
+ * - two runs, sequentially or in parallel (split by co-ranking)
+ * - k runs at once with a loser tree (hundreds of sorted shards in one pass)
+ * - k sorted files on disk through bounded buffers (external merge)
+ *
+ * All merges are stable: equal values keep the order of their runs (run 0 first).
+ * Files use the format of {@link MappedIntFile}: little-endian ints, nothing else.
+ */
+public class MergeAlgorithms {
+
+    /**
+     * Default sequential threshold of {@link #parallelMerge}: output ranges up to this size
+     * are merged with a plain loop.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /** Default buffer per file of {@link #mergeFiles}, in ints (64 KB). */
+    public static final int DEFAULT_BUFFER_INTS = 1 << 14;
+
+    /**
+     * Merges two sorted arrays into a new sorted array.
+     *
+     * Algorithm: Two pointers; the rest of the unfinished run is copied with System.arraycopy.
+     * Time complexity: O(n + m).
+     *
+     * @param a first sorted array
+     * @param b second sorted array
+     * @return sorted array of all values
+     */
+    public static int[] merge(int[] a, int[] b) {
+        int[] out = new int[checkedLength((long) a.length + b.length)];
+        merge(a, 0, a.length, b, 0, b.length, out, 0);
+        return out;
+    }
+
+    /**
+     * Merges two sorted arrays in parallel.
+     *
+     * @param a first sorted array
+     * @param b second sorted array
+     * @return sorted array of all values (same as {@link #merge})
+     */
+    public static int[] parallelMerge(int[] a, int[] b) {
+        return parallelMerge(a, b, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Merges two sorted arrays in parallel.
+     *
+     * Algorithm: Co-ranking. The first t values of the merged output consist of the first i values
+     * of a and the first t - i values of b, and i can be found by binary search
+     * (a[i - 1] &lt;= b[t - i] and b[t - i - 1] &lt; a[i]). So the output is cut in half at
+     * t = total / 2, both halves become independent merges, and fork-join repeats this until
+     * the pieces are below the threshold.
+     * Time complexity: O((n + m) / p + log^2 (n + m)) with p cores.
+     *
+     * The tasks run in the fork-join pool of the calling thread, as in {@link ParallelAlgorithms}.
+     *
+     * @param a         first sorted array
+     * @param b         second sorted array
+     * @param threshold output ranges up to this size are merged sequentially
+     * @return sorted array of all values (same as {@link #merge})
+     */
+    public static int[] parallelMerge(int[] a, int[] b, int threshold) {
+        if (threshold < 1) throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        int[] out = new int[checkedLength((long) a.length + b.length)];
+        new MergeTask(a, 0, a.length, b, 0, b.length, out, 0, threshold).invoke();
+        return out;
+    }
+
+    /**
+     * Merges k sorted arrays into one sorted array.
+     *
+     * Algorithm: {@link LoserTree} over the heads of the runs: each output value costs
+     * log2(k) comparisons, against k - 1 for a linear scan of the heads.
+     * Time complexity: O(N log k) for N values in total.
+     * Space complexity: O(k) besides the output.
+     *
+     * @param runs sorted arrays (any may be empty)
+     * @return sorted array of all values
+     */
+    public static int[] mergeK(int[][] runs) {
+        long total = 0;
+        for (int[] run : runs) total += run.length;
+        int[] out = new int[checkedLength(total)];
+        if (runs.length == 0) return out;
+        if (runs.length == 1) return runs[0].clone();
+        if (runs.length == 2) return merge(runs[0], runs[1]);
+
+        int k = runs.length;
+        int[] heads = new int[k];
+        boolean[] empty = new boolean[k];
+        for (int s = 0; s < k; s++) {
+            if (runs[s].length > 0) heads[s] = runs[s][0];
+            else empty[s] = true;
+        }
+        LoserTree tree = new LoserTree(k);
+        tree.init(heads, empty);
+        int[] position = new int[k];
+        for (int i = 0; i < out.length; i++) {
+            int s = tree.winnerSource();
+            out[i] = tree.winnerValue();
+            int next = ++position[s];
+            if (next < runs[s].length) tree.replaceWinner(runs[s][next]);
+            else tree.exhaustWinner();
+        }
+        return out;
+    }
+
+    /**
+     * External merge of sorted files with the default buffer size.
+     *
+     * @param inputs sorted files of little-endian ints
+     * @param output destination file (created or truncated)
+     * @return number of values written
+     * @throws IOException if a file cannot be read or written
+     */
+    public static long mergeFiles(List<Path> inputs, Path output) throws IOException {
+        return mergeFiles(inputs, output, DEFAULT_BUFFER_INTS);
+    }
+
+    /**
+     * External merge: merges sorted files of little-endian ints (for example sorted chunks of a
+     * dataset larger than memory) into one sorted file.
+     *
+     * Algorithm: {@link LoserTree} over the heads of the files, as in {@link #mergeK}.
+     * Each file is read sequentially through its own buffer of bufferInts values, and the
+     * output is written through one more, so memory stays at (k + 1) · bufferInts · 4 bytes
+     * however large the files are.
+     * Time complexity: O(N log k); every byte is read and written once.
+     *
+     * @param inputs     sorted files of little-endian ints
+     * @param output     destination file (created or truncated), not one of the inputs
+     * @param bufferInts buffer size per file, in ints
+     * @return number of values written
+     * @throws IOException if a file cannot be read or written, or a size is not a multiple of 4
+     */
+    public static long mergeFiles(List<Path> inputs, Path output, int bufferInts) throws IOException {
+        if (bufferInts < 1 || bufferInts > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("bufferInts out of range: " + bufferInts);
+        }
+        int k = inputs.size();
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer outBuffer = newBuffer(bufferInts);
+            if (k == 0) return 0;
+
+            int[] heads = new int[k];
+            boolean[] empty = new boolean[k];
+            for (int s = 0; s < k; s++) {
+                readers[s] = new RunReader(inputs.get(s), newBuffer(bufferInts));
+                if (readers[s].advance()) heads[s] = readers[s].value;
+                else empty[s] = true;
+            }
+            LoserTree tree = new LoserTree(k);
+            tree.init(heads, empty);
+
+            long written = 0;
+            while (!tree.isEmpty()) {
+                if (!outBuffer.hasRemaining()) flush(out, outBuffer);
+                outBuffer.putInt(tree.winnerValue());
+                written++;
+                RunReader reader = readers[tree.winnerSource()];
+                if (reader.advance()) tree.replaceWinner(reader.value);
+                else tree.exhaustWinner();
+            }
+            flush(out, outBuffer);
+            return written;
+        } finally {
+            closeAll(readers);
+        }
+    }
+
+    // Stable merge of a[aFrom, aTo) and b[bFrom, bTo) into out[outFrom ...)
+    private static void merge(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, int[] out, int outFrom) {
+        int i = aFrom, j = bFrom, k = outFrom;
+        while (i < aTo && j < bTo) {
+            // Branch-free step: both candidates are read, the comparison only picks one
+            int x = a[i], y = b[j];
+            int takeB = y < x ? 1 : 0;
+            out[k++] = takeB != 0 ? y : x;
+            i += 1 - takeB;
+            j += takeB;
+        }
+        System.arraycopy(a, i, out, k, aTo - i);
+        System.arraycopy(b, j, out, k + aTo - i, bTo - j);
+    }
+
+    /**
+     * Co-rank: how many of the first t values of the stable merge of a[aFrom, aTo) and
+     * b[bFrom, bTo) come from a. Binary search for the smallest i that is not too small,
+     * i.e. not (a[i] &lt;= b[t - i - 1]).
+     */
+    static int coRank(int t, int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        int lo = Math.max(0, t - (bTo - bFrom)), hi = Math.min(t, aTo - aFrom);
+        while (lo < hi) {
+            int i = (lo + hi) >>> 1;
+            int j = t - i;
+            if (a[aFrom + i] <= b[bFrom + j - 1]) lo = i + 1; // a[i] belongs in the first t values too
+            else hi = i;
+        }
+        return lo;
+    }
+
+    /**
+     * Merges a[aFrom, aTo) and b[bFrom, bTo) into out[outFrom ...).
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final int[] a, b, out;
+        private final int aFrom, aTo, bFrom, bTo, outFrom, threshold;
+
+        MergeTask(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, int[] out, int outFrom, int threshold) {
+            this.a = a;
+            this.aFrom = aFrom;
+            this.aTo = aTo;
+            this.b = b;
+            this.bFrom = bFrom;
+            this.bTo = bTo;
+            this.out = out;
+            this.outFrom = outFrom;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int total = (aTo - aFrom) + (bTo - bFrom);
+            if (total <= threshold) {
+                merge(a, aFrom, aTo, b, bFrom, bTo, out, outFrom);
+                return;
+            }
+            int half = total >>> 1;
+            int aMid = aFrom + coRank(half, a, aFrom, aTo, b, bFrom, bTo);
+            int bMid = bFrom + half - (aMid - aFrom);
+            MergeTask left = new MergeTask(a, aFrom, aMid, b, bFrom, bMid, out, outFrom, threshold);
+            left.fork();
+            new MergeTask(a, aMid, aTo, b, bMid, bTo, out, outFrom + half, threshold).compute();
+            left.join();
+        }
+    }
+
+    /**
+     * Sequential reader of one sorted file through a fixed buffer.
+     */
+    private static final class RunReader implements AutoCloseable {
+        private final Path path;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int value;
+
+        RunReader(Path path, ByteBuffer buffer) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = buffer;
+            buffer.limit(0);
+        }
+
+        // Loads the next value into value; false at the end of the file
+        boolean advance() throws IOException {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                // Fill the whole buffer (or up to EOF), so only the last read can end mid-int
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                }
+                buffer.flip();
+                if (buffer.remaining() % Integer.BYTES != 0) {
+                    throw new IOException("File size is not a multiple of 4 bytes: " + path);
+                }
+                if (!buffer.hasRemaining()) return false;
+            }
+            value = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static ByteBuffer newBuffer(int ints) {
+        return ByteBuffer.allocateDirect(ints * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+    private static void closeAll(RunReader[] readers) throws IOException {
+        IOException failure = null;
+        for (RunReader reader : readers) {
+            if (reader == null) continue;
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private static int checkedLength(long total) {
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged length does not fit in an array: " + total);
+        }
+        return (int) total;
+    }
+}
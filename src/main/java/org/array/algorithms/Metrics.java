@@ -0,0 +1,186 @@
+package org.array.algorithms;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in instrumentation of the algorithms in this package: call counts, element counts,
+ * comparisons, swaps, search misses and latency histograms per input size.
+ *
+ * Enabled by starting the JVM with {@code -Darray.algorithms.metrics=true}; off by default.
+ *
+ * Zero cost when disabled: {@link #ENABLED} is a static final constant, so the JIT compiles every
+ * instrumented method as if the instrumentation were not there ({@link #start()} folds to 0,
+ * {@code OperationMetrics.end(...)} to nothing, and the local comparison / swap counters become
+ * dead code). When enabled, a call costs two System.nanoTime() reads and a few striped adds.
+ *
+ * Instrumented: the int[] methods of {@link BasicArrayAlgorithms}, {@link IntermediateArrayAlgorithms},
+ * {@link AdvanceAlgorithms}, {@link CompetitiveAlgorithms} and {@link SortAlgorithms#sort}.
+ * Comparisons are counted by the searches and the quadratic sorts, swaps by the sorts and sort012,
+ * misses by the searches.
+ *
+ * Export: {@link #snapshot()} (text table) and JMX after {@link #registerJmx()}
+ * ({@value #JMX_DOMAIN}:type=Metrics and one type=Operation bean per algorithm).
+ */
+public final class Metrics {
+
+    /** True if the JVM was started with -Darray.algorithms.metrics=true. */
+    public static final boolean ENABLED = Boolean.getBoolean("array.algorithms.metrics");
+
+    /** JMX domain of the registered beans. */
+    public static final String JMX_DOMAIN = "org.array.algorithms";
+
+    private static final OperationMetrics DISABLED = new OperationMetrics("disabled");
+    private static final ConcurrentHashMap<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+    private static volatile boolean jmxRegistered;
+
+    private Metrics() {
+    }
+
+    /**
+     * Metrics of one algorithm, created once per class in a static final field.
+     * When disabled, every algorithm shares one unused instance.
+     *
+     * @param name "Class.method"
+     * @return the metrics to record into
+     */
+    static OperationMetrics operation(String name) {
+        if (!ENABLED) return DISABLED;
+        return OPERATIONS.computeIfAbsent(name, key -> {
+            OperationMetrics metrics = new OperationMetrics(key);
+            if (jmxRegistered) register(ManagementFactory.getPlatformMBeanServer(), metrics);
+            return metrics;
+        });
+    }
+
+    /**
+     * Start time of an instrumented call.
+     *
+     * @return System.nanoTime(), or 0 when disabled
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @return true if metrics are collected
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param name "Class.method", e.g. "IntermediateArrayAlgorithms.binarySearch"
+     * @return its metrics, or null if it is not instrumented or metrics are disabled
+     */
+    public static OperationMetrics get(String name) {
+        return OPERATIONS.get(name);
+    }
+
+    /**
+     * @return metrics of every algorithm called at least once, sorted by name
+     */
+    public static List<OperationMetrics> operations() {
+        List<OperationMetrics> called = new ArrayList<>();
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            if (metrics.getCalls() > 0) called.add(metrics);
+        }
+        called.sort(Comparator.comparing(OperationMetrics::name));
+        return called;
+    }
+
+    /**
+     * Text table of all metrics: one line per algorithm, then one line per input size class.
+     *
+     * @return the snapshot
+     */
+    public static String snapshot() {
+        if (!ENABLED) return "Metrics are disabled (start the JVM with -Darray.algorithms.metrics=true)\n";
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-46s %10s %14s %14s %14s %8s %10s %10s %10s %12s%n", "operation", "calls",
+                "elements", "comparisons", "swaps", "misses", "mean ns", "p50 ns", "p99 ns", "max ns"));
+        for (OperationMetrics op : operations()) {
+            out.append(String.format("%-46s %10d %14d %14d %14d %8d %10.0f %10d %10d %12d%n", op.name(),
+                    op.getCalls(), op.getElements(), op.getComparisons(), op.getSwaps(), op.getMisses(),
+                    op.getLatencyMeanNanos(), op.getLatencyP50Nanos(), op.getLatencyP99Nanos(), op.getLatencyMaxNanos()));
+            for (int c = 0; c <= 32; c++) {
+                LatencyHistogram latency = op.latencyForSizeClass(c);
+                if (latency == null || latency.count() == 0) continue;
+                String sizes = c == 0 ? "  n = 0" : "  n in [" + (1L << (c - 1)) + ", " + (1L << c) + ")";
+                out.append(String.format("%-46s %10d %14s %14s %14s %8s %10.0f %10d %10d %12d%n", sizes,
+                        latency.count(), "", "", "", "", latency.mean(),
+                        latency.valueAtQuantile(0.5), latency.valueAtQuantile(0.99), latency.max()));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Clears every counter and histogram.
+     */
+    public static void reset() {
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server (for JConsole, VisualVM, JMX exporters).
+     * Algorithms first used later are registered when they are created. Calling it again does nothing.
+     *
+     * @throws IllegalStateException if registration fails
+     */
+    public static synchronized void registerJmx() {
+        if (jmxRegistered) return;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new Bean(), new ObjectName(JMX_DOMAIN + ":type=Metrics"));
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the metrics MBean", e);
+        }
+        jmxRegistered = true;
+        for (OperationMetrics metrics : OPERATIONS.values()) {
+            register(server, metrics);
+        }
+    }
+
+    private static void register(MBeanServer server, OperationMetrics metrics) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Operation,name=" + metrics.name());
+            if (!server.isRegistered(name)) server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the MBean of " + metrics.name(), e);
+        }
+    }
+
+    /**
+     * The type=Metrics bean.
+     */
+    private static final class Bean implements MetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public String[] getOperationNames() {
+            return operations().stream().map(OperationMetrics::name).toArray(String[]::new);
+        }
+
+        @Override
+        public String getSnapshot() {
+            return snapshot();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
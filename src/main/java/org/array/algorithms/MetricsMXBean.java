@@ -0,0 +1,27 @@
+package org.array.algorithms;
+
+/**
+ * JMX view of all algorithm metrics (see {@link Metrics#registerJmx()}).
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return true if the JVM was started with metrics enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * @return names of the algorithms that were called at least once
+     */
+    String[] getOperationNames();
+
+    /**
+     * @return text table of all metrics, same as {@link Metrics#snapshot()}
+     */
+    String getSnapshot();
+
+    /**
+     * Clears every counter and histogram.
+     */
+    void reset();
+}
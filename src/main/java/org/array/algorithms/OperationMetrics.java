@@ -0,0 +1,198 @@
+package org.array.algorithms;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of one algorithm, filled by the instrumented methods
+ * when {@link Metrics#ENABLED} is set.
+ *
+ * - calls, elements, comparisons, swaps, misses: {@link LongAdder}s, so concurrent callers
+ *   add to different cells instead of fighting over one counter
+ * - one {@link LatencyHistogram} per input size class (n in [2^(c-1), 2^c)), created on first use,
+ *   so the latency of small and large inputs is not mixed up
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private static final int SIZE_CLASSES = 33;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicReferenceArray<LatencyHistogram> latencyBySize = new AtomicReferenceArray<>(SIZE_CLASSES);
+
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a call that started at {@link Metrics#start()}.
+     *
+     * @param start    value of {@link Metrics#start()} when the call began
+     * @param elements input size
+     */
+    void end(long start, int elements) {
+        if (!Metrics.ENABLED) return;
+        record(start, elements, 0, 0, false);
+    }
+
+    /**
+     * Records a search.
+     *
+     * @param start       value of {@link Metrics#start()} when the call began
+     * @param elements    input size
+     * @param comparisons element comparisons made
+     * @param miss        true if nothing was found
+     */
+    void end(long start, int elements, long comparisons, boolean miss) {
+        if (!Metrics.ENABLED) return;
+        record(start, elements, comparisons, 0, miss);
+    }
+
+    /**
+     * Records a call that rearranges its input.
+     *
+     * @param start       value of {@link Metrics#start()} when the call began
+     * @param elements    input size
+     * @param comparisons element comparisons made
+     * @param swaps       swaps (or element moves) made
+     */
+    void end(long start, int elements, long comparisons, long swaps) {
+        if (!Metrics.ENABLED) return;
+        record(start, elements, comparisons, swaps, false);
+    }
+
+    private void record(long start, int n, long compared, long swapped, boolean miss) {
+        long nanos = System.nanoTime() - start;
+        calls.increment();
+        elements.add(n);
+        if (compared != 0) comparisons.add(compared);
+        if (swapped != 0) swaps.add(swapped);
+        if (miss) misses.increment();
+        latency(sizeClass(n)).record(nanos);
+    }
+
+    /**
+     * @return algorithm name, e.g. "IntermediateArrayAlgorithms.binarySearch"
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getLatencyMeanNanos() {
+        long count = 0;
+        double total = 0;
+        for (int c = 0; c < SIZE_CLASSES; c++) {
+            LatencyHistogram histogram = latencyBySize.get(c);
+            if (histogram == null) continue;
+            long n = histogram.count();
+            count += n;
+            total += histogram.mean() * n;
+        }
+        return count == 0 ? 0 : total / count;
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latencyAtQuantile(0.5);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latencyAtQuantile(0.99);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        long max = 0;
+        for (int c = 0; c < SIZE_CLASSES; c++) {
+            LatencyHistogram histogram = latencyBySize.get(c);
+            if (histogram != null) max = Math.max(max, histogram.max());
+        }
+        return max;
+    }
+
+    /**
+     * Latency histogram of the calls whose input size n is in [2^(c-1), 2^c) (class 0: n = 0).
+     *
+     * @param sizeClass c in [0, 32]
+     * @return the histogram, or null if no call of that size was recorded
+     */
+    public LatencyHistogram latencyForSizeClass(int sizeClass) {
+        return latencyBySize.get(sizeClass);
+    }
+
+    /**
+     * Clears every counter and histogram.
+     */
+    public void reset() {
+        calls.reset();
+        elements.reset();
+        comparisons.reset();
+        swaps.reset();
+        misses.reset();
+        for (int c = 0; c < SIZE_CLASSES; c++) {
+            LatencyHistogram histogram = latencyBySize.get(c);
+            if (histogram != null) histogram.reset();
+        }
+    }
+
+    /**
+     * @param n input size
+     * @return its size class: number of bits of n (0 for n = 0)
+     */
+    public static int sizeClass(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n);
+    }
+
+    // Quantile over all size classes: merge the bucket counts, then walk them once
+    private long latencyAtQuantile(double q) {
+        long[] counts = null;
+        long count = 0;
+        for (int c = 0; c < SIZE_CLASSES; c++) {
+            LatencyHistogram histogram = latencyBySize.get(c);
+            if (histogram == null) continue;
+            if (counts == null) counts = new long[LatencyHistogram.bucketCount()];
+            count += histogram.addCountsTo(counts);
+        }
+        return count == 0 ? 0 : Math.min(LatencyHistogram.valueAtQuantile(counts, count, q), getLatencyMaxNanos());
+    }
+
+    private LatencyHistogram latency(int sizeClass) {
+        LatencyHistogram histogram = latencyBySize.get(sizeClass);
+        if (histogram == null) {
+            latencyBySize.compareAndSet(sizeClass, null, new LatencyHistogram());
+            histogram = latencyBySize.get(sizeClass);
+        }
+        return histogram;
+    }
+}
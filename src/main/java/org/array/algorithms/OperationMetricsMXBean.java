@@ -0,0 +1,53 @@
+package org.array.algorithms;
+
+/**
+ * JMX view of the metrics of one algorithm (see {@link Metrics#registerJmx()}).
+ * Latencies are in nanoseconds, over all input sizes.
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * @return number of calls
+     */
+    long getCalls();
+
+    /**
+     * @return total number of input elements over all calls
+     */
+    long getElements();
+
+    /**
+     * @return total number of element comparisons (for the algorithms that count them)
+     */
+    long getComparisons();
+
+    /**
+     * @return total number of swaps / element moves (for the algorithms that count them)
+     */
+    long getSwaps();
+
+    /**
+     * @return number of calls that found nothing (searches)
+     */
+    long getMisses();
+
+    /**
+     * @return average latency
+     */
+    double getLatencyMeanNanos();
+
+    /**
+     * @return median latency
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * @return 99th percentile latency
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * @return largest latency
+     */
+    long getLatencyMaxNanos();
+}
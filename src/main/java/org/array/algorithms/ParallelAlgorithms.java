@@ -0,0 +1,258 @@
+package org.array.algorithms;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel (fork-join) versions of the reduction algorithms:
+ * - summing
+ * - finding min/max
+ * - calculating average
+ * - majority element (Boyer-Moore)
+ *
+ * Pattern: Divide and conquer on threads. Split the range in half until it is smaller
+ * than a threshold, reduce each piece sequentially, then combine the partial answers.
+ *
+ * Every method gives the same answer as its sequential version in
+ * {@link BasicArrayAlgorithms} / {@link CompetitiveAlgorithms}, including int overflow:
+ * int addition wraps around modulo 2^32, so the order of additions does not change the result.
+ *
+ * The tasks run in the fork-join pool of the calling thread (the common pool when
+ * called from a normal thread), so callers can pick a pool by calling from inside it.
+ */
+public class ParallelAlgorithms {
+
+    /**
+     * Default sequential threshold: ranges up to this size are reduced with a plain loop.
+     * Large enough that task overhead is negligible, small enough to keep all cores busy.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    /**
+     * Calculates the sum of all elements in parallel.
+     *
+     * @param arr the array whose elements to sum
+     * @return the sum of all elements (wraps on overflow, like {@link BasicArrayAlgorithms#sumArray})
+     */
+    public static int sumArray(int[] arr) {
+        return sumArray(arr, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Calculates the sum of all elements in parallel.
+     *
+     * Algorithm: Fork-join reduction.
+     * Time complexity: O(n / p + log n) with p cores.
+     *
+     * @param arr       the array whose elements to sum
+     * @param threshold ranges up to this size are summed sequentially
+     * @return the sum of all elements (wraps on overflow, like {@link BasicArrayAlgorithms#sumArray})
+     */
+    public static int sumArray(int[] arr, int threshold) {
+        return new SumTask(arr, 0, arr.length, checkThreshold(threshold)).invoke();
+    }
+
+    /**
+     * Finds the minimum and maximum element in parallel.
+     *
+     * @param arr the array to process (must not be empty)
+     * @return {min, max}
+     */
+    public static int[] findMinMax(int[] arr) {
+        return findMinMax(arr, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Finds the minimum and maximum element in parallel.
+     *
+     * Algorithm: Fork-join reduction; min and max of two halves combine with Math.min / Math.max.
+     * Time complexity: O(n / p + log n) with p cores.
+     *
+     * @param arr       the array to process (must not be empty)
+     * @param threshold ranges up to this size are scanned sequentially
+     * @return {min, max}
+     */
+    public static int[] findMinMax(int[] arr, int threshold) {
+        return new MinMaxTask(arr, 0, arr.length, checkThreshold(threshold)).invoke();
+    }
+
+    /**
+     * Calculates the average of the array elements in parallel.
+     *
+     * @param arr the array whose average to compute
+     * @return the average value (same as {@link BasicArrayAlgorithms#averageArray})
+     */
+    public static double averageArray(int[] arr) {
+        return averageArray(arr, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Calculates the average of the array elements in parallel.
+     *
+     * Follows the sequential version: int sum (with overflow) divided by the length.
+     *
+     * @param arr       the array whose average to compute
+     * @param threshold ranges up to this size are summed sequentially
+     * @return the average value (same as {@link BasicArrayAlgorithms#averageArray})
+     */
+    public static double averageArray(int[] arr, int threshold) {
+        int sum = sumArray(arr, threshold);
+        return (double) sum / arr.length;
+    }
+
+    /**
+     * Finds the majority element in parallel.
+     *
+     * @param nums input array
+     * @return majority element
+     */
+    public static int majorityElement(int[] nums) {
+        return majorityElement(nums, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Finds the majority element in parallel using mergeable Boyer-Moore votes.
+     *
+     * Each half returns a (candidate, count) pair. Two pairs merge like two voters:
+     * same candidate → counts add; different candidates → they cancel out and the
+     * larger count survives with the difference.
+     * A real majority (more than n/2) can never be cancelled out, so if one exists
+     * it is returned, same as {@link CompetitiveAlgorithms#majorityElement}.
+     * Without a majority the returned candidate is meaningless (also like the sequential version),
+     * and may differ from it.
+     *
+     * Time complexity: O(n / p + log n) with p cores, space: O(log n).
+     *
+     * @param nums      input array
+     * @param threshold ranges up to this size are voted on sequentially
+     * @return majority element
+     */
+    public static int majorityElement(int[] nums, int threshold) {
+        long vote = new MajorityTask(nums, 0, nums.length, checkThreshold(threshold)).invoke();
+        return candidate(vote);
+    }
+
+    private static int checkThreshold(int threshold) {
+        if (threshold < 1) throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        return threshold;
+    }
+
+    // A Boyer-Moore vote (candidate, count) packed into one long → no object per leaf
+    private static long vote(int candidate, int count) {
+        return ((long) candidate << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    private static int candidate(long vote) {
+        return (int) (vote >> 32);
+    }
+
+    private static int count(long vote) {
+        return (int) vote;
+    }
+
+    /**
+     * Sums the range [lo, hi).
+     */
+    private static final class SumTask extends RecursiveTask<Integer> {
+        private final int[] arr;
+        private final int lo, hi, threshold;
+
+        SumTask(int[] arr, int lo, int hi, int threshold) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hi - lo <= threshold) {
+                int sum = 0;
+                for (int i = lo; i < hi; i++) {
+                    sum += arr[i];
+                }
+                return sum;
+            }
+            int mid = (lo + hi) >>> 1;
+            SumTask left = new SumTask(arr, lo, mid, threshold);
+            left.fork();
+            int right = new SumTask(arr, mid, hi, threshold).compute();
+            return left.join() + right;
+        }
+    }
+
+    /**
+     * Finds {min, max} of the non-empty range [lo, hi).
+     */
+    private static final class MinMaxTask extends RecursiveTask<int[]> {
+        private final int[] arr;
+        private final int lo, hi, threshold;
+
+        MinMaxTask(int[] arr, int lo, int hi, int threshold) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (hi - lo <= threshold) {
+                int max = arr[lo];
+                int min = arr[lo];
+                for (int i = lo + 1; i < hi; i++) {
+                    if (arr[i] > max) max = arr[i];
+                    if (arr[i] < min) min = arr[i];
+                }
+                return new int[]{min, max};
+            }
+            int mid = (lo + hi) >>> 1;
+            MinMaxTask left = new MinMaxTask(arr, lo, mid, threshold);
+            left.fork();
+            int[] right = new MinMaxTask(arr, mid, hi, threshold).compute();
+            int[] leftResult = left.join();
+            return new int[]{Math.min(leftResult[0], right[0]), Math.max(leftResult[1], right[1])};
+        }
+    }
+
+    /**
+     * Boyer-Moore vote of the range [lo, hi), packed as (candidate, count).
+     */
+    private static final class MajorityTask extends RecursiveTask<Long> {
+        private final int[] nums;
+        private final int lo, hi, threshold;
+
+        MajorityTask(int[] nums, int lo, int hi, int threshold) {
+            this.nums = nums;
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (hi - lo <= threshold) {
+                int count = 0, candidate = 0;
+                for (int i = lo; i < hi; i++) {
+                    int num = nums[i];
+                    if (count == 0) candidate = num;  // Pick new candidate
+                    count += (num == candidate) ? 1 : -1;
+                }
+                return vote(candidate, count);
+            }
+            int mid = (lo + hi) >>> 1;
+            MajorityTask left = new MajorityTask(nums, lo, mid, threshold);
+            left.fork();
+            long right = new MajorityTask(nums, mid, hi, threshold).compute();
+            long leftVote = left.join();
+
+            // Merge two votes: same candidate → add, different → cancel, the stronger one survives
+            if (candidate(leftVote) == candidate(right)) {
+                return vote(candidate(leftVote), count(leftVote) + count(right));
+            }
+            if (count(leftVote) >= count(right)) {
+                return vote(candidate(leftVote), count(leftVote) - count(right));
+            }
+            return vote(candidate(right), count(right) - count(leftVote));
+        }
+    }
+}
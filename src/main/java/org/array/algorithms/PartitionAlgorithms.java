@@ -0,0 +1,304 @@
+package org.array.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multi-way partitioning: distributes values into N buckets given by an {@link IntBucketFunction}
+ * (any key, or value ranges with {@link IntBucketFunction#ranges}).
+ * Generalizes {@link CompetitiveAlgorithms#sort012} (3 fixed buckets) and
+ * {@link AdvanceAlgorithms#rearrangePosNeg} (2 fixed buckets).
+ *
+ * Algorithm: Counting scatter (one pass of a radix sort).
+ * 1. Histogram: count the values of every bucket.
+ * 2. Prefix offsets: bucket b starts after all values of buckets 0 .. b - 1.
+ * 3. Scatter: copy every value to the next free slot of its bucket.
+ * All variants are stable: inside a bucket, values keep their input order.
+ *
+ * Variants:
+ * - {@link #partition}: sequential, in place (through one temporary array)
+ * - {@link #parallelPartition}: the array is cut into chunks, one histogram per chunk,
+ *   offsets per (bucket, chunk), then every chunk scatters on its own core without locks
+ * - {@link #partitionToFiles}: external, streams any {@link IntSource} into one file per bucket
+ *   through bounded buffers, for data larger than memory
+ */
+public class PartitionAlgorithms {
+
+    /**
+     * Default minimum chunk size of {@link #parallelPartition}: arrays up to this size
+     * are partitioned by one thread.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /** Default buffer per bucket file of {@link #partitionToFiles}, in ints (64 KB). */
+    public static final int DEFAULT_BUFFER_INTS = 1 << 14;
+
+    /**
+     * Partitions the array into buckets, stable, in place.
+     *
+     * Time complexity: O(n + buckets).
+     * Space complexity: O(n) (one temporary array, plus one byte per value for up to 256 buckets).
+     *
+     * @param arr     the values (rearranged)
+     * @param buckets number of buckets
+     * @param key     bucket of each value
+     * @return bucket start offsets: bucket b is arr[offsets[b], offsets[b + 1]), offsets[buckets] = n
+     * @throws IllegalArgumentException if the key returns a bucket outside [0, buckets)
+     */
+    public static int[] partition(int[] arr, int buckets, IntBucketFunction key) {
+        checkBuckets(buckets);
+        int n = arr.length;
+        int[] offsets = new int[buckets + 1];
+        // Up to 256 buckets, the ids of the first pass are kept (1 byte per value) for the second
+        byte[] ids = buckets <= 256 ? new byte[n] : null;
+        for (int i = 0; i < n; i++) {
+            int b = checkedBucket(key.bucket(arr[i]), buckets);
+            if (ids != null) ids[i] = (byte) b;
+            offsets[b + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            offsets[b + 1] += offsets[b];
+        }
+
+        int[] next = Arrays.copyOf(offsets, buckets);
+        int[] temp = new int[n];
+        for (int i = 0; i < n; i++) {
+            int value = arr[i];
+            temp[next[ids != null ? ids[i] & 0xFF : key.bucket(value)]++] = value;
+        }
+        System.arraycopy(temp, 0, arr, 0, arr.length);
+        return offsets;
+    }
+
+    /**
+     * Parallel partitioning with the default threshold.
+     *
+     * @param arr     the values (rearranged)
+     * @param buckets number of buckets
+     * @param key     bucket of each value
+     * @return bucket start offsets, same as {@link #partition}
+     */
+    public static int[] parallelPartition(int[] arr, int buckets, IntBucketFunction key) {
+        return parallelPartition(arr, buckets, key, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Partitions the array into buckets in parallel, stable, with the same result as {@link #partition}.
+     *
+     * Algorithm: Parallel counting scatter.
+     * 1. The array is cut into chunks (at least threshold values each, about 4 per core).
+     * 2. Every chunk builds its own histogram, in parallel: no shared counters, no atomics.
+     * 3. Offsets are laid out bucket-major, chunk-minor: chunk c writes its values of bucket b
+     *    after the values of bucket b from chunks 0 .. c - 1. That keeps the result stable and
+     *    gives every chunk private, disjoint target ranges.
+     * 4. Every chunk scatters into the temporary array in parallel, then the result is copied back.
+     * Time complexity: O(n / p + chunks · buckets) with p cores.
+     *
+     * The tasks run in the fork-join pool of the calling thread, as in {@link ParallelAlgorithms}.
+     *
+     * @param arr       the values (rearranged)
+     * @param buckets   number of buckets
+     * @param key       bucket of each value
+     * @param threshold minimum number of values per chunk
+     * @return bucket start offsets, same as {@link #partition}
+     */
+    public static int[] parallelPartition(int[] arr, int buckets, IntBucketFunction key, int threshold) {
+        checkBuckets(buckets);
+        if (threshold < 1) throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        int n = arr.length;
+        int parallelism = ForkJoinTask.inForkJoinPool()
+                ? ForkJoinTask.getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        long wanted = Math.min((n + (long) threshold - 1) / threshold, 4L * parallelism);
+        int chunks = (int) Math.max(1, Math.min(wanted, (Integer.MAX_VALUE - 8) / buckets)); // counts must fit an array
+        if (chunks == 1) return partition(arr, buckets, key);
+
+        // counts[c * buckets + b] = values of bucket b in chunk c; later its first target index
+        int[] counts = new int[chunks * buckets];
+        int[] temp = new int[n];
+        byte[] ids = buckets <= 256 ? new byte[n] : null;  // bucket ids of the first pass, as in partition
+        new ChunkTask(ChunkTask.COUNT, arr, temp, ids, counts, buckets, key, chunks, 0, chunks).invoke();
+
+        int[] offsets = new int[buckets + 1];
+        int position = 0;
+        for (int b = 0; b < buckets; b++) {
+            offsets[b] = position;
+            for (int c = 0; c < chunks; c++) {
+                int count = counts[c * buckets + b];
+                counts[c * buckets + b] = position;
+                position += count;
+            }
+        }
+        offsets[buckets] = position;
+
+        new ChunkTask(ChunkTask.SCATTER, arr, temp, ids, counts, buckets, key, chunks, 0, chunks).invoke();
+        new ChunkTask(ChunkTask.COPY_BACK, arr, temp, ids, counts, buckets, key, chunks, 0, chunks).invoke();
+        return offsets;
+    }
+
+    /**
+     * External partitioning with the default buffer size.
+     *
+     * @param src     the values (an on-heap array via {@link IntSource#of}, a {@link MappedIntFile} ...)
+     * @param key     bucket of each value
+     * @param outputs one file per bucket (created or truncated); the number of buckets is outputs.size()
+     * @return number of values written to each bucket file
+     * @throws IOException if a file cannot be written
+     */
+    public static long[] partitionToFiles(IntSource src, IntBucketFunction key, List<Path> outputs) throws IOException {
+        return partitionToFiles(src, key, outputs, DEFAULT_BUFFER_INTS);
+    }
+
+    /**
+     * External partitioning: streams the values into one file per bucket, for inputs larger than
+     * memory. The files use the format of {@link MappedIntFile} (little-endian ints), so a bucket
+     * can be mapped back with {@link MappedIntFile#open} or, once sorted, combined with
+     * {@link MergeAlgorithms#mergeFiles}.
+     *
+     * The source is read in blocks of {@value IntSourceAlgorithms#BLOCK_SIZE} values; every bucket
+     * has its own buffer of bufferInts values that is written out when full. Memory stays at
+     * buckets · bufferInts · 4 bytes plus one block, whatever the size of the input.
+     * Stable: every file receives its values in input order.
+     * Time complexity: O(n); every value is read once and written once.
+     *
+     * @param src        the values
+     * @param key        bucket of each value
+     * @param outputs    one file per bucket (created or truncated)
+     * @param bufferInts buffer size per bucket, in ints
+     * @return number of values written to each bucket file
+     * @throws IOException if a file cannot be written
+     */
+    public static long[] partitionToFiles(IntSource src, IntBucketFunction key, List<Path> outputs,
+                                          int bufferInts) throws IOException {
+        int buckets = outputs.size();
+        checkBuckets(buckets);
+        if (bufferInts < 1 || bufferInts > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("bufferInts out of range: " + bufferInts);
+        }
+        FileChannel[] channels = new FileChannel[buckets];
+        try {
+            ByteBuffer[] buffers = new ByteBuffer[buckets];
+            for (int b = 0; b < buckets; b++) {
+                channels[b] = FileChannel.open(outputs.get(b), StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                buffers[b] = ByteBuffer.allocateDirect(bufferInts * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            long[] counts = new long[buckets];
+            int[] block = new int[IntSourceAlgorithms.BLOCK_SIZE];
+            for (long base = 0; base < src.length(); base += block.length) {
+                int len = (int) Math.min(block.length, src.length() - base);
+                src.read(base, block, 0, len);
+                for (int i = 0; i < len; i++) {
+                    int value = block[i];
+                    int b = checkedBucket(key.bucket(value), buckets);
+                    ByteBuffer buffer = buffers[b];
+                    if (!buffer.hasRemaining()) flush(channels[b], buffer);
+                    buffer.putInt(value);
+                    counts[b]++;
+                }
+            }
+            for (int b = 0; b < buckets; b++) {
+                flush(channels[b], buffers[b]);
+            }
+            return counts;
+        } finally {
+            closeAll(channels);
+        }
+    }
+
+    /**
+     * One phase of {@link #parallelPartition} over the chunks [lo, hi).
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        static final int COUNT = 0, SCATTER = 1, COPY_BACK = 2;
+
+        private final int phase;
+        private final int[] arr, temp, counts;
+        private final byte[] ids;
+        private final int buckets, chunks, lo, hi;
+        private final IntBucketFunction key;
+
+        ChunkTask(int phase, int[] arr, int[] temp, byte[] ids, int[] counts, int buckets, IntBucketFunction key,
+                  int chunks, int lo, int hi) {
+            this.phase = phase;
+            this.arr = arr;
+            this.temp = temp;
+            this.ids = ids;
+            this.counts = counts;
+            this.buckets = buckets;
+            this.key = key;
+            this.chunks = chunks;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                ChunkTask left = new ChunkTask(phase, arr, temp, ids, counts, buckets, key, chunks, lo, mid);
+                left.fork();
+                new ChunkTask(phase, arr, temp, ids, counts, buckets, key, chunks, mid, hi).compute();
+                left.join();
+                return;
+            }
+            int from = (int) ((long) arr.length * lo / chunks);
+            int to = (int) ((long) arr.length * (lo + 1) / chunks);
+            int row = lo * buckets;     // this chunk's counters / next target indices
+            if (phase == COUNT) {
+                for (int i = from; i < to; i++) {
+                    int b = checkedBucket(key.bucket(arr[i]), buckets);
+                    if (ids != null) ids[i] = (byte) b;
+                    counts[row + b]++;
+                }
+            } else if (phase == SCATTER) {
+                for (int i = from; i < to; i++) {
+                    int value = arr[i];
+                    temp[counts[row + (ids != null ? ids[i] & 0xFF : key.bucket(value))]++] = value;
+                }
+            } else {
+                System.arraycopy(temp, from, arr, from, to - from);
+            }
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) out.write(buffer);
+        buffer.clear();
+    }
+
+    private static void closeAll(FileChannel[] channels) throws IOException {
+        IOException failure = null;
+        for (FileChannel channel : channels) {
+            if (channel == null) continue;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private static void checkBuckets(int buckets) {
+        if (buckets < 1) throw new IllegalArgumentException("buckets must be positive: " + buckets);
+    }
+
+    private static int checkedBucket(int bucket, int buckets) {
+        if (bucket < 0 || bucket >= buckets) {
+            throw new IllegalArgumentException("Bucket " + bucket + " out of range for " + buckets + " buckets");
+        }
+        return bucket;
+    }
+}
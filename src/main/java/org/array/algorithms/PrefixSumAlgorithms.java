@@ -0,0 +1,252 @@
+package org.array.algorithms;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Prefix-sum (scan) engine:
+ * - in-place / caller-buffer scans (no allocation per call)
+ * - long[] output, so sums of billions of counters never overflow
+ * - parallel two-pass blocked scan (fork-join)
+ * - O(1) range-sum queries on a computed prefix array
+ *
+ * All scans are inclusive, like {@link AdvanceAlgorithms#prefixSum}: out[i] = arr[0] + ... + arr[i].
+ * Every method accepts an empty array.
+ */
+public class PrefixSumAlgorithms {
+
+    /** Default number of elements per block in the parallel scan. */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Computes int prefix sums into a caller-supplied buffer.
+     *
+     * Algorithm: Prefix sum computation.
+     * Pattern: Running total written as we go.
+     * Time Complexity: O(n)
+     * Space Complexity: O(1) → out may be arr itself (fully in-place).
+     *
+     * Sums wrap around on int overflow, exactly like {@link AdvanceAlgorithms#prefixSum};
+     * use {@link #prefixSum(int[], long[])} when they can get large.
+     *
+     * @param arr input array
+     * @param out destination, at least arr.length long (may be arr)
+     */
+    public static void prefixSum(int[] arr, int[] out) {
+        checkLength(arr.length, out.length);
+        int running = 0;
+        for (int i = 0; i < arr.length; i++) {
+            running += arr[i];
+            out[i] = running;
+        }
+    }
+
+    /**
+     * Computes long prefix sums into a caller-supplied buffer.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1) (no allocation)
+     *
+     * @param arr input array
+     * @param out destination, at least arr.length long
+     */
+    public static void prefixSum(int[] arr, long[] out) {
+        checkLength(arr.length, out.length);
+        long running = 0;
+        for (int i = 0; i < arr.length; i++) {
+            running += arr[i];
+            out[i] = running;
+        }
+    }
+
+    /**
+     * Computes long prefix sums into a new array.
+     *
+     * An int array of length n can sum to at most n · 2^31 in absolute value, which
+     * always fits in a long, so this never overflows.
+     *
+     * @param arr input array
+     * @return new array where prefix[i] = sum(arr[0..i])
+     */
+    public static long[] prefixSumLong(int[] arr) {
+        long[] prefix = new long[arr.length];
+        prefixSum(arr, prefix);
+        return prefix;
+    }
+
+    /**
+     * Computes long prefix sums in parallel, with the default block size.
+     *
+     * @param arr input array
+     * @param out destination, at least arr.length long
+     */
+    public static void parallelPrefixSum(int[] arr, long[] out) {
+        parallelPrefixSum(arr, out, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Computes long prefix sums in parallel using a two-pass blocked scan.
+     *
+     * Algorithm:
+     * 1. Split the array into blocks and sum every block in parallel.
+     * 2. Scan the (few) block sums sequentially → starting offset of every block.
+     * 3. Scan every block in parallel, starting from its offset.
+     * Time Complexity: O(n / p + n / blockSize) with p cores (two reads of the input, one write).
+     * Space Complexity: O(n / blockSize) for the block offsets.
+     *
+     * @param arr       input array
+     * @param out       destination, at least arr.length long
+     * @param blockSize number of elements per block
+     */
+    public static void parallelPrefixSum(int[] arr, long[] out, int blockSize) {
+        checkLength(arr.length, out.length);
+        long[] offsets = blockOffsets(arr, blockSize);
+        if (offsets.length == 0) return;
+        new ScanTask(arr, null, out, offsets, blockSize, 0, offsets.length).invoke();
+    }
+
+    /**
+     * Computes int prefix sums in parallel, with the default block size.
+     *
+     * @param arr input array
+     * @param out destination, at least arr.length long (may be arr)
+     */
+    public static void parallelPrefixSum(int[] arr, int[] out) {
+        parallelPrefixSum(arr, out, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Computes int prefix sums in parallel using a two-pass blocked scan.
+     *
+     * Same algorithm as {@link #parallelPrefixSum(int[], long[], int)}; results wrap on overflow
+     * exactly like the sequential version. out may be arr itself: every block's sum is
+     * taken before any block is overwritten.
+     *
+     * @param arr       input array
+     * @param out       destination, at least arr.length long (may be arr)
+     * @param blockSize number of elements per block
+     */
+    public static void parallelPrefixSum(int[] arr, int[] out, int blockSize) {
+        checkLength(arr.length, out.length);
+        long[] offsets = blockOffsets(arr, blockSize);
+        if (offsets.length == 0) return;
+        new ScanTask(arr, out, null, offsets, blockSize, 0, offsets.length).invoke();
+    }
+
+    /**
+     * Sum of arr[from..to] (both inclusive) using a prefix array computed from arr.
+     *
+     * Pattern: prefix[to] - prefix[from - 1].
+     * Time Complexity: O(1)
+     *
+     * @param prefix long prefix sums of arr
+     * @param from   first index (inclusive)
+     * @param to     last index (inclusive)
+     * @return sum of the range
+     */
+    public static long rangeSum(long[] prefix, int from, int to) {
+        if (from > to) return 0;
+        return from == 0 ? prefix[to] : prefix[to] - prefix[from - 1];
+    }
+
+    private static void checkLength(int length, int outLength) {
+        if (outLength < length) {
+            throw new IllegalArgumentException("output buffer is smaller than the input: " + outLength + " < " + length);
+        }
+    }
+
+    // Passes 1 and 2: parallel block sums, then sequential exclusive scan of them
+    private static long[] blockOffsets(int[] arr, int blockSize) {
+        if (blockSize < 1) throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        int blocks = (int) (((long) arr.length + blockSize - 1) / blockSize);
+        long[] offsets = new long[blocks];
+        if (blocks == 0) return offsets;
+        new BlockSumTask(arr, offsets, blockSize, 0, blocks).invoke();
+        long running = 0;
+        for (int b = 0; b < blocks; b++) {
+            long blockSum = offsets[b];
+            offsets[b] = running;
+            running += blockSum;
+        }
+        return offsets;
+    }
+
+    /**
+     * Sums blocks [lo, hi) into sums[block].
+     */
+    private static final class BlockSumTask extends RecursiveAction {
+        private final int[] arr;
+        private final long[] sums;
+        private final int blockSize, lo, hi;
+
+        BlockSumTask(int[] arr, long[] sums, int blockSize, int lo, int hi) {
+            this.arr = arr;
+            this.sums = sums;
+            this.blockSize = blockSize;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                int from = lo * blockSize;
+                int to = (int) Math.min((long) from + blockSize, arr.length);
+                long sum = 0;
+                for (int i = from; i < to; i++) {
+                    sum += arr[i];
+                }
+                sums[lo] = sum;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new BlockSumTask(arr, sums, blockSize, lo, mid),
+                    new BlockSumTask(arr, sums, blockSize, mid, hi));
+        }
+    }
+
+    /**
+     * Scans blocks [lo, hi), each starting from its offset, into intOut or longOut.
+     */
+    private static final class ScanTask extends RecursiveAction {
+        private final int[] arr;
+        private final int[] intOut;
+        private final long[] longOut;
+        private final long[] offsets;
+        private final int blockSize, lo, hi;
+
+        ScanTask(int[] arr, int[] intOut, long[] longOut, long[] offsets, int blockSize, int lo, int hi) {
+            this.arr = arr;
+            this.intOut = intOut;
+            this.longOut = longOut;
+            this.offsets = offsets;
+            this.blockSize = blockSize;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                int from = lo * blockSize;
+                int to = (int) Math.min((long) from + blockSize, arr.length);
+                if (longOut != null) {
+                    long running = offsets[lo];
+                    for (int i = from; i < to; i++) {
+                        running += arr[i];
+                        longOut[i] = running;
+                    }
+                } else {
+                    int running = (int) offsets[lo]; // low 32 bits = the wrapped int sum
+                    for (int i = from; i < to; i++) {
+                        running += arr[i];
+                        intOut[i] = running;
+                    }
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ScanTask(arr, intOut, longOut, offsets, blockSize, lo, mid),
+                    new ScanTask(arr, intOut, longOut, offsets, blockSize, mid, hi));
+        }
+    }
+}
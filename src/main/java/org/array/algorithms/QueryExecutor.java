@@ -0,0 +1,422 @@
+package org.array.algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs named operations of this library concurrently against shared, immutable {@link ArraySnapshot}s.
+ *
+ * Instead of one thread and one defensive array copy per request, queries are dispatched by name
+ * ("sumArray", "binarySearch", "sort" ...) to a fixed pool of worker threads, and each operation
+ * gets its input in the cheapest safe way for its {@link Kind}:
+ * - reductions that ignore order read the snapshot's base array directly, whatever the view;
+ * - order-dependent reads use the base array when it is in order, otherwise a per-worker scratch copy;
+ * - operations that reorder their input but return a value (select, duplicate check by sorting)
+ *   work on a per-worker scratch copy, reused from query to query (no allocation);
+ * - rotations, shifts and reversal return a new view, O(1), nothing copied;
+ * - other reordering operations (sorts ...) copy once and return the result as a new snapshot.
+ *
+ * Concurrency is bounded twice: at most concurrency queries run at once, and at most maxPending are
+ * accepted but not finished. {@link #submit} blocks while maxPending are in flight, so a fast client
+ * slows down instead of filling memory with queued requests.
+ * (Java 17 has no virtual threads; a fixed pool of platform threads gives the same bounded
+ * concurrency for this CPU-bound work.)
+ *
+ * With a {@link ResultCache}, repeated queries on the same {@link Dataset} snapshot are answered from
+ * the cache on the caller's thread, without a trip through the pool. Operations must then be deterministic.
+ * Mutable results (arrays, {@link ArrayStatistics}) are copied for every caller, so no caller can
+ * change what another one sees.
+ *
+ * With metrics enabled (see {@link Metrics}), each operation records its latency from submit to
+ * completion, queueing included, as "QueryExecutor.&lt;name&gt;".
+ */
+public final class QueryExecutor implements AutoCloseable {
+
+    /**
+     * How an operation treats its input, which decides what the executor hands it.
+     */
+    public enum Kind {
+        /** Reads only, result does not depend on order: runs on the shared base array. */
+        AGGREGATE,
+        /** Reads only, result depends on order: shared array when in order, else a scratch copy. */
+        READ,
+        /** Reorders its input and returns a value: runs on a reused per-worker scratch copy. */
+        SCRATCH,
+        /** Reorders its input and the reordered array is the result: runs on a fresh copy. */
+        COPY,
+        /** Rotation / shift / reversal: answered with a new snapshot view, no copy (built in only). */
+        VIEW
+    }
+
+    /**
+     * An operation on an int[] with int arguments.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * @param data the values; shared with other threads or reused by the next query,
+         *             so it must not be kept or returned (except by COPY operations)
+         * @param args the query's arguments
+         * @return the result (ignored for COPY, whose result is the reordered data); with a cache it is
+         *         shared by every caller, so it must be immutable, an int[] or an {@link ArrayStatistics}
+         *         (those two are copied per caller)
+         */
+        Object apply(int[] data, int[] args);
+    }
+
+    @FunctionalInterface
+    private interface ViewOperation {
+        ArraySnapshot apply(ArraySnapshot data, int[] args);
+    }
+
+    private static final class Entry {
+        final Kind kind;
+        final int arity;
+        final Operation operation;
+        final ViewOperation view;
+        final OperationMetrics metrics;
+
+        Entry(String name, Kind kind, int arity, Operation operation, ViewOperation view) {
+            this.kind = kind;
+            this.arity = arity;
+            this.operation = operation;
+            this.view = view;
+            this.metrics = Metrics.operation("QueryExecutor." + name);
+        }
+    }
+
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    private final Map<String, Entry> operations = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final Semaphore pending;
+    private final ResultCache cache;    // null: no caching
+    // One scratch array per worker, reused while the sizes match
+    private final ThreadLocal<int[]> scratch = new ThreadLocal<>();
+
+    /**
+     * Executor with up to 16 queries in flight per worker.
+     *
+     * @param concurrency number of worker threads
+     */
+    public QueryExecutor(int concurrency) {
+        this(concurrency, 16 * concurrency);
+    }
+
+    /**
+     * @param concurrency number of worker threads (queries running at once)
+     * @param maxPending  queries accepted but not finished, before {@link #submit} blocks
+     */
+    public QueryExecutor(int concurrency, int maxPending) {
+        this(concurrency, maxPending, null);
+    }
+
+    /**
+     * @param concurrency number of worker threads (queries running at once)
+     * @param maxPending  queries accepted but not finished, before {@link #submit} blocks
+     * @param cache       memo of results (may be shared by several executors with the same operations), or null
+     */
+    public QueryExecutor(int concurrency, int maxPending, ResultCache cache) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        if (maxPending < concurrency) {
+            throw new IllegalArgumentException("maxPending must be at least concurrency: " + maxPending + " < " + concurrency);
+        }
+        int pool = POOL_NUMBER.incrementAndGet();
+        AtomicInteger thread = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, task -> {
+            Thread worker = new Thread(task, "array-query-" + pool + "-" + thread.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+        this.pending = new Semaphore(maxPending);
+        this.cache = cache;
+        registerBuiltIns();
+    }
+
+    /**
+     * Adds (or replaces) a named operation. Replacing one clears the cache.
+     *
+     * @param name      name used by {@link #submit}
+     * @param kind      how the operation treats its input (not VIEW)
+     * @param arity     number of int arguments it takes
+     * @param operation the operation
+     */
+    public void register(String name, Kind kind, int arity, Operation operation) {
+        if (kind == Kind.VIEW) throw new IllegalArgumentException("VIEW operations are built in only");
+        if (arity < 0) throw new IllegalArgumentException("arity must not be negative: " + arity);
+        Entry previous = operations.put(name, new Entry(name, kind, arity, operation, null));
+        if (previous != null && cache != null) cache.clear();
+    }
+
+    /**
+     * @return the names of all registered operations, sorted
+     */
+    public List<String> operations() {
+        List<String> names = new ArrayList<>(operations.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Runs an operation on the current snapshot of a dataset. Only these queries use the cache.
+     *
+     * @param data      the dataset (its snapshot is taken now)
+     * @param operation registered name
+     * @param args      the operation's arguments
+     * @return the result: a boxed value, an array, an {@link ArraySnapshot} (COPY, VIEW) or null (not found)
+     */
+    public CompletableFuture<Object> submit(Dataset data, String operation, int... args) {
+        Entry entry = lookup(operation, args);
+        ArraySnapshot snapshot = data.snapshot();
+        if (cache == null || entry.kind == Kind.VIEW) {   // Views cost less than a lookup
+            return dispatch(entry, () -> run(entry, snapshot, args), snapshot.size());
+        }
+        // Once per dataset: when it moves to a new snapshot, the old one's results are dropped
+        data.addReplacedListener(cache.invalidator);
+        CompletableFuture<Object> cached = cache.get(new ResultCache.Key(snapshot, operation, args));
+        if (cached == null) {
+            ResultCache.Key key = new ResultCache.Key(snapshot, operation, args.clone());
+            CompletableFuture<Object> shared = new CompletableFuture<>();
+            cached = cache.putIfAbsent(key, shared);
+            // Replaced before the insert: its invalidation has already run and would never drop the entry
+            if (data.snapshot() != snapshot) cache.remove(key, cached);
+            if (cached == shared) compute(entry, snapshot, key, shared);
+        }
+        if (cached.isDone() && !cached.isCompletedExceptionally()) {
+            return CompletableFuture.completedFuture(unshare(cached.join()));   // Hit: no thread hop
+        }
+        return cached.thenApply(QueryExecutor::unshare);
+    }
+
+    /**
+     * Runs an operation on a snapshot. Blocks while maxPending queries are in flight.
+     * Not cached: the cache only keeps results of snapshots a {@link Dataset} owns (and drops them when
+     * it moves on), so it never keeps a snapshot nobody else holds alive.
+     *
+     * @param data      the values
+     * @param operation registered name
+     * @param args      the operation's arguments
+     * @return the result: a boxed value, an array, an {@link ArraySnapshot} (COPY, VIEW) or null (not found)
+     * @throws IllegalArgumentException   if the operation is unknown or gets the wrong number of arguments
+     * @throws RejectedExecutionException if the executor is closed
+     */
+    public CompletableFuture<Object> submit(ArraySnapshot data, String operation, int... args) {
+        Entry entry = lookup(operation, args);
+        return dispatch(entry, () -> run(entry, data, args), data.size());
+    }
+
+    // Computes a result that was just inserted into the cache as shared
+    private void compute(Entry entry, ArraySnapshot data, ResultCache.Key key, CompletableFuture<Object> shared) {
+        CompletableFuture<Object> computed;
+        try {
+            computed = dispatch(entry, () -> run(entry, data, key.args), data.size());
+        } catch (RuntimeException e) {
+            cache.remove(key, shared);
+            shared.completeExceptionally(e);   // Callers that already got shared must not wait forever
+            throw e;
+        }
+        computed.whenComplete((value, error) -> {
+            if (error != null) {
+                cache.remove(key, shared);   // Failures are not cached
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Applies a reordering operation (kind COPY or VIEW) to a dataset and publishes the result as its
+     * next version. Readers holding older snapshots are not affected.
+     *
+     * @param data      the dataset to change
+     * @param operation registered name, of kind COPY or VIEW
+     * @param args      the operation's arguments
+     * @return the published snapshot
+     */
+    public CompletableFuture<ArraySnapshot> update(Dataset data, String operation, int... args) {
+        Entry entry = lookup(operation, args);
+        if (entry.kind != Kind.COPY && entry.kind != Kind.VIEW) {
+            throw new IllegalArgumentException(operation + " does not change the data (" + entry.kind + ")");
+        }
+        return dispatch(entry, () -> data.update(current -> (ArraySnapshot) run(entry, current, args)),
+                data.snapshot().size());
+    }
+
+    /**
+     * Stops accepting queries and waits for the accepted ones to finish.
+     */
+    @Override
+    public void close() {
+        workers.shutdown();
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting: accepted queries are always completed
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Entry lookup(String operation, int[] args) {
+        Entry entry = operations.get(operation);
+        if (entry == null) throw new IllegalArgumentException("Unknown operation: " + operation);
+        if (args.length != entry.arity) {
+            throw new IllegalArgumentException(operation + " takes " + entry.arity + " argument(s), got " + args.length);
+        }
+        return entry;
+    }
+
+    @FunctionalInterface
+    private interface Query<T> {
+        T run();
+    }
+
+    private <T> CompletableFuture<T> dispatch(Entry entry, Query<T> query, int elements) {
+        long start = Metrics.start();
+        pending.acquireUninterruptibly();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            workers.execute(() -> {
+                try {
+                    result.complete(query.run());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    pending.release();
+                    entry.metrics.end(start, elements);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.release();
+            throw e;
+        }
+        return result;
+    }
+
+    private Object run(Entry entry, ArraySnapshot data, int[] args) {
+        switch (entry.kind) {
+            case AGGREGATE:
+                return entry.operation.apply(data.base(), args);
+            case READ:
+                return entry.operation.apply(data.isIdentity() ? data.base() : scratchCopy(data), args);
+            case SCRATCH:
+                return entry.operation.apply(scratchCopy(data), args);
+            case COPY:
+                int[] copy = data.toArray();
+                entry.operation.apply(copy, args);
+                return ArraySnapshot.wrap(copy);
+            default:
+                return entry.view.apply(data, args);
+        }
+    }
+
+    private int[] scratchCopy(ArraySnapshot data) {
+        int[] buffer = scratch.get();
+        if (buffer == null || buffer.length != data.size()) {
+            // The algorithms use arr.length, so the buffer must match exactly
+            buffer = new int[data.size()];
+            scratch.set(buffer);
+        }
+        data.copyTo(buffer);
+        return buffer;
+    }
+
+    // Every caller gets its own future (the cached one must not be completed by a caller)
+    // and its own copy of a mutable result
+    private static Object unshare(Object value) {
+        if (value instanceof int[]) return ((int[]) value).clone();
+        if (value instanceof ArrayStatistics) return ((ArrayStatistics) value).copy();
+        return value;
+    }
+
+    private static int[] pair(ResultHolder holder) {
+        return holder.found() ? new int[]{holder.first(), holder.second()} : null;
+    }
+
+    private void registerBuiltIns() {
+        // Order-independent reductions
+        register("sumArray", Kind.AGGREGATE, 0, (arr, a) -> BasicArrayAlgorithms.sumArray(arr));
+        register("averageArray", Kind.AGGREGATE, 0, (arr, a) -> BasicArrayAlgorithms.averageArray(arr));
+        register("findMinMax", Kind.AGGREGATE, 0, (arr, a) -> {
+            ResultHolder holder = new ResultHolder();
+            BasicArrayAlgorithms.findMinMax(arr, holder);
+            return pair(holder);
+        });
+        register("secondLargest", Kind.AGGREGATE, 0, (arr, a) -> AdvanceAlgorithms.secondLargest(arr));
+        register("secondSmallest", Kind.AGGREGATE, 0, (arr, a) -> AdvanceAlgorithms.secondSmallest(arr));
+        register("findMissing", Kind.AGGREGATE, 1, (arr, a) -> CompetitiveAlgorithms.findMissing(arr, a[0]));
+
+        // Order-dependent reads
+        register("linearSearch", Kind.READ, 1, (arr, a) -> IntermediateArrayAlgorithms.linearSearch(arr, a[0]));
+        register("binarySearch", Kind.READ, 1, (arr, a) -> IntermediateArrayAlgorithms.binarySearch(arr, a[0]));
+        register("majorityElement", Kind.READ, 0, (arr, a) -> CompetitiveAlgorithms.majorityElement(arr));
+        register("kadaneMaxSubArraySum", Kind.READ, 0, (arr, a) -> AdvanceAlgorithms.kadaneMaxSubArraySum(arr));
+        register("maxSumSlidingWindow", Kind.READ, 1, (arr, a) -> AdvanceAlgorithms.maxSumSlidingWindow(arr, a[0]));
+        register("prefixSum", Kind.READ, 0, (arr, a) -> AdvanceAlgorithms.prefixSum(arr));
+        register("statistics", Kind.READ, 0, (arr, a) -> ArrayStatistics.compute(arr, ArrayStatistics.Aggregate.values()));
+        register("twoPointerSum", Kind.READ, 1, (arr, a) -> {
+            ResultHolder holder = new ResultHolder();
+            CompetitiveAlgorithms.twoPointerSum(arr, a[0], holder);
+            return pair(holder);
+        });
+        register("subarraySum", Kind.READ, 1, (arr, a) -> {
+            ResultHolder holder = new ResultHolder();
+            CompetitiveAlgorithms.subarraySum(arr, a[0], holder);
+            return pair(holder);
+        });
+
+        // Reorder a private copy, return a value
+        register("kthSmallest", Kind.SCRATCH, 1, (arr, a) -> SelectionAlgorithms.select(arr, a[0]));
+        register("hasDuplicates", Kind.SCRATCH, 0, (arr, a) -> DuplicateAlgorithms.hasDuplicates(arr));
+
+        // Reorder a copy, which becomes the result
+        register("sort", Kind.COPY, 0, (arr, a) -> {
+            SortAlgorithms.sort(arr);
+            return null;
+        });
+        register("bubbleSort", Kind.COPY, 0, (arr, a) -> {
+            IntermediateArrayAlgorithms.bubbleSort(arr);
+            return null;
+        });
+        register("selectionSort", Kind.COPY, 0, (arr, a) -> {
+            IntermediateArrayAlgorithms.selectionSort(arr);
+            return null;
+        });
+        register("insertionSort", Kind.COPY, 0, (arr, a) -> {
+            IntermediateArrayAlgorithms.insertionSort(arr);
+            return null;
+        });
+        register("sort012", Kind.COPY, 0, (arr, a) -> {
+            CompetitiveAlgorithms.sort012(arr);
+            return null;
+        });
+        register("rearrangePosNeg", Kind.COPY, 0, (arr, a) -> {
+            AdvanceAlgorithms.rearrangePosNegInPlace(arr);
+            return null;
+        });
+
+        // Pure moves: new views, no copy
+        view("reverseArray", 0, (data, a) -> data.reverse());
+        view("shiftLeft", 0, (data, a) -> data.rotateLeft(1));
+        view("shiftRight", 0, (data, a) -> data.rotateRight(1));
+        view("rotateLeftInPlace", 1, (data, a) -> data.rotateLeft(a[0]));
+        view("rotateRightInPlace", 1, (data, a) -> data.rotateRight(a[0]));
+        view("rotateRight", 1, (data, a) -> data.rotateRight(a[0]));
+    }
+
+    private void view(String name, int arity, ViewOperation view) {
+        operations.put(name, new Entry(name, Kind.VIEW, arity, null, view));
+    }
+}
@@ -0,0 +1,245 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded memo of query results for a {@link QueryExecutor}, so repeated queries on unchanged data
+ * cost a hash lookup instead of a scan.
+ *
+ * Key: (snapshot, operation, arguments). Snapshots never change, so a cached result can never be
+ * stale: when a {@link Dataset} is changed (sorted, reversed, rotated, shifted, replaced ...) it
+ * publishes a new snapshot, which has no entries yet. The dataset also tells the cache, which then
+ * drops the entries of the replaced snapshot at once instead of waiting for eviction.
+ *
+ * Keys hold their snapshot strongly, so only the current snapshot of a {@link Dataset} is cached
+ * (see {@link QueryExecutor#submit(Dataset, String, int...)}): the dataset keeps it alive anyway, and
+ * replacing it drops its entries. Only a dataset that is itself discarded leaves its last snapshot
+ * behind, until its entries are evicted.
+ *
+ * Data structure: the entries are spread over {@value #SEGMENTS} segments by key hash; each is an
+ * access-ordered LinkedHashMap (LRU) with its own lock, so threads hitting different keys rarely
+ * wait on each other. Each segment holds capacity / {@value #SEGMENTS} entries and evicts its own
+ * least recently used one.
+ * Values are futures: a second request for a result that is still being computed waits for that
+ * computation instead of starting another one.
+ *
+ * Time complexity: O(1) per lookup; O(capacity) per invalidation (datasets change rarely).
+ */
+public final class ResultCache {
+
+    /** Number of independently locked LRU segments. */
+    static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // One instance, so a dataset registers it once however many queries it serves
+    final Consumer<ArraySnapshot> invalidator = this::invalidate;
+
+    /**
+     * @param capacity maximum number of cached results (at least {@value #SEGMENTS})
+     */
+    public ResultCache(int capacity) {
+        if (capacity < SEGMENTS) {
+            throw new IllegalArgumentException("capacity must be at least " + SEGMENTS + ": " + capacity);
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            // Spread the remainder, so the segment capacities add up to capacity
+            segments[i] = new Segment(capacity / SEGMENTS + (i < capacity % SEGMENTS ? 1 : 0));
+        }
+    }
+
+    /**
+     * @param key lookup key
+     * @return the cached future, or null (counted as a miss)
+     */
+    CompletableFuture<Object> get(Key key) {
+        Segment segment = segmentFor(key);
+        CompletableFuture<Object> cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        (cached != null ? hits : misses).increment();
+        return cached;
+    }
+
+    /**
+     * Stores future under key unless another thread got there first.
+     *
+     * @param key    lookup key (must not change afterwards)
+     * @param future future of the result
+     * @return the future now cached for key (the given one, or the one of the other thread)
+     */
+    CompletableFuture<Object> putIfAbsent(Key key, CompletableFuture<Object> future) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            CompletableFuture<Object> cached = segment.putIfAbsent(key, future);
+            return cached != null ? cached : future;
+        }
+    }
+
+    /**
+     * Removes key if it still maps to future (used when the computation failed).
+     */
+    void remove(Key key, CompletableFuture<Object> future) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key, future);
+        }
+    }
+
+    /**
+     * Drops every result computed on a snapshot.
+     *
+     * @param snapshot the snapshot whose results are no longer needed
+     */
+    public void invalidate(ArraySnapshot snapshot) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Key> keys = segment.keySet().iterator();
+                while (keys.hasNext()) {
+                    if (keys.next().snapshot == snapshot) {
+                        keys.remove();
+                        invalidations.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every result.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @return number of cached results
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return lookups answered from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return lookups that had to compute the result
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return hits / lookups (0 before the first lookup)
+     */
+    public double hitRate() {
+        long h = hits.sum(), lookups = h + misses.sum();
+        return lookups == 0 ? 0 : (double) h / lookups;
+    }
+
+    /**
+     * @return results dropped to make room (least recently used first)
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return results dropped because their snapshot was replaced
+     */
+    public long invalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * Resets the hit, miss, eviction and invalidation counters (the entries stay).
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        invalidations.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d, hits=%d, misses=%d, hitRate=%.3f, evictions=%d, invalidations=%d",
+                size(), hits(), misses(), hitRate(), evictions(), invalidations());
+    }
+
+    private Segment segmentFor(Key key) {
+        // Top bits pick the segment; the hash map inside uses the low ones
+        return segments[(key.hash * 0x9E3779B9) >>> 28];
+    }
+
+    /**
+     * (snapshot identity, operation, arguments), hash computed once.
+     */
+    static final class Key {
+        final ArraySnapshot snapshot;
+        final String operation;
+        final int[] args;
+        final int hash;
+
+        Key(ArraySnapshot snapshot, String operation, int[] args) {
+            this.snapshot = snapshot;
+            this.operation = operation;
+            this.args = args;
+            this.hash = (System.identityHashCode(snapshot) * 31 + operation.hashCode()) * 31 + Arrays.hashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) return false;
+            Key key = (Key) other;
+            return hash == key.hash && snapshot == key.snapshot
+                    && operation.equals(key.operation) && Arrays.equals(args, key.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<Key, CompletableFuture<Object>> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);   // Access order: get() moves an entry to the young end
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<Object>> eldest) {
+            if (size() <= capacity) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.array.algorithms;
+
+/**
+ * Reusable, allocation-free result receiver.
+ *
+ * Works as an {@link IntSink} and as an {@link IntPairSink}: it keeps the last result
+ * and counts how many results arrived. Create one, pass it to algorithms again and again,
+ * and call {@link #reset()} in between → no garbage per call.
+ *
+ * Not thread-safe: use one holder per thread.
+ */
+public final class ResultHolder implements IntSink, IntPairSink {
+
+    private int first;
+    private int second;
+    private long count;
+
+    @Override
+    public void accept(int value) {
+        first = value;
+        count++;
+    }
+
+    @Override
+    public void accept(int first, int second) {
+        this.first = first;
+        this.second = second;
+        count++;
+    }
+
+    /**
+     * Forgets all results, so the holder can be reused.
+     *
+     * @return this holder
+     */
+    public ResultHolder reset() {
+        first = 0;
+        second = 0;
+        count = 0;
+        return this;
+    }
+
+    /**
+     * @return true if at least one result arrived since the last reset
+     */
+    public boolean found() {
+        return count > 0;
+    }
+
+    /**
+     * @return number of results since the last reset
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the last single result, or the first value of the last pair
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * @return the second value of the last pair
+     */
+    public int second() {
+        return second;
+    }
+}
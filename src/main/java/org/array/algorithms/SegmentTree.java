@@ -0,0 +1,231 @@
+package org.array.algorithms;
+
+/**
+ * Mutable range aggregates over an int array: sum, min, max and maximum subarray sum
+ * of any range, with point updates. Every operation is O(log n).
+ *
+ * Data structure: Iterative segment tree over a power-of-two number of leaves.
+ * Node k covers the union of its children 2k and 2k + 1; leaf i is node size + i.
+ * Each node stores (as parallel arrays, no node objects):
+ * - sum, min, max of its range
+ * - best prefix sum, best suffix sum and best subarray sum (Kadane in tree form):
+ *     best(L + R) = max(best(L), best(R), suffix(L) + prefix(R))
+ *   see {@link AdvanceAlgorithms#kadaneMaxSubArraySum} for the linear version.
+ *
+ * Sums are exact (long). Padding leaves are neutral: they never win a min, max or best.
+ *
+ * Build: O(n). Update / query: O(log n). Memory: about 80 bytes per element.
+ */
+public final class SegmentTree {
+
+    /** Largest supported input (2 · next power of two must fit in an array). */
+    static final int MAX_SIZE = 1 << 29;
+
+    // "Minus infinity" for prefix/suffix/best of padding; far below any real sum, and
+    // adding two of them, or one to any real sum, cannot overflow
+    private static final long NONE = Long.MIN_VALUE / 4;
+
+    private final int n;
+    private final int size;         // number of leaves, a power of two >= n
+    private final long[] sum;
+    private final int[] min;
+    private final int[] max;
+    private final long[] prefix;
+    private final long[] suffix;
+    private final long[] best;
+
+    /**
+     * Builds the tree from an array in O(n): fill the leaves, then every parent once, bottom up.
+     *
+     * @param arr initial values (not modified, not referenced afterwards)
+     */
+    public SegmentTree(int[] arr) {
+        if (arr.length > MAX_SIZE) {
+            throw new IllegalArgumentException("Too many values for SegmentTree: " + arr.length + " > " + MAX_SIZE);
+        }
+        n = arr.length;
+        int leaves = 1;
+        while (leaves < n) leaves <<= 1;
+        size = leaves;
+        sum = new long[2 * size];
+        min = new int[2 * size];
+        max = new int[2 * size];
+        prefix = new long[2 * size];
+        suffix = new long[2 * size];
+        best = new long[2 * size];
+
+        for (int i = 0; i < size; i++) {
+            if (i < n) setLeaf(size + i, arr[i]);
+            else clearLeaf(size + i);
+        }
+        for (int k = size - 1; k >= 1; k--) {
+            pull(k);
+        }
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Current value of one element.
+     *
+     * @param index element position
+     * @return the value
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return min[size + index]; // a leaf holds its value in every field
+    }
+
+    /**
+     * Replaces one element and recomputes the log n nodes above it.
+     *
+     * Time complexity: O(log n).
+     *
+     * @param index element position
+     * @param value new value
+     */
+    public void set(int index, int value) {
+        checkIndex(index);
+        int k = size + index;
+        setLeaf(k, value);
+        for (k >>>= 1; k >= 1; k >>>= 1) {
+            pull(k);
+        }
+    }
+
+    /**
+     * Sum of elements from..to (both inclusive).
+     *
+     * @param from first position
+     * @param to   last position
+     * @return the range sum
+     */
+    public long rangeSum(int from, int to) {
+        checkRange(from, to);
+        long total = 0;
+        for (int l = from + size, r = to + size + 1; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) == 1) total += sum[l++];
+            if ((r & 1) == 1) total += sum[--r];
+        }
+        return total;
+    }
+
+    /**
+     * Smallest element in from..to (both inclusive).
+     *
+     * @param from first position
+     * @param to   last position
+     * @return the minimum
+     */
+    public int rangeMin(int from, int to) {
+        checkRange(from, to);
+        int result = Integer.MAX_VALUE;
+        for (int l = from + size, r = to + size + 1; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) == 1) result = Math.min(result, min[l++]);
+            if ((r & 1) == 1) result = Math.min(result, min[--r]);
+        }
+        return result;
+    }
+
+    /**
+     * Largest element in from..to (both inclusive).
+     *
+     * @param from first position
+     * @param to   last position
+     * @return the maximum
+     */
+    public int rangeMax(int from, int to) {
+        checkRange(from, to);
+        int result = Integer.MIN_VALUE;
+        for (int l = from + size, r = to + size + 1; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) == 1) result = Math.max(result, max[l++]);
+            if ((r & 1) == 1) result = Math.max(result, max[--r]);
+        }
+        return result;
+    }
+
+    /**
+     * Maximum sum of a non-empty contiguous subarray inside from..to (both inclusive).
+     *
+     * Same answer as Kadane's algorithm on that range, in O(log n) instead of O(length).
+     * Pattern: The combine step is not commutative (left must stay left), so the nodes found
+     * from the left end and from the right end are folded into two separate running results.
+     *
+     * @param from first position
+     * @param to   last position
+     * @return the maximum subarray sum
+     */
+    public long maxSubarraySum(int from, int to) {
+        checkRange(from, to);
+        // Left result: covers from .. l, grows to the right
+        long leftSum = 0, leftPrefix = NONE, leftSuffix = NONE, leftBest = NONE;
+        // Right result: covers r .. to, grows to the left
+        long rightSum = 0, rightPrefix = NONE, rightSuffix = NONE, rightBest = NONE;
+        for (int l = from + size, r = to + size + 1; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) == 1) {
+                // left result + node l
+                leftBest = Math.max(Math.max(leftBest, best[l]), leftSuffix + prefix[l]);
+                leftPrefix = Math.max(leftPrefix, leftSum + prefix[l]);
+                leftSuffix = Math.max(suffix[l], sum[l] + leftSuffix);
+                leftSum += sum[l];
+                l++;
+            }
+            if ((r & 1) == 1) {
+                --r;
+                // node r + right result
+                rightBest = Math.max(Math.max(best[r], rightBest), suffix[r] + rightPrefix);
+                rightPrefix = Math.max(prefix[r], sum[r] + rightPrefix);
+                rightSuffix = Math.max(rightSuffix, rightSum + suffix[r]);
+                rightSum += sum[r];
+            }
+        }
+        return Math.max(Math.max(leftBest, rightBest), leftSuffix + rightPrefix);
+    }
+
+    // Recomputes node k from its two children
+    private void pull(int k) {
+        int a = 2 * k, b = 2 * k + 1;
+        sum[k] = sum[a] + sum[b];
+        min[k] = Math.min(min[a], min[b]);
+        max[k] = Math.max(max[a], max[b]);
+        prefix[k] = Math.max(prefix[a], sum[a] + prefix[b]);
+        suffix[k] = Math.max(suffix[b], sum[b] + suffix[a]);
+        best[k] = Math.max(Math.max(best[a], best[b]), suffix[a] + prefix[b]);
+    }
+
+    private void setLeaf(int k, int value) {
+        sum[k] = value;
+        min[k] = value;
+        max[k] = value;
+        prefix[k] = value;
+        suffix[k] = value;
+        best[k] = value;
+    }
+
+    // Neutral padding leaf
+    private void clearLeaf(int k) {
+        sum[k] = 0;
+        min[k] = Integer.MAX_VALUE;
+        max[k] = Integer.MIN_VALUE;
+        prefix[k] = NONE;
+        suffix[k] = NONE;
+        best[k] = NONE;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to >= n || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + "] out of bounds for length " + n);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Order statistics: the k-th smallest / largest value, top-k lists and many ranks at once.
+ * Generalizes {@link AdvanceAlgorithms#secondLargest} and {@link AdvanceAlgorithms#secondSmallest}
+ * to any rank, without sorting and without sentinel return values.
+ *
+ * Ranks are 0-based: k = 0 is the smallest (or largest) value.
+ * With {@link RankMode#DISTINCT}, kthLargest(arr, 1, DISTINCT) is what secondLargest computes.
+ */
+public class SelectionAlgorithms {
+
+    /** Ranges up to this size are finished with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * How equal values are ranked.
+     */
+    public enum RankMode {
+        /** Rank = position in the sorted array: in {5, 5, 3} the largest is 5 and the second largest is also 5. */
+        POSITIONAL,
+        /** Rank among distinct values: in {5, 5, 3} the second largest is 3. */
+        DISTINCT
+    }
+
+    /**
+     * Moves the k-th smallest value to index k, with smaller-or-equal values before it
+     * and greater-or-equal values after it (like C++ nth_element). Reorders the array.
+     *
+     * Algorithm: Introselect.
+     * - Quickselect: partition around a pivot, continue only in the side that holds index k.
+     * - Pivot: median of 3 or ninther (as in {@link SortAlgorithms#introSort}).
+     * - If that takes more than 2 log n rounds (adversarial input), switch to the
+     *   median-of-medians pivot, which guarantees that each round drops at least 30% of the range.
+     * Pattern: 3-way partition, so many equal values cannot slow it down.
+     * Time Complexity: O(n) expected, O(n) worst case.
+     * Space Complexity: O(1) beyond the median-of-medians recursion (O(log n)).
+     *
+     * @param arr the array (reordered)
+     * @param k   rank, 0 = smallest
+     * @return the k-th smallest value
+     */
+    public static int select(int[] arr, int k) {
+        checkRank(k, arr.length);
+        select(arr, 0, arr.length, k, depthLimit(arr.length));
+        return arr[k];
+    }
+
+    /**
+     * k-th smallest value. The array is not modified.
+     *
+     * @param arr  input array
+     * @param k    rank, 0 = smallest
+     * @param mode positional or distinct ranks
+     * @return the value of rank k
+     * @throws IllegalArgumentException if there are not more than k (distinct) values
+     */
+    public static int kthSmallest(int[] arr, int k, RankMode mode) {
+        int[] work = workingCopy(arr, mode);
+        return select(work, k);
+    }
+
+    /**
+     * k-th largest value. The array is not modified.
+     *
+     * @param arr  input array
+     * @param k    rank, 0 = largest
+     * @param mode positional or distinct ranks
+     * @return the value of rank k from the top
+     * @throws IllegalArgumentException if there are not more than k (distinct) values
+     */
+    public static int kthLargest(int[] arr, int k, RankMode mode) {
+        int[] work = workingCopy(arr, mode);
+        checkRank(k, work.length);
+        return select(work, work.length - 1 - k);
+    }
+
+    /**
+     * Batch mode: the k-th smallest value for many ranks, with one copy of the data.
+     *
+     * Algorithm: Multiselect. Select the middle requested rank; everything left of it now holds
+     * the smaller ranks and everything right of it the larger ones, so recurse into both sides
+     * with half of the ranks each.
+     * Time Complexity: O(n log m) for m ranks (instead of O(n · m) for m separate selections).
+     *
+     * @param arr   input array (not modified)
+     * @param ranks ranks to look up, in any order, 0 = smallest
+     * @param mode  positional or distinct ranks
+     * @return values[i] = value of rank ranks[i]
+     */
+    public static int[] kthSmallest(int[] arr, int[] ranks, RankMode mode) {
+        int[] work = workingCopy(arr, mode);
+        for (int rank : ranks) {
+            checkRank(rank, work.length);
+        }
+        int[] sortedRanks = ranks.clone();
+        Arrays.sort(sortedRanks);
+        multiSelect(work, 0, work.length, sortedRanks, 0, sortedRanks.length);
+
+        int[] values = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            values[i] = work[ranks[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Batch quantiles (for example p50, p90, p99) by the nearest-rank method:
+     * the smallest value with at least q · n values at or below it.
+     *
+     * @param arr input array (not empty, not modified)
+     * @param qs  quantiles in [0, 1]
+     * @return values[i] = quantile qs[i]
+     */
+    public static int[] quantiles(int[] arr, double[] qs) {
+        if (arr.length == 0) throw new IllegalArgumentException("Quantiles of an empty array");
+        int[] ranks = new int[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            if (!(qs[i] >= 0 && qs[i] <= 1)) throw new IllegalArgumentException("q must be in [0, 1]: " + qs[i]);
+            ranks[i] = Math.max((int) Math.ceil(qs[i] * arr.length) - 1, 0);
+        }
+        return kthSmallest(arr, ranks, RankMode.POSITIONAL);
+    }
+
+    /**
+     * The k largest values, largest first, in one streaming pass.
+     *
+     * Algorithm: Min-heap of the k best values seen so far; a new value only enters
+     * if it beats the heap minimum. Good for small k: the heap stays in cache.
+     * With DISTINCT, a value that is already in the heap is skipped (checked with an
+     * {@link IntHashSet} that mirrors the heap contents).
+     * Time Complexity: O(n log k). Space Complexity: O(k).
+     *
+     * @param arr  input array (not modified)
+     * @param k    how many values to return
+     * @param mode positional or distinct values
+     * @return the min(k, available) largest values, in descending order
+     */
+    public static int[] topK(int[] arr, int k, RankMode mode) {
+        return topK(arr, k, mode, false);
+    }
+
+    /**
+     * The k smallest values, smallest first, in one streaming pass.
+     * Same algorithm as {@link #topK}, with the order reversed.
+     *
+     * @param arr  input array (not modified)
+     * @param k    how many values to return
+     * @param mode positional or distinct values
+     * @return the min(k, available) smallest values, in ascending order
+     */
+    public static int[] bottomK(int[] arr, int k, RankMode mode) {
+        return topK(arr, k, mode, true);
+    }
+
+    // flip: work on ~value, which reverses the order of all ints without overflow (~v = -v - 1)
+    private static int[] topK(int[] arr, int k, RankMode mode, boolean flip) {
+        if (k < 0) throw new IllegalArgumentException("k must not be negative: " + k);
+        int[] heap = new int[Math.min(k, arr.length)];
+        int size = 0;
+        IntHashSet seen = mode == RankMode.DISTINCT ? new IntHashSet(heap.length) : null;
+        for (int raw : arr) {
+            int value = flip ? ~raw : raw;
+            if (size == heap.length && (size == 0 || value <= heap[0])) continue;
+            if (seen != null && !seen.add(value)) continue;
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUp(heap, size++);
+            } else {
+                if (seen != null) seen.remove(heap[0]);
+                heap[0] = value;
+                siftDown(heap, 0, size);
+            }
+        }
+        // Pop the minimum repeatedly into the back: the array ends up in descending order
+        for (int end = size - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, 0, end);
+        }
+        int[] result = Arrays.copyOf(heap, size);
+        if (flip) {
+            for (int i = 0; i < size; i++) result[i] = ~result[i];
+        }
+        return result;
+    }
+
+    private static void select(int[] arr, int lo, int hi, int k, int depthLimit) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            int pivot = depthLimit-- > 0 ? SortAlgorithms.choosePivot(arr, lo, hi) : medianOfMedians(arr, lo, hi);
+
+            // 3-way partition: [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi) > pivot
+            int lt = lo, i = lo, gt = hi - 1;
+            while (i <= gt) {
+                int value = arr[i];
+                if (value < pivot) swap(arr, lt++, i++);
+                else if (value > pivot) swap(arr, i, gt--);
+                else i++;
+            }
+
+            if (k < lt) hi = lt;
+            else if (k > gt) lo = gt + 1;
+            else return; // k landed among the pivot copies
+        }
+        IntermediateArrayAlgorithms.insertionSort(arr, lo, hi);
+    }
+
+    /**
+     * Pivot with a worst-case guarantee (BFPRT): sort every group of 5, move the group medians
+     * to the front of the range, and select the median of those medians.
+     * At least 3/10 of the range is below it and 3/10 above it.
+     */
+    private static int medianOfMedians(int[] arr, int lo, int hi) {
+        int medians = 0;
+        for (int group = lo; group < hi; group += 5) {
+            int groupEnd = Math.min(group + 5, hi);
+            IntermediateArrayAlgorithms.insertionSort(arr, group, groupEnd);
+            swap(arr, lo + medians++, group + (groupEnd - group - 1) / 2);
+        }
+        int mid = lo + medians / 2;
+        select(arr, lo, lo + medians, mid, 0); // depth 0: median of medians all the way down
+        return arr[mid];
+    }
+
+    // Selects the sorted ranks[from, to) inside arr[lo, hi)
+    private static void multiSelect(int[] arr, int lo, int hi, int[] ranks, int from, int to) {
+        if (from >= to) return;
+        int middle = (from + to) >>> 1;
+        int k = ranks[middle];
+        select(arr, lo, hi, k, depthLimit(hi - lo));
+
+        int leftEnd = middle, rightStart = middle + 1;
+        while (leftEnd > from && ranks[leftEnd - 1] == k) leftEnd--;     // duplicates of k are done
+        while (rightStart < to && ranks[rightStart] == k) rightStart++;
+        multiSelect(arr, lo, k, ranks, from, leftEnd);
+        multiSelect(arr, k + 1, hi, ranks, rightStart, to);
+    }
+
+    // Copy of arr, or of its distinct values
+    private static int[] workingCopy(int[] arr, RankMode mode) {
+        if (mode == RankMode.POSITIONAL) return arr.clone();
+        IntHashSet seen = new IntHashSet(arr.length);
+        int[] distinct = new int[arr.length];
+        int d = 0;
+        for (int value : arr) {
+            if (seen.add(value)) distinct[d++] = value;
+        }
+        return Arrays.copyOf(distinct, d);
+    }
+
+    private static int depthLimit(int n) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+    }
+
+    private static void checkRank(int k, int count) {
+        if (k < 0 || k >= count) {
+            throw new IllegalArgumentException("Rank " + k + " out of range for " + count + " values");
+        }
+    }
+
+    // Min-heap helpers (heap[0] is the smallest)
+    private static void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heap[parent] <= heap[i]) return;
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int i, int n) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) return;
+            if (child + 1 < n && heap[child + 1] < heap[child]) child++;
+            if (heap[i] <= heap[child]) return;
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,283 @@
+package org.array.algorithms;
+
+/**
+ * Rolling min, max, sum, median and quantiles over a sliding window of a stream.
+ * Generalizes {@link AdvanceAlgorithms#maxSumSlidingWindow} (fixed k, sums only).
+ *
+ * Two kinds of window:
+ * - count window: the last k values ({@link #countWindow}, fed with {@link #push(int)})
+ * - time window: the values whose timestamp is in (newest - span, newest]
+ *   ({@link #timeWindow}, fed with {@link #push(long, int)}, timestamps never decreasing)
+ *
+ * Data structures (all primitive arrays, allocated up front or grown by doubling):
+ * - ring buffer of the window's values (and timestamps)
+ * - two monotonic deques of stream positions, also ring buffers: the front of the min deque
+ *   is the window minimum, because every value that has a smaller value after it can never be
+ *   the minimum again and is dropped. Same for max.
+ * - optional order-statistic structure ({@link SortedIntBlocks}: sorted blocks indexed by a
+ *   Fenwick tree) for the k-th smallest value, so median and any quantile need no sorting.
+ *
+ * Time complexity per push: O(1) amortized for min/max/sum; with quantiles enabled add
+ * O(log k) plus one in-block shift of at most {@value SortedIntBlocks#MAX_BLOCK} values.
+ * No allocation per value (only when a time window outgrows its buffers, or a block splits).
+ * Not thread-safe.
+ */
+public final class SlidingWindowAggregator {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final boolean timeBased;
+    private final long span;            // k for count windows, time span for time windows
+
+    // Ring buffer of the window: stream positions [start, end)
+    private int[] values;
+    private long[] times;               // null for count windows
+    private int mask;
+    private long start;
+    private long end;
+    private long sum;
+
+    // Monotonic deques of stream positions (front = oldest)
+    private long[] minDeque;
+    private long[] maxDeque;
+    private long minHead, minTail;      // deque entries are [head, tail)
+    private long maxHead, maxTail;
+
+    private final SortedIntBlocks sorted;   // window values in order, null without quantiles
+
+    private SlidingWindowAggregator(boolean timeBased, long span, boolean quantiles, int capacity) {
+        this.timeBased = timeBased;
+        this.span = span;
+        this.sorted = quantiles ? new SortedIntBlocks() : null;
+        allocate(capacity);
+    }
+
+    /**
+     * Window over the last k values.
+     *
+     * @param k         window size (at least 1)
+     * @param quantiles true to enable {@link #median()} and {@link #quantile(double)}
+     * @return an empty aggregator
+     */
+    public static SlidingWindowAggregator countWindow(int k, boolean quantiles) {
+        if (k < 1) throw new IllegalArgumentException("k must be positive: " + k);
+        if (k > 1 << 30) throw new IllegalArgumentException("k is too large: " + k);
+        int capacity = Integer.highestOneBit(k) == k ? k : Integer.highestOneBit(k) << 1;
+        return new SlidingWindowAggregator(false, k, quantiles, capacity); // never grows
+    }
+
+    /**
+     * Window over the values of the last span time units: a value with timestamp t
+     * is evicted once a timestamp &gt;= t + span has been seen.
+     *
+     * @param span      window length in timestamp units (at least 1)
+     * @param quantiles true to enable {@link #median()} and {@link #quantile(double)}
+     * @return an empty aggregator
+     */
+    public static SlidingWindowAggregator timeWindow(long span, boolean quantiles) {
+        if (span < 1) throw new IllegalArgumentException("span must be positive: " + span);
+        return new SlidingWindowAggregator(true, span, quantiles, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds the next value of a count window; the oldest value leaves once k are held.
+     *
+     * @param value next value
+     */
+    public void push(int value) {
+        if (timeBased) throw new IllegalStateException("Time windows need a timestamp: use push(long, int)");
+        if (end - start == span) evictOldest();
+        append(value);
+    }
+
+    /**
+     * Adds the next chunk of a count window.
+     *
+     * @param chunk  array holding the values
+     * @param offset first value to add
+     * @param length number of values to add
+     */
+    public void push(int[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            push(chunk[i]);
+        }
+    }
+
+    /**
+     * Adds the next value of a time window and evicts the values that fell out of it.
+     *
+     * @param timestamp time of the value (not smaller than the previous timestamp)
+     * @param value     next value
+     */
+    public void push(long timestamp, int value) {
+        if (!timeBased) throw new IllegalStateException("Count windows take no timestamp: use push(int)");
+        if (end > start && timestamp < times[(int) ((end - 1) & mask)]) {
+            throw new IllegalArgumentException("Timestamps must not decrease: " + timestamp
+                    + " < " + times[(int) ((end - 1) & mask)]);
+        }
+        advanceTo(timestamp);
+        if (end - start == values.length) grow();
+        times[(int) (end & mask)] = timestamp;
+        append(value);
+    }
+
+    /**
+     * Evicts the values of a time window that are too old at the given time,
+     * without adding a value (for example on a timer when the stream is quiet).
+     *
+     * @param now current time
+     */
+    public void advanceTo(long now) {
+        if (!timeBased) throw new IllegalStateException("Only time windows can be advanced");
+        while (end > start && times[(int) (start & mask)] <= now - span) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * @return number of values in the window
+     */
+    public int size() {
+        return (int) (end - start);
+    }
+
+    /**
+     * @return true if the window holds no values
+     */
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    /**
+     * @return sum of the values in the window (0 if empty)
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return average of the values in the window
+     */
+    public double mean() {
+        checkNotEmpty();
+        return (double) sum / size();
+    }
+
+    /**
+     * Time complexity: O(1).
+     *
+     * @return smallest value in the window
+     */
+    public int min() {
+        checkNotEmpty();
+        return values[(int) (minDeque[(int) (minHead & mask)] & mask)];
+    }
+
+    /**
+     * Time complexity: O(1).
+     *
+     * @return largest value in the window
+     */
+    public int max() {
+        checkNotEmpty();
+        return values[(int) (maxDeque[(int) (maxHead & mask)] & mask)];
+    }
+
+    /**
+     * k-th smallest value in the window.
+     *
+     * Time complexity: O(log size) expected.
+     *
+     * @param k rank, 0 = smallest
+     * @return the value of rank k
+     */
+    public int kthSmallest(int k) {
+        checkQuantiles();
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + k + " out of bounds for window size " + size());
+        }
+        return sorted.kth(k);
+    }
+
+    /**
+     * Quantile by the nearest-rank method: the smallest value with at least q · size values
+     * at or below it (q = 0 gives the minimum, q = 1 the maximum).
+     *
+     * @param q quantile in [0, 1], e.g. 0.99 for the 99th percentile
+     * @return the quantile value
+     */
+    public int quantile(double q) {
+        if (!(q >= 0 && q <= 1)) throw new IllegalArgumentException("q must be in [0, 1]: " + q);
+        checkNotEmpty();
+        int rank = (int) Math.ceil(q * size()) - 1;
+        return kthSmallest(Math.max(rank, 0));
+    }
+
+    /**
+     * @return the median (the lower middle value when the size is even)
+     */
+    public int median() {
+        checkNotEmpty();
+        return kthSmallest((size() - 1) / 2);
+    }
+
+    private void append(int value) {
+        long position = end++;
+        int slot = (int) (position & mask);
+        values[slot] = value;
+        sum += value;
+
+        // Values that can no longer be the min (or max) leave the back of the deque
+        while (minTail > minHead && values[(int) (minDeque[(int) ((minTail - 1) & mask)] & mask)] >= value) minTail--;
+        minDeque[(int) (minTail++ & mask)] = position;
+        while (maxTail > maxHead && values[(int) (maxDeque[(int) ((maxTail - 1) & mask)] & mask)] <= value) maxTail--;
+        maxDeque[(int) (maxTail++ & mask)] = position;
+
+        if (sorted != null) sorted.add(value);
+    }
+
+    private void evictOldest() {
+        long position = start;
+        int slot = (int) (position & mask);
+        sum -= values[slot];
+        if (sorted != null) sorted.remove(values[slot]);
+        if (minDeque[(int) (minHead & mask)] == position) minHead++;
+        if (maxDeque[(int) (maxHead & mask)] == position) maxHead++;
+        start++;
+    }
+
+    // ===== Buffers =====
+
+    private void allocate(int capacity) {
+        values = new int[capacity];
+        if (timeBased) times = new long[capacity];
+        minDeque = new long[capacity];
+        maxDeque = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    // Doubles every buffer. Positions keep their meaning but slots move, so the window is copied over
+    private void grow() {
+        int[] oldValues = values;
+        long[] oldTimes = times;
+        long[] oldMin = minDeque, oldMax = maxDeque;
+        int oldMask = mask;
+        if (values.length == 1 << 30) throw new IllegalStateException("Window is too large: " + size());
+        allocate(values.length << 1);
+
+        for (long p = start; p < end; p++) {
+            values[(int) (p & mask)] = oldValues[(int) (p & oldMask)];
+            times[(int) (p & mask)] = oldTimes[(int) (p & oldMask)];
+        }
+        for (long i = minHead; i < minTail; i++) minDeque[(int) (i & mask)] = oldMin[(int) (i & oldMask)];
+        for (long i = maxHead; i < maxTail; i++) maxDeque[(int) (i & mask)] = oldMax[(int) (i & oldMask)];
+    }
+
+    private void checkNotEmpty() {
+        if (end == start) throw new IllegalStateException("The window is empty");
+    }
+
+    private void checkQuantiles() {
+        if (sorted == null) throw new IllegalStateException("Quantiles were not enabled for this window");
+    }
+}
@@ -0,0 +1,312 @@
+package org.array.algorithms;
+
+/**
+ * Production sort engine for int arrays:
+ * - Introsort (quicksort + heapsort fallback + insertion sort for small runs)
+ * - LSD radix sort
+ * - Strategy selector that picks one of them from size and sampled presortedness
+ *
+ * The O(n^2) sorts in {@link IntermediateArrayAlgorithms} stay as simple
+ * reference implementations; results of this class can be checked against them.
+ */
+public class SortAlgorithms {
+
+    /** Ranges up to this size are finished with insertion sort. */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** From this size on, radix sort beats comparison sorts on unordered data. */
+    static final int RADIX_SORT_THRESHOLD = 1 << 16;
+
+    /** Ranges larger than this use the ninther (median of three medians) as pivot. */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /** Number of adjacent pairs inspected when estimating presortedness. */
+    private static final int SAMPLE_SIZE = 64;
+
+    // Instrumentation (see Metrics; compiled away unless enabled)
+    private static final OperationMetrics SORT = Metrics.operation("SortAlgorithms.sort");
+
+    /**
+     * Strategy chosen by {@link #selectStrategy(int[])}.
+     */
+    public enum SortStrategy {
+        /** Already ascending, nothing to do. */
+        ALREADY_SORTED,
+        /** Descending, a single reversal sorts it. */
+        REVERSE,
+        /** Small input, insertion sort. */
+        INSERTION,
+        /** General case, introsort. */
+        INTROSORT,
+        /** Large unordered input, radix sort. */
+        RADIX
+    }
+
+    /**
+     * Sorts the array in ascending order, choosing the best strategy for the input.
+     *
+     * Algorithm: Adaptive (see {@link #selectStrategy(int[])}).
+     * Time Complexity: O(n) for sorted/reversed input, O(n log n) worst case.
+     *
+     * @param arr the array to sort
+     */
+    public static void sort(int[] arr) {
+        long start = Metrics.start();
+        switch (selectStrategy(arr)) {
+            case ALREADY_SORTED:
+                break;
+            case REVERSE:
+                AdvanceAlgorithms.reverse(arr, 0, arr.length - 1);
+                break;
+            case INSERTION:
+                IntermediateArrayAlgorithms.insertionSort(arr, 0, arr.length);
+                break;
+            case INTROSORT:
+                introSort(arr);
+                break;
+            case RADIX:
+                radixSort(arr);
+                break;
+        }
+        SORT.end(start, arr.length);
+    }
+
+    /**
+     * Picks a sort strategy from the input size and a sample of its order.
+     *
+     * Pattern: Sample a few evenly spaced adjacent pairs; count how many go up and how many go down.
+     * - All up   → confirm with a full O(n) scan, then nothing to do.
+     * - All down → confirm with a full O(n) scan, then reverse.
+     * - Small    → insertion sort.
+     * - Mostly ordered → introsort (its pivots handle runs well, radix gains nothing).
+     * - Large and unordered → radix sort.
+     * Time Complexity: O(1) for the sample, O(n) when a full confirmation scan is needed.
+     *
+     * @param arr the array that is about to be sorted
+     * @return the strategy {@link #sort(int[])} would use
+     */
+    public static SortStrategy selectStrategy(int[] arr) {
+        int n = arr.length;
+        if (n < 2) return SortStrategy.ALREADY_SORTED;
+
+        int pairs = Math.min(SAMPLE_SIZE, n - 1);
+        int step = (n - 1) / pairs;
+        int ascents = 0, descents = 0;
+        for (int s = 0, i = 0; s < pairs; s++, i += step) {
+            if (arr[i] < arr[i + 1]) ascents++;
+            else if (arr[i] > arr[i + 1]) descents++;
+        }
+
+        if (descents == 0 && isSorted(arr)) return SortStrategy.ALREADY_SORTED;
+        if (ascents == 0 && isReverseSorted(arr)) return SortStrategy.REVERSE;
+        if (n <= INSERTION_SORT_THRESHOLD) return SortStrategy.INSERTION;
+
+        // Fewer than 1 in 8 sampled pairs out of order → treat as nearly sorted
+        boolean nearlyOrdered = Math.min(ascents, descents) * 8 < pairs;
+        if (n >= RADIX_SORT_THRESHOLD && !nearlyOrdered) return SortStrategy.RADIX;
+        return SortStrategy.INTROSORT;
+    }
+
+    /**
+     * Sorts the array in ascending order using introsort.
+     *
+     * Algorithm: Quicksort with a median-of-3 (or ninther) pivot and a 3-way partition,
+     * so runs of equal values are finished in one step.
+     * If recursion gets deeper than 2·log2(n) the pivots are going badly, so the range
+     * is finished with heapsort → O(n log n) worst case.
+     * Ranges of at most {@value #INSERTION_SORT_THRESHOLD} elements use insertion sort.
+     * Time Complexity: O(n log n) worst case.
+     * Space Complexity: O(log n) stack (always recursing into the smaller side).
+     *
+     * @param arr the array to sort
+     */
+    public static void introSort(int[] arr) {
+        introSort(arr, 0, arr.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of the array using introsort.
+     *
+     * @param arr  the array to sort
+     * @param from first index (inclusive)
+     * @param to   last index (exclusive)
+     */
+    public static void introSort(int[] arr, int from, int to) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+        introSort(arr, from, to, depthLimit);
+    }
+
+    private static void introSort(int[] arr, int lo, int hi, int depthLimit) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi);
+                return;
+            }
+            int pivot = choosePivot(arr, lo, hi);
+
+            // 3-way partition (Dutch National Flag): [lo, lt) < pivot, [lt, gt] == pivot, (gt, hi) > pivot
+            int lt = lo, i = lo, gt = hi - 1;
+            while (i <= gt) {
+                int value = arr[i];
+                if (value < pivot) swap(arr, lt++, i++);
+                else if (value > pivot) swap(arr, i, gt--);
+                else i++;
+            }
+
+            // Recurse into the smaller side, loop on the larger one
+            if (lt - lo < hi - gt - 1) {
+                introSort(arr, lo, lt, depthLimit);
+                lo = gt + 1;
+            } else {
+                introSort(arr, gt + 1, hi, depthLimit);
+                hi = lt;
+            }
+        }
+        IntermediateArrayAlgorithms.insertionSort(arr, lo, hi);
+    }
+
+    // Median of 3, or ninther for large ranges; shared with SelectionAlgorithms
+    static int choosePivot(int[] arr, int lo, int hi) {
+        int last = hi - 1;
+        int mid = lo + (last - lo) / 2;
+        if (hi - lo > NINTHER_THRESHOLD) {
+            int eighth = (hi - lo) / 8;
+            int a = medianOf3(arr[lo], arr[lo + eighth], arr[lo + 2 * eighth]);
+            int b = medianOf3(arr[mid - eighth], arr[mid], arr[mid + eighth]);
+            int c = medianOf3(arr[last - 2 * eighth], arr[last - eighth], arr[last]);
+            return medianOf3(a, b, c);
+        }
+        return medianOf3(arr[lo], arr[mid], arr[last]);
+    }
+
+    private static int medianOf3(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Sorts the range [from, to) of the array using heapsort.
+     *
+     * Algorithm: Build a max-heap, then repeatedly move the max to the end.
+     * Time Complexity: O(n log n) always.
+     * Space Complexity: O(1)
+     *
+     * @param arr  the array to sort
+     * @param from first index (inclusive)
+     * @param to   last index (exclusive)
+     */
+    public static void heapSort(int[] arr, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, from, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, from, from + end);
+            siftDown(arr, from, 0, end);
+        }
+    }
+
+    // Heap indices are relative to base
+    private static void siftDown(int[] arr, int base, int i, int n) {
+        int value = arr[base + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) break;
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) child++;
+            if (arr[base + child] <= value) break;
+            arr[base + i] = arr[base + child];
+            i = child;
+        }
+        arr[base + i] = value;
+    }
+
+    /**
+     * Sorts the array in ascending order using LSD (least significant digit) radix sort.
+     *
+     * Algorithm: 4 stable counting-sort passes, one per byte, from the lowest byte up.
+     * The sign bit is flipped on the last pass so negatives come before positives.
+     * A pass is skipped when every element has the same byte in that position.
+     * Time Complexity: O(n) (4 passes, no comparisons)
+     * Space Complexity: O(n) (one buffer of the same size)
+     *
+     * @param arr the array to sort
+     */
+    public static void radixSort(int[] arr) {
+        radixSort(arr, new int[arr.length]);
+    }
+
+    /**
+     * LSD radix sort with a caller-supplied buffer, so repeated sorts do not allocate.
+     *
+     * @param arr    the array to sort
+     * @param buffer scratch space, at least arr.length long
+     */
+    public static void radixSort(int[] arr, int[] buffer) {
+        int n = arr.length;
+        if (buffer.length < n) {
+            throw new IllegalArgumentException("buffer is smaller than the array: " + buffer.length + " < " + n);
+        }
+        if (n < 2) return;
+
+        // One pass to build all four histograms
+        int[][] counts = new int[4][256];
+        for (int value : arr) {
+            int key = value ^ Integer.MIN_VALUE; // flip sign → unsigned order matches signed order
+            counts[0][key & 0xFF]++;
+            counts[1][(key >>> 8) & 0xFF]++;
+            counts[2][(key >>> 16) & 0xFF]++;
+            counts[3][key >>> 24]++;
+        }
+
+        int[] src = arr, dst = buffer;
+        for (int pass = 0; pass < 4; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * 8;
+            if (count[((src[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFF] == n) continue; // all the same byte
+
+            // Counts → starting offsets (prefix sum)
+            int offset = 0;
+            for (int b = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int value = src[i];
+                dst[count[((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != arr) System.arraycopy(src, 0, arr, 0, n);
+    }
+
+    /**
+     * Checks whether the array is sorted in ascending order.
+     *
+     * Time Complexity: O(n), stops at the first out-of-order pair.
+     *
+     * @param arr the array to check
+     * @return true if arr[i] <= arr[i + 1] for every i
+     */
+    public static boolean isSorted(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1] > arr[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean isReverseSorted(int[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            if (arr[i - 1] < arr[i]) return false;
+        }
+        return true;
+    }
+
+    // Utility method to swap two elements in an array.
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,230 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Sorted multiset of ints with add, remove and k-th smallest, used for rolling quantiles
+ * (see {@link SlidingWindowAggregator}).
+ *
+ * Data structure: a list of sorted blocks of at most {@value #MAX_BLOCK} values.
+ * Every value in a block is &lt;= every value in the next block.
+ * - add / remove: binary search for the block (by block maximum), binary search inside it,
+ *   then shift the rest of the block with one System.arraycopy
+ * - k-th smallest: Fenwick tree over the block sizes finds the block, then one array read
+ * A full block is split in two; a nearly empty block is merged into a neighbour or dropped.
+ * The Fenwick tree is rebuilt only on those structural changes, which are rare.
+ *
+ * Why blocks and not a balanced tree: the searches walk small contiguous arrays and the
+ * shifts are sequential copies, which is far friendlier to caches and branch prediction
+ * than chasing tree nodes.
+ *
+ * Time complexity: O(log n + block size) per add/remove, O(log n) per k-th smallest.
+ * Not thread-safe.
+ */
+final class SortedIntBlocks {
+
+    /** A block is split when it reaches this size. */
+    static final int MAX_BLOCK = 1024;
+
+    private int[][] blocks = new int[4][];
+    private int[] blockSize = new int[4];
+    private int[] blockMax = new int[4];
+    private int blockCount;
+    private int[] fenwick = new int[5];     // 1-based Fenwick tree over blockSize
+    private int size;
+    private int[] spare;                    // an emptied block kept for the next split
+
+    /**
+     * @return number of values held
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a value (duplicates allowed).
+     *
+     * @param value value to add
+     */
+    void add(int value) {
+        if (blockCount == 0) {
+            insertBlock(0, newBlock());
+        }
+        int b = blockFor(value);
+        if (b == blockCount) b--;           // larger than everything: append to the last block
+        int[] block = blocks[b];
+        int n = blockSize[b];
+        int pos = upperBound(block, n, value);
+        System.arraycopy(block, pos, block, pos + 1, n - pos);
+        block[pos] = value;
+        blockSize[b] = n + 1;
+        if (pos == n) blockMax[b] = value;
+        size++;
+        fenwickAdd(b, 1);
+        if (n + 1 == MAX_BLOCK) split(b);
+    }
+
+    /**
+     * Removes one occurrence of a value.
+     *
+     * @param value value to remove
+     * @return true if it was present
+     */
+    boolean remove(int value) {
+        int b = blockFor(value);
+        if (b == blockCount) return false;
+        int[] block = blocks[b];
+        int n = blockSize[b];
+        int pos = lowerBound(block, n, value);
+        if (pos == n || block[pos] != value) return false; // later blocks only hold values >= blockMax[b] > value
+        System.arraycopy(block, pos + 1, block, pos, n - pos - 1);
+        blockSize[b] = n - 1;
+        size--;
+        if (n == 1) {
+            spare = block;
+            removeBlock(b);
+        } else {
+            blockMax[b] = block[n - 2];
+            fenwickAdd(b, -1);
+            if (n - 1 < MAX_BLOCK / 8) mergeSmall(b);
+        }
+        return true;
+    }
+
+    /**
+     * k-th smallest value.
+     *
+     * @param k rank in [0, size()), 0 = smallest
+     * @return the value
+     */
+    int kth(int k) {
+        // Fenwick descent: largest block prefix whose total size is <= k
+        int b = 0;
+        for (int step = Integer.highestOneBit(blockCount); step > 0; step >>>= 1) {
+            int next = b + step;
+            if (next <= blockCount && fenwick[next] <= k) {
+                b = next;
+                k -= fenwick[next];
+            }
+        }
+        return blocks[b][k];
+    }
+
+    // First block whose maximum is >= value, or blockCount if none
+    private int blockFor(int value) {
+        int lo = 0, hi = blockCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (blockMax[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void split(int b) {
+        int[] block = blocks[b];
+        int half = MAX_BLOCK / 2;
+        int[] upper = newBlock();
+        System.arraycopy(block, half, upper, 0, MAX_BLOCK - half);
+        blockSize[b] = half;
+        blockMax[b] = block[half - 1];
+        insertBlock(b + 1, upper);
+        blockSize[b + 1] = MAX_BLOCK - half;
+        blockMax[b + 1] = upper[MAX_BLOCK - half - 1];
+        rebuildFenwick();
+    }
+
+    // Merges a small block into a neighbour when both fit in half a block,
+    // so removals cannot leave behind many tiny blocks
+    private void mergeSmall(int b) {
+        if (b + 1 < blockCount && blockSize[b] + blockSize[b + 1] <= MAX_BLOCK / 2) {
+            merge(b);
+        } else if (b > 0 && blockSize[b - 1] + blockSize[b] <= MAX_BLOCK / 2) {
+            merge(b - 1);
+        }
+    }
+
+    // Appends block b + 1 to block b
+    private void merge(int b) {
+        System.arraycopy(blocks[b + 1], 0, blocks[b], blockSize[b], blockSize[b + 1]);
+        blockSize[b] += blockSize[b + 1];
+        blockMax[b] = blockMax[b + 1];
+        spare = blocks[b + 1];
+        removeBlock(b + 1);
+    }
+
+    // Inserts an empty block at position b
+    private void insertBlock(int b, int[] block) {
+        if (blockCount == blocks.length) {
+            int capacity = blocks.length * 2;
+            blocks = Arrays.copyOf(blocks, capacity);
+            blockSize = Arrays.copyOf(blockSize, capacity);
+            blockMax = Arrays.copyOf(blockMax, capacity);
+            fenwick = new int[capacity + 1];
+        }
+        System.arraycopy(blocks, b, blocks, b + 1, blockCount - b);
+        System.arraycopy(blockSize, b, blockSize, b + 1, blockCount - b);
+        System.arraycopy(blockMax, b, blockMax, b + 1, blockCount - b);
+        blocks[b] = block;
+        blockSize[b] = 0;
+        blockMax[b] = Integer.MIN_VALUE;
+        blockCount++;
+        rebuildFenwick();
+    }
+
+    private void removeBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(blockSize, b + 1, blockSize, b, blockCount - b - 1);
+        System.arraycopy(blockMax, b + 1, blockMax, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+        rebuildFenwick();
+    }
+
+    private int[] newBlock() {
+        int[] block = spare != null ? spare : new int[MAX_BLOCK];
+        spare = null;
+        return block;
+    }
+
+    // O(blockCount) build, same idea as FenwickTree(int[])
+    private void rebuildFenwick() {
+        Arrays.fill(fenwick, 0);
+        for (int i = 1; i <= blockCount; i++) {
+            fenwick[i] += blockSize[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= blockCount) fenwick[parent] += fenwick[i];
+        }
+    }
+
+    private void fenwickAdd(int b, int delta) {
+        for (int i = b + 1; i <= blockCount; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    // First index in block[0, n) whose value is >= value.
+    // Branch-free halving (the comparison becomes a conditional move), as in SortedIntIndex
+    private static int lowerBound(int[] block, int n, int value) {
+        if (n == 0) return 0;
+        int base = 0;
+        for (int len = n; len > 1; ) {
+            int half = len >>> 1;
+            base = block[base + half - 1] < value ? base + half : base;
+            len -= half;
+        }
+        return block[base] < value ? base + 1 : base;
+    }
+
+    // First index in block[0, n) whose value is > value
+    private static int upperBound(int[] block, int n, int value) {
+        if (n == 0) return 0;
+        int base = 0;
+        for (int len = n; len > 1; ) {
+            int half = len >>> 1;
+            base = block[base + half - 1] <= value ? base + half : base;
+            len -= half;
+        }
+        return block[base] <= value ? base + 1 : base;
+    }
+}
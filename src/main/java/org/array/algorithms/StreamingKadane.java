@@ -0,0 +1,94 @@
+package org.array.algorithms;
+
+/**
+ * Streaming version of {@link AdvanceAlgorithms#kadaneMaxSubArraySum}, with start/end positions.
+ *
+ * Values arrive one at a time (or one chunk at a time); the best subarray of everything
+ * seen so far is available at any point.
+ *
+ * Algorithm: Kadane's algorithm — it already only looks at one value at a time,
+ * so streaming it needs no buffer at all.
+ * Time Complexity: O(1) per value.
+ * Space Complexity: O(1)
+ *
+ * Sums are kept in a long, positions count from 0 at the first pushed value.
+ * Not thread-safe.
+ */
+public final class StreamingKadane {
+
+    private long count;
+    private long currentSum;
+    private long currentStart;
+    private long maxSum = Long.MIN_VALUE;
+    private long maxStart = -1;
+    private long maxEnd = -1;
+
+    /**
+     * Adds the next value of the stream.
+     *
+     * @param value next value
+     */
+    public void push(int value) {
+        // Decide whether to start new subarray or continue previous
+        if (count == 0 || currentSum < 0) {
+            currentSum = value;
+            currentStart = count;
+        } else {
+            currentSum += value;
+        }
+        if (currentSum > maxSum) {
+            maxSum = currentSum;
+            maxStart = currentStart;
+            maxEnd = count;
+        }
+        count++;
+    }
+
+    /**
+     * Adds the next chunk of the stream.
+     *
+     * @param chunk  array holding the values
+     * @param offset first value to add
+     * @param length number of values to add
+     */
+    public void push(int[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            push(chunk[i]);
+        }
+    }
+
+    /**
+     * @return true once at least one value has been seen
+     */
+    public boolean hasResult() {
+        return count > 0;
+    }
+
+    /**
+     * @return maximum subarray sum so far (Long.MIN_VALUE before the first value)
+     */
+    public long maxSum() {
+        return maxSum;
+    }
+
+    /**
+     * @return stream position of the first value of the best subarray (-1 before the first value)
+     */
+    public long maxStart() {
+        return maxStart;
+    }
+
+    /**
+     * @return stream position of the last value of the best subarray (-1 before the first value)
+     */
+    public long maxEnd() {
+        return maxEnd;
+    }
+
+    /**
+     * @return number of values seen so far
+     */
+    public long count() {
+        return count;
+    }
+}
@@ -0,0 +1,178 @@
+package org.array.algorithms;
+
+/**
+ * Streaming version of {@link CompetitiveAlgorithms#subarraySum}.
+ *
+ * Values arrive one at a time (or one chunk at a time). After every value the detector
+ * knows whether a contiguous run ending at that value sums to the target.
+ *
+ * Pattern: Sliding window with dynamic size (two pointers), as in the array version.
+ * The window is always the longest run ending at the newest value whose sum is at most the target.
+ * It is kept run-length encoded, as (value, repeat count) pairs, never the whole stream:
+ * a run of zeros, or of any repeated value, is one pair however long it is. Shrinking removes
+ * whole pairs, or the needed part of one pair in a single step (no per-value loop).
+ *
+ * Time Complexity: O(1) amortized per value.
+ * Space Complexity: O(number of value changes in the window). Every value in the window except zeros is
+ * at least 1 and the window sums to at most the target, so this is also at most O(target); it stays
+ * small for small targets and for streams of repeated values, and only a large target over
+ * ever-changing values needs a large window.
+ *
+ * Works for non-negative values, like the array version.
+ * Not thread-safe.
+ */
+public final class StreamingSubarraySum {
+
+    private final long target;
+    private int[] runValues = new int[16];      // ring buffer of runs, capacity is a power of two
+    private long[] runLengths = new long[16];
+    private int head;                           // index of the oldest run
+    private int runs;
+    private long windowStart;                   // stream position of the oldest value in the window
+    private long count;
+    private long sum;
+
+    private long matches;
+    private long firstStart = -1, firstEnd = -1;
+    private long lastStart = -1, lastEnd = -1;
+
+    /**
+     * @param target target sum to find in subarray
+     */
+    public StreamingSubarraySum(long target) {
+        this.target = target;
+    }
+
+    /**
+     * Adds the next value of the stream.
+     *
+     * @param value next value (must be non-negative)
+     * @return true if a subarray ending at this value sums to the target
+     */
+    public boolean push(int value) {
+        if (value < 0) throw new IllegalArgumentException("StreamingSubarraySum works for non-negative values only: " + value);
+        long end = count++;
+        if (target < 0) {   // No window can match; keep it empty
+            windowStart = count;
+            return false;
+        }
+        int mask = runValues.length - 1;
+        int last = (head + runs - 1) & mask;
+        if (runs > 0 && runValues[last] == value) {
+            runLengths[last]++;
+        } else {
+            if (runs == runValues.length) grow();
+            int tail = (head + runs) & (runValues.length - 1);
+            runValues[tail] = value;
+            runLengths[tail] = 1;
+            runs++;
+        }
+        sum += value;
+
+        // Shrink window from left while sum > target, a run (or the needed part of it) at a time
+        while (sum > target) {
+            int v = runValues[head];
+            long length = runLengths[head];
+            // Zeros do not lower the sum, so a zero run always goes entirely
+            long needed = v == 0 ? length : (sum - target + v - 1) / v;
+            if (needed >= length) {
+                sum -= v * length;
+                windowStart += length;
+                head = (head + 1) & (runValues.length - 1);
+                runs--;
+            } else {
+                sum -= v * needed;
+                windowStart += needed;
+                runLengths[head] = length - needed;
+            }
+        }
+        if (sum != target || windowStart > end) return false;   // no match, or empty window
+
+        matches++;
+        lastStart = windowStart;
+        lastEnd = end;
+        if (firstStart < 0) {
+            firstStart = lastStart;
+            firstEnd = lastEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the next chunk of the stream.
+     *
+     * @param chunk  array holding the values
+     * @param offset first value to add
+     * @param length number of values to add
+     * @return true if at least one subarray ending inside this chunk sums to the target
+     */
+    public boolean push(int[] chunk, int offset, int length) {
+        boolean found = false;
+        for (int i = offset; i < offset + length; i++) {
+            found |= push(chunk[i]);
+        }
+        return found;
+    }
+
+    /**
+     * @return true once a subarray summing to the target has been seen
+     */
+    public boolean found() {
+        return matches > 0;
+    }
+
+    /**
+     * @return number of stream positions where a matching subarray ended
+     */
+    public long matches() {
+        return matches;
+    }
+
+    /**
+     * @return start position of the first match (what the array version prints), -1 if none
+     */
+    public long firstStart() {
+        return firstStart;
+    }
+
+    /**
+     * @return end position of the first match, -1 if none
+     */
+    public long firstEnd() {
+        return firstEnd;
+    }
+
+    /**
+     * @return start position of the latest match, -1 if none
+     */
+    public long lastStart() {
+        return lastStart;
+    }
+
+    /**
+     * @return end position of the latest match, -1 if none
+     */
+    public long lastEnd() {
+        return lastEnd;
+    }
+
+    /**
+     * @return number of values seen so far
+     */
+    public long count() {
+        return count;
+    }
+
+    private void grow() {
+        int capacity = runValues.length;
+        int[] values = new int[capacity << 1];
+        long[] lengths = new long[capacity << 1];
+        for (int i = 0; i < runs; i++) {
+            values[i] = runValues[(head + i) & (capacity - 1)];
+            lengths[i] = runLengths[(head + i) & (capacity - 1)];
+        }
+        runValues = values;
+        runLengths = lengths;
+        head = 0;
+    }
+}
@@ -0,0 +1,97 @@
+package org.array.algorithms;
+
+/**
+ * Streaming version of {@link AdvanceAlgorithms#maxSumSlidingWindow}.
+ *
+ * Values arrive one at a time (or one chunk at a time) from an unbounded feed;
+ * the answer for everything seen so far is available at any point.
+ *
+ * Pattern: Sliding Window over a ring buffer of the last k values.
+ * Time Complexity: O(1) per value.
+ * Space Complexity: O(k) → only the current window is kept, never the whole stream.
+ *
+ * Sums are kept in a long, so long streams of large values do not overflow.
+ * Not thread-safe.
+ */
+public final class StreamingWindowMaxSum {
+
+    private final int[] window;     // ring buffer of the last k values
+    private int head;               // next slot to overwrite
+    private long count;             // values seen so far
+    private long windowSum;
+    private long maxSum = Long.MIN_VALUE;
+    private long maxEnd = -1;       // stream position of the last value of the best window
+
+    /**
+     * @param k size of the window (at least 1)
+     */
+    public StreamingWindowMaxSum(int k) {
+        if (k < 1) throw new IllegalArgumentException("k must be positive: " + k);
+        window = new int[k];
+    }
+
+    /**
+     * Adds the next value of the stream.
+     *
+     * @param value next value
+     */
+    public void push(int value) {
+        int k = window.length;
+        windowSum += value - (count >= k ? window[head] : 0); // Remove left element, add right element
+        window[head] = value;
+        head = head + 1 == k ? 0 : head + 1;
+        count++;
+        if (count >= k && windowSum > maxSum) {
+            maxSum = windowSum;
+            maxEnd = count - 1;
+        }
+    }
+
+    /**
+     * Adds the next chunk of the stream.
+     *
+     * @param chunk  array holding the values
+     * @param offset first value to add
+     * @param length number of values to add
+     */
+    public void push(int[] chunk, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            push(chunk[i]);
+        }
+    }
+
+    /**
+     * @return true once at least k values have been seen
+     */
+    public boolean hasResult() {
+        return count >= window.length;
+    }
+
+    /**
+     * @return maximum sum of k consecutive values seen so far (Long.MIN_VALUE before the first full window)
+     */
+    public long maxSum() {
+        return maxSum;
+    }
+
+    /**
+     * @return stream position of the first value of the best window, or -1 before the first full window
+     */
+    public long maxStart() {
+        return maxEnd < 0 ? -1 : maxEnd - window.length + 1;
+    }
+
+    /**
+     * @return sum of the last k values (of all values while fewer than k were seen)
+     */
+    public long windowSum() {
+        return windowSum;
+    }
+
+    /**
+     * @return number of values seen so far
+     */
+    public long count() {
+        return count;
+    }
+}
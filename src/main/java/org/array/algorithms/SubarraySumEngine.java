@@ -0,0 +1,236 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Subarray-sum queries that work for any int values, negatives included.
+ * Generalizes {@link CompetitiveAlgorithms#subarraySum}, whose sliding window is only correct
+ * for non-negative values (with negatives, growing the window can lower the sum, so shrinking
+ * it from the left can skip the answer).
+ *
+ * Pattern: Prefix sums + hash map. With P(i) = arr[0] + ... + arr[i - 1] (P(0) = 0),
+ * arr[s..e] sums to the target exactly when P(s) = P(e + 1) - target. One pass over the array
+ * keeps the running prefix sum and a {@link LongIntHashMap} of the prefix sums seen so far;
+ * every end index then needs one lookup. Which value the map stores decides the query:
+ * - first start of each prefix sum → first match, longest match
+ * - last start of each prefix sum  → shortest match
+ * - number of starts               → count of all matches
+ *
+ * Prefix sums are longs, so they never overflow (an int array has fewer than 2^31 values).
+ * Positions are reported to an {@link IntPairSink} as (start, end), both inclusive.
+ * Allocation-free after warm-up: the map and the chain array are kept and reused between calls
+ * (grown only when a larger input arrives). The map is shrunk again when an input needs less than
+ * a quarter of it, so clearing it stays O(n) after one huge input.
+ * Not thread-safe: use one engine per thread.
+ */
+public final class SubarraySumEngine {
+
+    private final LongIntHashMap prefixes = new LongIntHashMap(16);
+    private int[] previous = new int[16];   // previous[s] = earlier start with the same prefix sum, -1 if none
+
+    /**
+     * First subarray summing to the target: the one that ends first, and among those the longest.
+     * For non-negative values and a positive target this is the subarray
+     * {@link CompetitiveAlgorithms#subarraySum} reports.
+     *
+     * Time complexity: O(n) expected.
+     *
+     * @param arr    input array (any values)
+     * @param target target sum
+     * @param sink   receives (start, end) of the match
+     * @return true if a match was found
+     */
+    public boolean findFirst(int[] arr, long target, IntPairSink sink) {
+        LongIntHashMap firstStart = reset(arr.length);
+        long prefix = 0;
+        firstStart.put(0, 0);
+        for (int end = 0; end < arr.length; end++) {
+            prefix += arr[end];
+            int start = firstStart.get(prefix - target, -1);
+            if (start >= 0) {
+                sink.accept(start, end);
+                return true;
+            }
+            firstStart.putIfAbsent(prefix, end + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Number of subarrays summing to the target.
+     *
+     * Time complexity: O(n) expected.
+     *
+     * @param arr    input array (any values)
+     * @param target target sum
+     * @return number of (start, end) pairs, up to n (n + 1) / 2
+     */
+    public long count(int[] arr, long target) {
+        LongIntHashMap starts = reset(arr.length);
+        long prefix = 0, count = 0;
+        starts.put(0, 1);
+        for (int value : arr) {
+            prefix += value;
+            count += starts.get(prefix - target, 0);
+            starts.addTo(prefix, 1);
+        }
+        return count;
+    }
+
+    /**
+     * Reports every subarray summing to the target: by end ascending, and for each end
+     * by start descending (shortest first).
+     *
+     * Data structure: the map holds the last start of each prefix sum, and previous[] chains
+     * every start to the earlier start with the same prefix sum, so the matches of an end are
+     * listed without scanning.
+     * Time complexity: O(n + matches) expected.
+     *
+     * @param arr    input array (any values)
+     * @param target target sum
+     * @param sink   receives (start, end) of every match
+     * @return number of matches
+     */
+    public long forEachMatch(int[] arr, long target, IntPairSink sink) {
+        LongIntHashMap lastStart = reset(arr.length);
+        if (previous.length <= arr.length) previous = new int[arr.length + 1];
+        int[] chain = previous;
+        long prefix = 0, count = 0;
+        chain[0] = -1;
+        lastStart.put(0, 0);
+        for (int end = 0; end < arr.length; end++) {
+            prefix += arr[end];
+            for (int start = lastStart.get(prefix - target, -1); start >= 0; start = chain[start]) {
+                sink.accept(start, end);
+                count++;
+            }
+            chain[end + 1] = lastStart.get(prefix, -1);
+            lastStart.put(prefix, end + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Longest subarray summing to the target (the first one found on ties).
+     *
+     * Time complexity: O(n) expected.
+     *
+     * @param arr    input array (any values)
+     * @param target target sum
+     * @param sink   receives (start, end) of the longest match
+     * @return true if a match was found
+     */
+    public boolean longest(int[] arr, long target, IntPairSink sink) {
+        LongIntHashMap firstStart = reset(arr.length);
+        long prefix = 0;
+        int bestStart = -1, bestEnd = -1;
+        firstStart.put(0, 0);
+        for (int end = 0; end < arr.length; end++) {
+            prefix += arr[end];
+            int start = firstStart.get(prefix - target, -1);
+            if (start >= 0 && (bestStart < 0 || end - start > bestEnd - bestStart)) {
+                bestStart = start;
+                bestEnd = end;
+            }
+            firstStart.putIfAbsent(prefix, end + 1);
+        }
+        if (bestStart < 0) return false;
+        sink.accept(bestStart, bestEnd);
+        return true;
+    }
+
+    /**
+     * Shortest subarray summing to the target (the first one found on ties).
+     *
+     * Time complexity: O(n) expected.
+     *
+     * @param arr    input array (any values)
+     * @param target target sum
+     * @param sink   receives (start, end) of the shortest match
+     * @return true if a match was found
+     */
+    public boolean shortest(int[] arr, long target, IntPairSink sink) {
+        LongIntHashMap lastStart = reset(arr.length);
+        long prefix = 0;
+        int bestStart = -1, bestEnd = -1;
+        lastStart.put(0, 0);
+        for (int end = 0; end < arr.length; end++) {
+            prefix += arr[end];
+            int start = lastStart.get(prefix - target, -1);
+            if (start >= 0 && (bestStart < 0 || end - start < bestEnd - bestStart)) {
+                bestStart = start;
+                bestEnd = end;
+            }
+            lastStart.put(prefix, end + 1);
+        }
+        if (bestStart < 0) return false;
+        sink.accept(bestStart, bestEnd);
+        return true;
+    }
+
+    /**
+     * Batch mode: counts the matches of many targets in one pass over the array
+     * (one map, one lookup per target and end).
+     *
+     * Time complexity: O(n · m) expected for m targets, with a single pass over the data.
+     *
+     * @param arr     input array (any values)
+     * @param targets target sums
+     * @param counts  receives counts[t] = number of subarrays summing to targets[t]
+     */
+    public void count(int[] arr, long[] targets, long[] counts) {
+        checkBatch(targets.length, counts.length);
+        LongIntHashMap starts = reset(arr.length);
+        Arrays.fill(counts, 0, targets.length, 0);
+        long prefix = 0;
+        starts.put(0, 1);
+        for (int value : arr) {
+            prefix += value;
+            for (int t = 0; t < targets.length; t++) {
+                counts[t] += starts.get(prefix - targets[t], 0);
+            }
+            starts.addTo(prefix, 1);
+        }
+    }
+
+    /**
+     * Batch mode: the longest match of many targets in one pass over the array.
+     *
+     * @param arr     input array (any values)
+     * @param targets target sums
+     * @param starts  receives the start of the longest match of targets[t], -1 if none
+     * @param ends    receives the end of the longest match of targets[t], -1 if none
+     */
+    public void longest(int[] arr, long[] targets, int[] starts, int[] ends) {
+        checkBatch(targets.length, starts.length);
+        checkBatch(targets.length, ends.length);
+        LongIntHashMap firstStart = reset(arr.length);
+        Arrays.fill(starts, 0, targets.length, -1);
+        Arrays.fill(ends, 0, targets.length, -1);
+        long prefix = 0;
+        firstStart.put(0, 0);
+        for (int end = 0; end < arr.length; end++) {
+            prefix += arr[end];
+            for (int t = 0; t < targets.length; t++) {
+                int start = firstStart.get(prefix - targets[t], -1);
+                if (start >= 0 && (starts[t] < 0 || end - start > ends[t] - starts[t])) {
+                    starts[t] = start;
+                    ends[t] = end;
+                }
+            }
+            firstStart.putIfAbsent(prefix, end + 1);
+        }
+    }
+
+    // Empties the map; a table left large by an earlier, much longer input is shrunk to fit this one
+    private LongIntHashMap reset(int length) {
+        prefixes.clear(length + 1);     // at most length + 1 distinct prefix sums
+        return prefixes;
+    }
+
+    private static void checkBatch(int targets, int outputs) {
+        if (outputs < targets) {
+            throw new IllegalArgumentException("Output array holds " + outputs + " results for " + targets + " targets");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.array.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Hash index for two-sum queries, built once and queried many times.
+ *
+ * Data structure:
+ * - primitive open-addressing map: value → id (no Integer boxing)
+ * - count[id]: how often each distinct value occurs
+ * - positions grouped by value (start[id] .. start[id + 1]) so every index of a value
+ *   can be listed without scanning the array
+ *
+ * Pattern: Complement lookup. For each distinct value v, the partner must be target - v.
+ * Sums are exact (computed in long), unlike {@link AdvanceAlgorithms#twoSumBruteForce},
+ * where int overflow can make two large values "sum" to a negative target.
+ *
+ * Build: O(n). Query: O(d + pairs) with d = number of distinct values.
+ */
+public final class TwoSumIndex {
+
+    private final int length;
+    private final int[] values;     // values[id] = the distinct value with this id
+    private final int[] start;      // positions of value id are positions[start[id] .. start[id + 1])
+    private final int[] positions;
+
+    private final int[] slotKeys;
+    private final int[] slotIds;    // id + 1, 0 = free slot
+    private final int mask;
+
+    /**
+     * Builds the index for an array. The array is not copied or modified,
+     * and later changes to it are not seen by the index.
+     *
+     * Time complexity: O(n) expected.
+     * Space complexity: O(n)
+     *
+     * @param arr input array
+     */
+    public TwoSumIndex(int[] arr) {
+        length = arr.length;
+        int capacity = IntHashSet.tableSizeFor(arr.length);
+        slotKeys = new int[capacity];
+        slotIds = new int[capacity];
+        mask = capacity - 1;
+
+        // Pass 1: give every distinct value an id and count it
+        int[] ids = new int[arr.length];
+        int[] distinct = new int[arr.length];
+        int[] count = new int[arr.length + 1];
+        int d = 0;
+        for (int i = 0; i < arr.length; i++) {
+            int value = arr[i];
+            int slot = IntHashSet.mix(value) & mask;
+            while (slotIds[slot] != 0 && slotKeys[slot] != value) slot = (slot + 1) & mask;
+            if (slotIds[slot] == 0) {
+                slotKeys[slot] = value;
+                slotIds[slot] = d + 1;
+                distinct[d++] = value;
+            }
+            int id = slotIds[slot] - 1;
+            ids[i] = id;
+            count[id + 1]++;
+        }
+
+        // Counts → start offsets (prefix sum)
+        for (int id = 0; id < d; id++) {
+            count[id + 1] += count[id];
+        }
+        start = Arrays.copyOf(count, d + 1);
+        values = Arrays.copyOf(distinct, d);
+
+        // Pass 2: place every index in its value's group (ascending, since i increases)
+        positions = new int[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            positions[count[ids[i]]++] = i;
+        }
+    }
+
+    /**
+     * Builds a one-shot index and streams every pair (i, j), i &lt; j, with arr[i] + arr[j] == target.
+     *
+     * Same pairs as {@link AdvanceAlgorithms#twoSumBruteForce}, reported as indices instead of printed values,
+     * as long as no pair overflows: sums here are exact, while the brute force compares the wrapped int sum,
+     * so it also reports pairs such as (Integer.MAX_VALUE, 1) for target Integer.MIN_VALUE.
+     * Time complexity: O(n + pairs) instead of O(n^2).
+     *
+     * @param arr    input array
+     * @param target target sum for pairs
+     * @param sink   receives (i, j) for every matching pair
+     */
+    public static void findPairs(int[] arr, int target, IntPairSink sink) {
+        new TwoSumIndex(arr).forEachPair(target, sink);
+    }
+
+    /**
+     * @return number of elements in the indexed array
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return number of distinct values in the indexed array
+     */
+    public int distinctValues() {
+        return values.length;
+    }
+
+    /**
+     * How often a value occurs in the indexed array.
+     *
+     * @param value value to look up
+     * @return number of occurrences (0 if absent)
+     */
+    public int count(int value) {
+        int id = idOf(value);
+        return id < 0 ? 0 : start[id + 1] - start[id];
+    }
+
+    /**
+     * Streams every index pair (i, j), i &lt; j, with arr[i] + arr[j] == target.
+     *
+     * Pairs are grouped by value, not ordered by index.
+     * Time complexity: O(d + pairs).
+     *
+     * @param target target sum for pairs
+     * @param sink   receives (i, j) for every matching pair
+     */
+    public void forEachPair(int target, IntPairSink sink) {
+        for (int a = 0; a < values.length; a++) {
+            long complement = (long) target - values[a];
+            if (complement < values[a]) continue; // each pair of values is handled once, from its smaller side
+            if (complement > Integer.MAX_VALUE) continue;
+            int b = complement == values[a] ? a : idOf((int) complement);
+            if (b < 0) continue;
+
+            if (a == b) {
+                // Same value twice: every pair of its positions
+                for (int p = start[a]; p < start[a + 1]; p++) {
+                    for (int q = p + 1; q < start[a + 1]; q++) {
+                        sink.accept(positions[p], positions[q]);
+                    }
+                }
+            } else {
+                for (int p = start[a]; p < start[a + 1]; p++) {
+                    for (int q = start[b]; q < start[b + 1]; q++) {
+                        int i = positions[p], j = positions[q];
+                        if (i < j) sink.accept(i, j);
+                        else sink.accept(j, i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts index pairs (i, j), i &lt; j, with arr[i] + arr[j] == target, without listing them.
+     *
+     * Pattern: count[v] · count[target - v], or C(count, 2) when v is its own complement.
+     * Time complexity: O(d)
+     *
+     * @param target target sum for pairs
+     * @return number of matching pairs
+     */
+    public long countPairs(int target) {
+        long pairs = 0;
+        for (int a = 0; a < values.length; a++) {
+            long complement = (long) target - values[a];
+            if (complement < values[a] || complement > Integer.MAX_VALUE) continue;
+            long countA = start[a + 1] - start[a];
+            if (complement == values[a]) {
+                pairs += countA * (countA - 1) / 2;
+            } else {
+                pairs += countA * count((int) complement);
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Checks whether any pair sums to the target; stops at the first match.
+     *
+     * @param target target sum for pairs
+     * @return true if some i &lt; j has arr[i] + arr[j] == target
+     */
+    public boolean containsPair(int target) {
+        for (int a = 0; a < values.length; a++) {
+            long complement = (long) target - values[a];
+            if (complement < values[a] || complement > Integer.MAX_VALUE) continue;
+            if (complement == values[a]) {
+                if (start[a + 1] - start[a] > 1) return true;
+            } else if (idOf((int) complement) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Batched mode: counts the pairs for many targets against this one index.
+     *
+     * @param targets target sums
+     * @param counts  destination, counts[t] = number of pairs summing to targets[t]
+     */
+    public void countPairs(int[] targets, long[] counts) {
+        if (counts.length < targets.length) {
+            throw new IllegalArgumentException("counts is smaller than targets: " + counts.length + " < " + targets.length);
+        }
+        for (int t = 0; t < targets.length; t++) {
+            counts[t] = countPairs(targets[t]);
+        }
+    }
+
+    /**
+     * Batched mode: checks many targets against this one index.
+     *
+     * @param targets target sums
+     * @param found   destination, found[t] = whether some pair sums to targets[t]
+     */
+    public void containsPair(int[] targets, boolean[] found) {
+        if (found.length < targets.length) {
+            throw new IllegalArgumentException("found is smaller than targets: " + found.length + " < " + targets.length);
+        }
+        for (int t = 0; t < targets.length; t++) {
+            found[t] = containsPair(targets[t]);
+        }
+    }
+
+    // Id of a value, or -1 if it does not occur
+    private int idOf(int value) {
+        int slot = IntHashSet.mix(value) & mask;
+        while (slotIds[slot] != 0) {
+            if (slotKeys[slot] == value) return slotIds[slot] - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,103 @@
+package org.array.algorithms;
+
+/**
+ * Opt-in SIMD backend for the hot scans, built on the Vector API (jdk.incubator.vector).
+ *
+ * Each method gives the same result as the scalar version named in its doc comment.
+ * The vector kernels are used only when both are true:
+ * - they were compiled in: mvn -Pvector package
+ * - the JVM was started with: --add-modules jdk.incubator.vector
+ * Otherwise every method falls back to the scalar version, so callers never need to check.
+ *
+ * Pattern: Process one vector of lanes (8 ints with AVX2, 16 with AVX-512) per loop step,
+ * and handle the remaining tail elements with scalar code.
+ */
+public class VectorAlgorithms {
+
+    /** Implementation class, compiled from src/vector/java by the vector profile. */
+    private static final String VECTOR_KERNELS = "org.array.algorithms.VectorIntKernels";
+
+    private static final IntKernels KERNELS = loadKernels();
+
+    /**
+     * @return true if the SIMD kernels are active, false if the scalar fallback is used
+     */
+    public static boolean isVectorized() {
+        return KERNELS != null;
+    }
+
+    /**
+     * Sum of all elements, wrapping on int overflow. See {@link BasicArrayAlgorithms#sumArray}.
+     *
+     * Vector version: lane-wise adds into one accumulator vector, one horizontal add at the end.
+     *
+     * @param arr input array
+     * @return the sum
+     */
+    public static int sumArray(int[] arr) {
+        return KERNELS != null ? KERNELS.sumArray(arr) : BasicArrayAlgorithms.sumArray(arr);
+    }
+
+    /**
+     * Minimum and maximum. See {@link BasicArrayAlgorithms#findMinMax(int[], IntPairSink)}.
+     *
+     * Vector version: lane-wise min and max vectors, reduced once at the end.
+     *
+     * @param arr  input array (must not be empty)
+     * @param sink receives (min, max)
+     */
+    public static void findMinMax(int[] arr, IntPairSink sink) {
+        if (KERNELS != null) KERNELS.findMinMax(arr, sink);
+        else BasicArrayAlgorithms.findMinMax(arr, sink);
+    }
+
+    /**
+     * Index of the first occurrence of target. See {@link IntermediateArrayAlgorithms#linearSearch}.
+     *
+     * Vector version: compare a whole vector against the target; only when the mask has
+     * a match is the first matching lane located. The early exit costs one test per vector.
+     *
+     * @param arr    input array
+     * @param target value to find
+     * @return index of the first match, else -1
+     */
+    public static int linearSearch(int[] arr, int target) {
+        return KERNELS != null ? KERNELS.linearSearch(arr, target) : IntermediateArrayAlgorithms.linearSearch(arr, target);
+    }
+
+    /**
+     * Moves negatives before non-negatives, keeping the order in both groups.
+     * See {@link AdvanceAlgorithms#rearrangePosNeg}.
+     *
+     * Vector version: vectors that are all negative or all non-negative are stored as a whole;
+     * mixed vectors are compressed lane by lane using the bits of the comparison mask.
+     *
+     * @param arr input array to rearrange
+     */
+    public static void rearrangePosNeg(int[] arr) {
+        if (KERNELS != null) KERNELS.rearrangePosNeg(arr);
+        else AdvanceAlgorithms.rearrangePosNeg(arr);
+    }
+
+    /**
+     * Sorts an array of 0s, 1s and 2s. See {@link CompetitiveAlgorithms#sort012}.
+     *
+     * Vector version: count the 0s and 1s with mask popcounts, then refill the array.
+     *
+     * @param arr array containing only 0, 1 and 2
+     */
+    public static void sort012(int[] arr) {
+        if (KERNELS != null) KERNELS.sort012(arr);
+        else CompetitiveAlgorithms.sort012(arr);
+    }
+
+    // The vector kernels, or null when they are not compiled in or the module is not available
+    private static IntKernels loadKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+        try {
+            return (IntKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the primitive specializations (Long/Double/Short/ByteArrayAlgorithms)
+ * from X-ArrayAlgorithms.java.template.
+ *
+ * Run from the project root after editing the template:
+ *     java src/template/GenerateArrayAlgorithms.java
+ *
+ * Template syntax (a small subset of the JDK's Spp preprocessor):
+ * - $type$, $Type$, $sum$, $MIN$, $MAX$ are replaced by the values for each type;
+ *   $toDouble$ is the cast of a $sum$ to double (empty for double, where it would be redundant)
+ * - #if[key] / #else[key] / #end[key] lines keep or drop a block; they can be nested.
+ *   Keys are the type name (long, double, short, byte) and "integral".
+ */
+public class GenerateArrayAlgorithms {
+
+    private static final Path TEMPLATE = Path.of("src/template/java/org/array/algorithms/X-ArrayAlgorithms.java.template");
+    private static final Path OUTPUT_DIR = Path.of("src/main/java/org/array/algorithms");
+    private static final Pattern DIRECTIVE = Pattern.compile("^\\s*#(if|else|end)\\[(\\w+)]\\s*$");
+
+    public static void main(String[] args) throws IOException {
+        List<String> template = Files.readAllLines(TEMPLATE);
+        generate(template, "long", "Long", "long", "Long.MIN_VALUE", "Long.MAX_VALUE", "(double) ");
+        generate(template, "double", "Double", "double", "Double.NEGATIVE_INFINITY", "Double.POSITIVE_INFINITY", "");
+        generate(template, "short", "Short", "long", "Short.MIN_VALUE", "Short.MAX_VALUE", "(double) ");
+        generate(template, "byte", "Byte", "long", "Byte.MIN_VALUE", "Byte.MAX_VALUE", "(double) ");
+    }
+
+    private static void generate(List<String> template, String type, String typeName, String sum,
+                                 String min, String max, String toDouble) throws IOException {
+        Set<String> keys = type.equals("double") ? Set.of(type) : Set.of(type, "integral");
+        Map<String, String> values = Map.of("$type$", type, "$Type$", typeName, "$sum$", sum, "$MIN$", min, "$MAX$", max,
+                "$toDouble$", toDouble);
+
+        List<String> out = new ArrayList<>();
+        Deque<Boolean> active = new ArrayDeque<>(); // one entry per open #if: is its current branch kept?
+        for (String line : template) {
+            Matcher directive = DIRECTIVE.matcher(line);
+            if (directive.matches()) {
+                boolean condition = keys.contains(directive.group(2));
+                switch (directive.group(1)) {
+                    case "if" -> active.push(condition);
+                    case "else" -> active.push(!active.pop());
+                    default -> active.pop();
+                }
+                continue;
+            }
+            if (active.contains(false)) continue;
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                line = line.replace(value.getKey(), value.getValue());
+            }
+            out.add(line);
+        }
+        if (!active.isEmpty()) throw new IllegalStateException("Unclosed #if in " + TEMPLATE);
+
+        Path file = OUTPUT_DIR.resolve(typeName + "ArrayAlgorithms.java");
+        Files.write(file, out);
+        System.out.println("Generated " + file);
+    }
+}
@@ -0,0 +1,132 @@
+package org.array.algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Vector API implementation of {@link IntKernels}, loaded by {@link VectorAlgorithms}.
+ *
+ * Uses the widest vector shape the CPU supports. Compiled only by the vector profile,
+ * because jdk.incubator.vector must be added explicitly at compile time and at run time.
+ */
+final class VectorIntKernels implements IntKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public int sumArray(int[] arr) {
+        IntVector acc = IntVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(arr.length); i < bound; i += LANES) {
+            acc = acc.add(IntVector.fromArray(SPECIES, arr, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD); // int addition wraps the same in any order
+        for (; i < arr.length; i++) {
+            sum += arr[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void findMinMax(int[] arr, IntPairSink sink) {
+        IntVector min = IntVector.broadcast(SPECIES, arr[0]);
+        IntVector max = min;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(arr.length); i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, arr, i);
+            min = min.min(v);
+            max = max.max(v);
+        }
+        int lo = min.reduceLanes(VectorOperators.MIN);
+        int hi = max.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) {
+            lo = Math.min(lo, arr[i]);
+            hi = Math.max(hi, arr[i]);
+        }
+        sink.accept(lo, hi);
+    }
+
+    @Override
+    public int linearSearch(int[] arr, int target) {
+        IntVector key = IntVector.broadcast(SPECIES, target);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(arr.length); i < bound; i += LANES) {
+            VectorMask<Integer> match = IntVector.fromArray(SPECIES, arr, i).eq(key);
+            if (match.anyTrue()) return i + match.firstTrue();
+        }
+        for (; i < arr.length; i++) {
+            if (arr[i] == target) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public void rearrangePosNeg(int[] arr) {
+        int n = arr.length;
+        int bound = SPECIES.loopBound(n);
+
+        // Pass 1: count negatives, so the non-negatives know where they start
+        int negatives = 0;
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            negatives += IntVector.fromArray(SPECIES, arr, i).lt(0).trueCount();
+        }
+        for (; i < n; i++) {
+            if (arr[i] < 0) negatives++;
+        }
+
+        // Pass 2: compress every vector into the two output regions
+        int[] temp = new int[n];
+        int neg = 0, pos = negatives;
+        for (i = 0; i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, arr, i);
+            VectorMask<Integer> isNegative = v.lt(0);
+            int count = isNegative.trueCount();
+            if (count == LANES) {
+                v.intoArray(temp, neg);
+                neg += LANES;
+            } else if (count == 0) {
+                v.intoArray(temp, pos);
+                pos += LANES;
+            } else {
+                // Mixed vector: walk the set bits of the mask (no compress instruction before JDK 19)
+                long negBits = isNegative.toLong();
+                long posBits = ~negBits & ((1L << LANES) - 1);
+                for (; negBits != 0; negBits &= negBits - 1) {
+                    temp[neg++] = arr[i + Long.numberOfTrailingZeros(negBits)];
+                }
+                for (; posBits != 0; posBits &= posBits - 1) {
+                    temp[pos++] = arr[i + Long.numberOfTrailingZeros(posBits)];
+                }
+            }
+        }
+        for (; i < n; i++) {
+            if (arr[i] < 0) temp[neg++] = arr[i];
+            else temp[pos++] = arr[i];
+        }
+        System.arraycopy(temp, 0, arr, 0, n);
+    }
+
+    @Override
+    public void sort012(int[] arr) {
+        int zeros = 0, ones = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(arr.length); i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, arr, i);
+            zeros += v.eq(0).trueCount();
+            ones += v.eq(1).trueCount();
+        }
+        for (; i < arr.length; i++) {
+            if (arr[i] == 0) zeros++;
+            else if (arr[i] == 1) ones++;
+        }
+        Arrays.fill(arr, 0, zeros, 0);
+        Arrays.fill(arr, zeros, zeros + ones, 1);
+        Arrays.fill(arr, zeros + ones, arr.length, 2);
+    }
+}